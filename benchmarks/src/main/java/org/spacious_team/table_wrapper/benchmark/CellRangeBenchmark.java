@@ -0,0 +1,70 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.api.TableCellRange;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CellRangeBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int rows;
+
+    ReportPage reportPage;
+
+    @Setup
+    public void setUp() {
+        reportPage = SyntheticReport.generate(rows);
+    }
+
+    /**
+     * Range ends with row found by last row predicate
+     */
+    @Benchmark
+    public TableCellRange getCellRangeWithLastRowFinder() {
+        return reportPage.getCellRange(SyntheticReport.TABLE_NAME, SyntheticReport.TOTAL_ROW_PREFIX, 0, 1);
+    }
+
+    /**
+     * Range ends with empty row
+     */
+    @Benchmark
+    public TableCellRange getCellRangeWithoutLastRowFinder() {
+        return reportPage.getCellRange(SyntheticReport.TABLE_NAME, null, 0, 1);
+    }
+}
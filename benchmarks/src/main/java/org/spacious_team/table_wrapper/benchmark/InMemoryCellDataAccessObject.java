@@ -0,0 +1,50 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.benchmark;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.CellDataAccessObject;
+import org.spacious_team.table_wrapper.api.InstantParser;
+
+import java.time.Instant;
+
+/**
+ * Native cell object is the cell value itself.
+ */
+public class InMemoryCellDataAccessObject implements CellDataAccessObject<Object, InMemoryReportPageRow> {
+
+    public static final InMemoryCellDataAccessObject INSTANCE = new InMemoryCellDataAccessObject();
+
+    @Override
+    public @Nullable Object getCell(InMemoryReportPageRow row, Integer cellIndex) {
+        return row.getValue(cellIndex);
+    }
+
+    @Override
+    public Object getValue(Object cell) {
+        return cell;
+    }
+
+    @Override
+    public Instant getInstantValue(Object cell) {
+        return (cell instanceof Instant) ?
+                (Instant) cell :
+                InstantParser.INSTANCE.parseInstant(cell.toString());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.benchmark;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.AbstractReportPage;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Report page backed by in-memory arrays. Stands in for the excel, xml and csv implementations,
+ * so benchmarks measure API overhead only.
+ */
+public class InMemoryReportPage extends AbstractReportPage<InMemoryReportPageRow> {
+
+    private final @Nullable InMemoryReportPageRow[] rows;
+
+    /**
+     * @param rows cell values of rows, null element is an absent row, null value is an absent cell
+     */
+    public InMemoryReportPage(List<@Nullable Object @Nullable []> rows) {
+        this.rows = new InMemoryReportPageRow[rows.size()];
+        for (int i = 0; i < this.rows.length; i++) {
+            @Nullable Object @Nullable [] values = rows.get(i);
+            this.rows[i] = (values == null) ? null : new InMemoryReportPageRow(i, values);
+        }
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return find(startRow, endRow, startColumn, endColumn, cellValue -> Objects.equals(value, cellValue));
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<@Nullable Object> cellValuePredicate) {
+        int lastRow = Math.min(endRow, rows.length);
+        for (int i = Math.max(0, startRow); i < lastRow; i++) {
+            @Nullable InMemoryReportPageRow row = rows[i];
+            if (row != null) {
+                int column = row.find(startColumn, endColumn, cellValuePredicate);
+                if (column != -1) {
+                    return TableCellAddress.of(i, column);
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    @Override
+    public @Nullable InMemoryReportPageRow getRow(int i) {
+        return (i >= 0 && i < rows.length) ? rows[i] : null;
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return rows.length - 1;
+    }
+}
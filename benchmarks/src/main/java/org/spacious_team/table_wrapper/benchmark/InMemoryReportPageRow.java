@@ -0,0 +1,105 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.benchmark;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.AbstractReportPageRow;
+import org.spacious_team.table_wrapper.api.TableCell;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+public class InMemoryReportPageRow extends AbstractReportPageRow {
+
+    private final int rowNum;
+    private final @Nullable Object[] values;
+    private final int firstCellNum;
+    private final int lastCellNum;
+
+    InMemoryReportPageRow(int rowNum, @Nullable Object[] values) {
+        this.rowNum = rowNum;
+        this.values = values;
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                if (first == -1) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        this.firstCellNum = first;
+        this.lastCellNum = last;
+    }
+
+    @Nullable
+    Object getValue(int i) {
+        return (i >= 0 && i < values.length) ? values[i] : null;
+    }
+
+    int find(int startColumn, int endColumn, Predicate<@Nullable Object> cellValuePredicate) {
+        int lastColumn = Math.min(endColumn, values.length);
+        for (int i = Math.max(0, startColumn); i < lastColumn; i++) {
+            @Nullable Object value = values[i];
+            if (value != null && cellValuePredicate.test(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public @Nullable TableCell getCell(int i) {
+        @Nullable Object value = getValue(i);
+        return (value == null) ? null : new InMemoryTableCell(value, i, InMemoryCellDataAccessObject.INSTANCE);
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public int getFirstCellNum() {
+        return firstCellNum;
+    }
+
+    @Override
+    public int getLastCellNum() {
+        return lastCellNum;
+    }
+
+    @Override
+    public boolean rowContains(@Nullable Object expected) {
+        for (@Nullable Object value : values) {
+            if (Objects.equals(value, expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<@Nullable TableCell> iterator() {
+        return new ReportPageRowIterator<>(IntStream.range(0, values.length).iterator(), this::getCell);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.benchmark;
+
+import org.spacious_team.table_wrapper.api.AbstractTableCell;
+
+public class InMemoryTableCell extends AbstractTableCell<Object, InMemoryCellDataAccessObject> {
+
+    private final int columnIndex;
+
+    InMemoryTableCell(Object value, int columnIndex, InMemoryCellDataAccessObject dao) {
+        super(value, dao);
+        this.columnIndex = columnIndex;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    protected InMemoryTableCell createWithCellDataAccessObject(InMemoryCellDataAccessObject dao) {
+        return new InMemoryTableCell(getCell(), columnIndex, dao);
+    }
+}
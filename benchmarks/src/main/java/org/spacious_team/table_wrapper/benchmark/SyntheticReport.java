@@ -0,0 +1,109 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.benchmark;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.ConstantPositionTableColumn;
+import org.spacious_team.table_wrapper.api.PatternTableColumn;
+import org.spacious_team.table_wrapper.api.TableColumn;
+import org.spacious_team.table_wrapper.api.TableHeaderColumn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates broker report like page
+ * <pre>
+ * Row 0:          | Отчет брокера              |
+ * Row 1:          | Счет клиента:              | 12345/67 |
+ * Row 2:          | (absent row)               |
+ * Row 3:          | Сделки с ценными бумагами  |
+ * Row 4:          | № | Дата сделки | Тикер | Количество, шт | Цена, руб | Сумма сделки, руб |
+ * Row 5..N+4:     | data rows                  |
+ * Row N+5:        | Итого                      |
+ * Row N+6:        | (absent row)               |
+ * Row N+7:        | Период отчета:             | 01.01.2024 - 31.12.2024 |
+ * </pre>
+ */
+public final class SyntheticReport {
+
+    public static final String TABLE_NAME = "Сделки с ценными бумагами";
+    public static final String TOTAL_ROW_PREFIX = "Итого";
+    public static final String ACCOUNT_KEY = "Счет клиента:";
+    public static final String PERIOD_KEY = "Период отчета:";
+    private static final String[] TICKERS = {"SBER", "GAZP", "LKOH", "YNDX", "MOEX", "VTBR", "ROSN", "GMKN"};
+
+    private SyntheticReport() {
+    }
+
+    public static InMemoryReportPage generate(int dataRows) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<@Nullable Object @Nullable []> rows = new ArrayList<>(dataRows + 8);
+        rows.add(new Object[]{"Отчет брокера"});
+        rows.add(new Object[]{ACCOUNT_KEY, "12345/67"});
+        rows.add(null);
+        rows.add(new Object[]{TABLE_NAME});
+        rows.add(new Object[]{"№", "Дата сделки", "Тикер", "Количество, шт", "Цена, руб", "Сумма сделки, руб"});
+        double total = 0;
+        for (int i = 0; i < dataRows; i++) {
+            int quantity = 1 + random.nextInt(10_000);
+            long priceCents = 100 + random.nextInt(1_000_000);
+            double amount = quantity * (priceCents / 100.0);
+            total += amount;
+            rows.add(new Object[]{
+                    (long) i + 1,
+                    String.format("%02d.%02d.2024 %02d:%02d:%02d",
+                            1 + random.nextInt(28), 1 + random.nextInt(12),
+                            10 + random.nextInt(9), random.nextInt(60), random.nextInt(60)),
+                    TICKERS[random.nextInt(TICKERS.length)],
+                    quantity,
+                    String.format("%d %03d,%02d", priceCents / 100_000, (priceCents / 100) % 1000, priceCents % 100),
+                    amount});
+        }
+        rows.add(new Object[]{TOTAL_ROW_PREFIX, null, null, null, null, total});
+        rows.add(null);
+        rows.add(new Object[]{PERIOD_KEY, "01.01.2024 - 31.12.2024"});
+        return new InMemoryReportPage(rows);
+    }
+
+    public enum TradeTableHeader implements TableHeaderColumn {
+        ID(0),
+        DATE("дата"),
+        TICKER("тикер"),
+        QUANTITY("количество"),
+        PRICE("цена"),
+        AMOUNT("сумма", "сделки");
+
+        private final TableColumn column;
+
+        TradeTableHeader(int columnIndex) {
+            this.column = ConstantPositionTableColumn.of(columnIndex);
+        }
+
+        TradeTableHeader(String... words) {
+            this.column = PatternTableColumn.of(words);
+        }
+
+        @Override
+        public TableColumn getColumn() {
+            return column;
+        }
+    }
+}
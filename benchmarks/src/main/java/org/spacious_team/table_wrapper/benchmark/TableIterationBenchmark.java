@@ -0,0 +1,113 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spacious_team.table_wrapper.api.Table;
+import org.spacious_team.table_wrapper.api.TableRow;
+import org.spacious_team.table_wrapper.benchmark.SyntheticReport.TradeTableHeader;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableIterationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int rows;
+
+    Table table;
+
+    @Setup
+    public void setUp() {
+        table = new InMemoryTableFactory()
+                .create(SyntheticReport.generate(rows), SyntheticReport.TABLE_NAME, 1,
+                        SyntheticReport.TOTAL_ROW_PREFIX, TradeTableHeader.class, 1)
+                .excludeLastRow();
+    }
+
+    /**
+     * Cell value access without parsing
+     */
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+        for (TableRow row : table) {
+            blackhole.consume(row.getCellValue(TradeTableHeader.TICKER));
+        }
+    }
+
+    /**
+     * Native number and number in string access
+     */
+    @Benchmark
+    public double iteratorNumbers() {
+        double sum = 0;
+        for (TableRow row : table) {
+            sum += row.getDoubleCellValue(TradeTableHeader.AMOUNT);
+            sum += row.getLongCellValue(TradeTableHeader.QUANTITY);
+            sum += row.getDoubleCellValue(TradeTableHeader.PRICE);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Trade> getData() {
+        return table.getData("benchmark", Trade::of);
+    }
+
+    static class Trade {
+        final long id;
+        final Instant date;
+        final String ticker;
+        final int quantity;
+        final BigDecimal price;
+        final BigDecimal amount;
+
+        private Trade(TableRow row) {
+            this.id = row.getLongCellValue(TradeTableHeader.ID);
+            this.date = row.getInstantCellValue(TradeTableHeader.DATE);
+            this.ticker = row.getStringCellValue(TradeTableHeader.TICKER);
+            this.quantity = row.getIntCellValue(TradeTableHeader.QUANTITY);
+            this.price = row.getBigDecimalCellValue(TradeTableHeader.PRICE);
+            this.amount = row.getBigDecimalCellValue(TradeTableHeader.AMOUNT);
+        }
+
+        static Trade of(TableRow row) {
+            return new Trade(row);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * CSV cell value. ASCII values are zero-copy slices of the memory-mapped file, values with other chars
+ * and quoted values with escaped quotes are decoded to {@link String}.
+ */
+public final class CsvCell implements CharSequence {
+
+    private final MappedFile file;
+    private final long start;
+    private final long end;
+    private final @Nullable String decoded;
+
+    private CsvCell(MappedFile file, long start, long end, @Nullable String decoded) {
+        this.file = file;
+        this.start = start;
+        this.end = end;
+        this.decoded = decoded;
+    }
+
+    /**
+     * @param start    first byte of value, excluding opening quote
+     * @param end      exclusive, excluding closing quote
+     * @param isQuoted true if value was quoted, escaped quotes ("") are unescaped
+     */
+    static CsvCell of(MappedFile file, long start, long end, boolean isQuoted) {
+        boolean isAscii = true;
+        boolean hasQuotes = false;
+        for (long i = start; i < end; i++) {
+            byte b = file.get(i);
+            if (b < 0) {
+                isAscii = false;
+            } else if (b == '"') {
+                hasQuotes = true;
+            }
+        }
+        if (isQuoted && hasQuotes) {
+            String value = file.decode(start, end, UTF_8).replace("\"\"", "\"");
+            return new CsvCell(file, start, end, value);
+        }
+        return new CsvCell(file, start, end, isAscii ? null : file.decode(start, end, UTF_8));
+    }
+
+    @Override
+    public int length() {
+        return (decoded == null) ? (int) (end - start) : decoded.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (decoded != null) {
+            return decoded.charAt(index);
+        } else if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + (end - start));
+        }
+        return (char) file.get(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (decoded != null) {
+            return decoded.subSequence(start, end);
+        } else if (start < 0 || start > end || end > length()) {
+            throw new IndexOutOfBoundsException("Begin " + start + ", end " + end + ", length " + length());
+        }
+        return new CsvCell(file, this.start + start, this.start + end, null);
+    }
+
+    /**
+     * @return true if this value has same chars as other
+     */
+    public boolean contentEquals(CharSequence other) {
+        int length = length();
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (charAt(i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if other is {@link CsvCell} with same chars, use {@link #contentEquals(CharSequence)}
+     * to compare with other {@link CharSequence}
+     */
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return (this == other) || (other instanceof CsvCell) && contentEquals((CsvCell) other);
+    }
+
+    /**
+     * @return same hash code as {@link String#hashCode()} of {@link #toString()}
+     */
+    @Override
+    public int hashCode() {
+        if (decoded != null) {
+            return decoded.hashCode();
+        }
+        int hash = 0;
+        for (long i = start; i < end; i++) {
+            hash = 31 * hash + (file.get(i) & 0xFF);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return (decoded == null) ? file.decode(start, end, ISO_8859_1) : decoded;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.CellDataAccessObject;
+import org.spacious_team.table_wrapper.api.InstantParser;
+import org.spacious_team.table_wrapper.api.NumberCellParser;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Native cell object is {@link CsvCell}. Numbers are parsed by {@link NumberCellParser} from cell chars,
+ * which are read from the memory-mapped file bytes without copying.
+ */
+public class CsvCellDataAccessObject implements CellDataAccessObject<CsvCell, CsvReportPageRow> {
+
+    public static final CsvCellDataAccessObject INSTANCE = new CsvCellDataAccessObject();
+
+    @Override
+    public @Nullable CsvCell getCell(CsvReportPageRow row, Integer cellIndex) {
+        return row.getCsvCell(cellIndex);
+    }
+
+    @Override
+    public CsvCell getValue(CsvCell cell) {
+        return cell;
+    }
+
+    @Override
+    public long getLongValue(CsvCell cell) {
+        return NumberCellParser.parseLong(cell);
+    }
+
+    @Override
+    public double getDoubleValue(CsvCell cell) {
+        return NumberCellParser.parseDouble(cell);
+    }
+
+    @Override
+    public BigDecimal getBigDecimalValue(CsvCell cell) {
+        return NumberCellParser.parseBigDecimal(cell);
+    }
+
+    @Override
+    public OptionalLong tryGetLongValue(CsvCell cell) {
+        return NumberCellParser.tryParseLong(cell);
+    }
+
+    @Override
+    public OptionalDouble tryGetDoubleValue(CsvCell cell) {
+        return NumberCellParser.tryParseDouble(cell);
+    }
+
+    @Override
+    public @Nullable BigDecimal tryGetBigDecimalValue(CsvCell cell) {
+        return NumberCellParser.tryParseBigDecimal(cell);
+    }
+
+    @Override
+    public String getStringValue(CsvCell cell) {
+        return cell.toString();
+    }
+
+    @Override
+    public Instant getInstantValue(CsvCell cell) {
+        return InstantParser.INSTANCE.parseInstant(cell.toString());
+    }
+}
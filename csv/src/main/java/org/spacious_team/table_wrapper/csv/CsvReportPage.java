@@ -0,0 +1,181 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.AbstractReportPage;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Report page of memory-mapped UTF-8 CSV file (RFC 4180: quoted fields may contain delimiters, line separators
+ * and escaped quotes). Line offsets are indexed lazily up to the requested row, so only line offsets are stored
+ * on heap. Cell values are {@link CsvCell} char sequences over the mapped file.
+ *
+ * @apiNote The file should not be modified while the report page is used.
+ */
+public class CsvReportPage extends AbstractReportPage<CsvReportPageRow> {
+
+    private static final char DEFAULT_DELIMITER = ',';
+
+    private final MappedFile file;
+    private final byte delimiter;
+    /**
+     * Line i is in bytes [lineBounds[2 * i], lineBounds[2 * i + 1]), excluding line separator
+     */
+    private long[] lineBounds = new long[256];
+    private int lineCount = 0;
+    private long indexedPosition;
+
+    protected CsvReportPage(Path path, char delimiter) throws IOException {
+        if (delimiter == '"' || delimiter == '\r' || delimiter == '\n' || delimiter > 0x7F) {
+            throw new IllegalArgumentException("Unsupported delimiter '" + delimiter + "'");
+        }
+        this.file = MappedFile.map(path);
+        this.delimiter = (byte) delimiter;
+        this.indexedPosition = hasUtf8Bom(file) ? 3 : 0;
+    }
+
+    /**
+     * Maps comma separated values file to memory
+     */
+    public static CsvReportPage of(Path path) throws IOException {
+        return of(path, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Maps file to memory
+     *
+     * @param delimiter ASCII fields delimiter
+     */
+    public static CsvReportPage of(Path path, char delimiter) throws IOException {
+        return new CsvReportPage(path, delimiter);
+    }
+
+    private static boolean hasUtf8Bom(MappedFile file) {
+        return file.size() >= 3
+                && file.get(0) == (byte) 0xEF
+                && file.get(1) == (byte) 0xBB
+                && file.get(2) == (byte) 0xBF;
+    }
+
+    /**
+     * Exact value is compared with cell chars by {@link Object#toString()}
+     */
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return find(startRow, endRow, startColumn, endColumn, CsvReportPageRow.cellValuePredicate(value));
+    }
+
+    /**
+     * Predicate tests {@link CsvCell} values of not empty cells. Lines are indexed lazily up to the found row,
+     * empty lines are skipped without parsing.
+     */
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<@Nullable Object> cellValuePredicate) {
+        for (int i = Math.max(0, startRow); i < endRow; i++) {
+            long lineStart;
+            long lineEnd;
+            synchronized (this) {
+                if (!indexLines(i)) {
+                    break;
+                }
+                lineStart = lineBounds[2 * i];
+                lineEnd = lineBounds[2 * i + 1];
+            }
+            if (lineStart < lineEnd) {
+                CsvReportPageRow row = new CsvReportPageRow(file, i, lineStart, lineEnd, delimiter);
+                int column = row.find(startColumn, endColumn, cellValuePredicate);
+                if (column != -1) {
+                    return TableCellAddress.of(i, column);
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    @Override
+    public @Nullable CsvReportPageRow getRow(int i) {
+        if (i < 0) {
+            return null;
+        }
+        long lineStart;
+        long lineEnd;
+        synchronized (this) {
+            if (!indexLines(i)) {
+                return null;
+            }
+            lineStart = lineBounds[2 * i];
+            lineEnd = lineBounds[2 * i + 1];
+        }
+        return new CsvReportPageRow(file, i, lineStart, lineEnd, delimiter);
+    }
+
+    @Override
+    public int getLastRowNum() {
+        synchronized (this) {
+            indexLines(Integer.MAX_VALUE);
+            return lineCount - 1;
+        }
+    }
+
+    /**
+     * Indexes line offsets up to the line
+     *
+     * @return true if line exists
+     */
+    private boolean indexLines(int line) {
+        long size = file.size();
+        while (lineCount <= line && indexedPosition < size) {
+            long lineStart = indexedPosition;
+            long position = lineStart;
+            boolean isQuoted = false;
+            while (position < size) {
+                byte b = file.get(position);
+                if (b == '"') {
+                    isQuoted = !isQuoted;  // escaped quote toggles twice
+                } else if (b == '\n' && !isQuoted) {
+                    break;
+                }
+                position++;
+            }
+            indexedPosition = Math.min(position + 1, size);
+            long lineEnd = (position > lineStart && file.get(position - 1) == '\r') ? position - 1 : position;
+            if (2 * lineCount + 2 > lineBounds.length) {
+                lineBounds = Arrays.copyOf(lineBounds, lineBounds.length << 1);
+            }
+            lineBounds[2 * lineCount] = lineStart;
+            lineBounds[2 * lineCount + 1] = lineEnd;
+            lineCount++;
+        }
+        return line < lineCount;
+    }
+
+    /**
+     * @return number of lines with indexed offsets
+     */
+    synchronized int getIndexedLineCount() {
+        return lineCount;
+    }
+}
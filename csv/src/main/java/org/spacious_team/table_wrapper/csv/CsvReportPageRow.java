@@ -0,0 +1,174 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.AbstractReportPageRow;
+import org.spacious_team.table_wrapper.api.TableCell;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * CSV line. Field bounds are parsed on construction, cell values are read from the memory-mapped file on demand.
+ * Empty fields are absent cells.
+ */
+public class CsvReportPageRow extends AbstractReportPageRow {
+
+    private final MappedFile file;
+    private final int rowNum;
+    /**
+     * Field i value is in bytes [bounds[2 * i], bounds[2 * i + 1]), negative start is a quoted field start
+     */
+    private final long[] bounds;
+    private final int fieldCount;
+    private final int firstCellNum;
+    private final int lastCellNum;
+
+    /**
+     * @param lineEnd exclusive, excluding line separator
+     */
+    CsvReportPageRow(MappedFile file, int rowNum, long lineStart, long lineEnd, byte delimiter) {
+        this.file = file;
+        this.rowNum = rowNum;
+        long[] bounds = new long[16];
+        int fieldCount = 0;
+        int first = -1;
+        int last = -1;
+        long position = lineStart;
+        while (true) {
+            long start = position;
+            long end;
+            boolean isQuoted = position < lineEnd && file.get(position) == '"';
+            if (isQuoted) {
+                start = ++position;
+                while (position < lineEnd) {
+                    if (file.get(position) == '"') {
+                        if (position + 1 < lineEnd && file.get(position + 1) == '"') {
+                            position += 2;  // escaped quote
+                            continue;
+                        }
+                        break;
+                    }
+                    position++;
+                }
+                end = position;
+                while (position < lineEnd && file.get(position) != delimiter) {
+                    position++;  // skip closing quote and chars after it
+                }
+            } else {
+                while (position < lineEnd && file.get(position) != delimiter) {
+                    position++;
+                }
+                end = position;
+            }
+            if (2 * fieldCount + 2 > bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length << 1);
+            }
+            bounds[2 * fieldCount] = isQuoted ? -start - 1 : start;
+            bounds[2 * fieldCount + 1] = end;
+            if (end > start) {
+                if (first == -1) {
+                    first = fieldCount;
+                }
+                last = fieldCount;
+            }
+            fieldCount++;
+            if (position >= lineEnd) {
+                break;
+            }
+            position++;  // skip delimiter
+        }
+        this.bounds = bounds;
+        this.fieldCount = fieldCount;
+        this.firstCellNum = first;
+        this.lastCellNum = last;
+    }
+
+    /**
+     * @return cell value or null if field is empty or absent
+     */
+    @Nullable
+    CsvCell getCsvCell(int i) {
+        if (i < 0 || i >= fieldCount) {
+            return null;
+        }
+        long start = bounds[2 * i];
+        boolean isQuoted = start < 0;
+        if (isQuoted) {
+            start = -start - 1;
+        }
+        long end = bounds[2 * i + 1];
+        return (end > start) ? CsvCell.of(file, start, end, isQuoted) : null;
+    }
+
+    int find(int startColumn, int endColumn, Predicate<@Nullable Object> cellValuePredicate) {
+        int lastColumn = Math.min(endColumn, fieldCount);
+        for (int i = Math.max(0, startColumn); i < lastColumn; i++) {
+            @Nullable CsvCell value = getCsvCell(i);
+            if (value != null && cellValuePredicate.test(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public @Nullable TableCell getCell(int i) {
+        @Nullable CsvCell value = getCsvCell(i);
+        return (value == null) ? null : new CsvTableCell(value, i, CsvCellDataAccessObject.INSTANCE);
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public int getFirstCellNum() {
+        return firstCellNum;
+    }
+
+    @Override
+    public int getLastCellNum() {
+        return lastCellNum;
+    }
+
+    /**
+     * @param expected searching value, compared with cell chars by {@link Object#toString()}
+     */
+    @Override
+    public boolean rowContains(@Nullable Object expected) {
+        return expected != null && find(0, fieldCount, cellValuePredicate(expected)) != -1;
+    }
+
+    /**
+     * @return predicate comparing cell chars with value {@link Object#toString()}
+     */
+    static Predicate<@Nullable Object> cellValuePredicate(Object value) {
+        CharSequence expected = (value instanceof CharSequence) ? (CharSequence) value : value.toString();
+        return cellValue -> (cellValue instanceof CsvCell) && ((CsvCell) cellValue).contentEquals(expected);
+    }
+
+    @Override
+    public Iterator<@Nullable TableCell> iterator() {
+        return new ReportPageRowIterator<>(IntStream.range(0, fieldCount).iterator(), this::getCell);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.csv;
+
+import org.spacious_team.table_wrapper.api.AbstractTableCell;
+
+public class CsvTableCell extends AbstractTableCell<CsvCell, CsvCellDataAccessObject> {
+
+    private final int columnIndex;
+
+    CsvTableCell(CsvCell value, int columnIndex, CsvCellDataAccessObject dao) {
+        super(value, dao);
+        this.columnIndex = columnIndex;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    protected CsvTableCell createWithCellDataAccessObject(CsvCellDataAccessObject dao) {
+        return new CsvTableCell(getCell(), columnIndex, dao);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spacious_team.table_wrapper.api.PatternTableColumn;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.api.ReportPageRow;
+import org.spacious_team.table_wrapper.api.Table;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.api.TableColumn;
+import org.spacious_team.table_wrapper.api.TableHeaderColumn;
+import org.spacious_team.table_wrapper.api.TableRow;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReportPageTest {
+
+    static final String CSV = "﻿Таблица товаров\r\n" +
+            "Товар,\"Цена, руб\",Количество\r\n" +
+            "Apple,50.5,10\r\n" +
+            "\"Pear \"\"Green\"\"\",-120,20\n" +
+            "\"Multi\nline\",,-3\n" +
+            "\n" +
+            "Итого,,30";
+
+    @TempDir
+    Path dir;
+
+    ReportPage of(String csv) throws IOException {
+        Path path = dir.resolve("test.csv");
+        Files.write(path, csv.getBytes(StandardCharsets.UTF_8));
+        return CsvReportPage.of(path);
+    }
+
+    @Test
+    void getRow() throws IOException {
+        ReportPage reportPage = of(CSV);
+
+        assertEquals(6, reportPage.getLastRowNum());
+        assertNull(reportPage.getRow(-1));
+        assertNull(reportPage.getRow(7));
+        assertEquals("Таблица товаров", getValue(reportPage, 0, 0));
+        assertEquals("Цена, руб", getValue(reportPage, 1, 1));
+        assertEquals("Apple", getValue(reportPage, 2, 0));
+        assertEquals("Pear \"Green\"", getValue(reportPage, 3, 0));
+        assertEquals("Multi\nline", getValue(reportPage, 4, 0));
+        assertNull(getValue(reportPage, 4, 1));
+        assertEquals("30", getValue(reportPage, 6, 2));
+
+        @Nullable ReportPageRow row = reportPage.getRow(4);
+        assertNotNull(row);
+        assertEquals(4, row.getRowNum());
+        assertEquals(0, row.getFirstCellNum());
+        assertEquals(2, row.getLastCellNum());
+        assertTrue(row.rowContains(-3));
+        assertFalse(row.rowContains("line"));
+
+        @Nullable ReportPageRow emptyRow = reportPage.getRow(5);
+        assertNotNull(emptyRow);
+        assertEquals(-1, emptyRow.getFirstCellNum());
+        assertEquals(-1, emptyRow.getLastCellNum());
+    }
+
+    @Test
+    void getRow_emptyFile() throws IOException {
+        ReportPage reportPage = of("");
+        assertEquals(-1, reportPage.getLastRowNum());
+        assertNull(reportPage.getRow(0));
+    }
+
+    @Test
+    void getRow_trailingLineSeparator() throws IOException {
+        ReportPage reportPage = of("a;b\nc;d\n");
+        assertEquals(1, reportPage.getLastRowNum());
+    }
+
+    @Test
+    void getRow_delimiter() throws IOException {
+        Path path = dir.resolve("test.csv");
+        Files.write(path, "a;b,c\n".getBytes(StandardCharsets.UTF_8));
+        ReportPage reportPage = CsvReportPage.of(path, ';');
+
+        assertEquals("b,c", getValue(reportPage, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> CsvReportPage.of(path, '"'));
+    }
+
+    @Test
+    void find() throws IOException {
+        ReportPage reportPage = of(CSV);
+
+        assertEquals(TableCellAddress.of(2, 2), reportPage.find(10));
+        assertEquals(TableCellAddress.of(3, 1), reportPage.find("-120"));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("-120", 0, 3));
+        assertEquals(TableCellAddress.of(6, 0), reportPage.findByPrefix("итог"));
+        assertEquals(TableCellAddress.of(1, 1), reportPage.findByPrefix(" цена"));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.findByPrefix("цена", 2));
+    }
+
+    @Test
+    void find_indexesLinesUpToFoundRow() throws IOException {
+        CsvReportPage reportPage = (CsvReportPage) of(CSV);
+
+        assertEquals(TableCellAddress.of(2, 0), reportPage.find("Apple"));
+        assertEquals(3, reportPage.getIndexedLineCount());
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("Apple", 3, 5));
+        assertEquals(5, reportPage.getIndexedLineCount());
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("Banana"));
+        assertEquals(7, reportPage.getIndexedLineCount());
+    }
+
+    @Test
+    void getCellValues() throws IOException {
+        ReportPage reportPage = of(CSV);
+        TableCell price = getCell(reportPage, 2, 1);
+        TableCell count = getCell(reportPage, 3, 2);
+
+        assertEquals(50.5, price.getDoubleValue());
+        assertEquals(new BigDecimal("50.5"), price.getBigDecimalValue());
+        assertEquals(20, count.getIntValue());
+        assertEquals(-3L, getCell(reportPage, 4, 2).getLongValue());
+        assertEquals(-120.0, getCell(reportPage, 3, 1).getDoubleValue());
+        assertThrows(NumberFormatException.class, () -> getCell(reportPage, 2, 0).getLongValue());
+        assertEquals("Apple", getCell(reportPage, 2, 0).getStringValue());
+    }
+
+    @Test
+    void createTable() throws IOException {
+        ReportPage reportPage = of(CSV);
+        Table table = reportPage.createTable("Таблица товаров", 1, null, ProductTableHeader.class, 1);
+
+        List<String> products = new ArrayList<>();
+        long count = 0;
+        for (TableRow row : table) {
+            products.add(row.getStringCellValue(ProductTableHeader.PRODUCT));
+            count += row.getLongCellValue(ProductTableHeader.COUNT);
+        }
+
+        assertEquals(List.of("Apple", "Pear \"Green\"", "Multi\nline"), products);
+        assertEquals(27, count);
+    }
+
+    @Test
+    void charSequence() throws IOException {
+        ReportPage reportPage = of("value\n");
+        CharSequence value = (CharSequence) getValue(reportPage, 0, 0);
+
+        assertNotNull(value);
+        assertEquals(5, value.length());
+        assertEquals('v', value.charAt(0));
+        assertEquals("alu", value.subSequence(1, 4).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> value.charAt(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> value.subSequence(3, 6));
+    }
+
+    @Test
+    void equalsAndHashCode() throws IOException {
+        ReportPage reportPage = of("Apple,\"Apple\",Pear,Груша,\"Груша\"\nApple\n");
+        Object apple = getCell(reportPage, 0, 0).getValue();
+        Object quotedApple = getCell(reportPage, 0, 1).getValue();
+        Object pear = getCell(reportPage, 0, 2).getValue();
+        Object cyrillic = getCell(reportPage, 0, 3).getValue();
+
+        assertEquals(apple, quotedApple);
+        assertEquals(apple, getCell(reportPage, 1, 0).getValue());
+        assertEquals(cyrillic, getCell(reportPage, 0, 4).getValue());
+        assertNotEquals(apple, pear);
+        assertNotEquals(apple, "Apple");
+        assertEquals("Apple".hashCode(), apple.hashCode());
+        assertEquals(apple.hashCode(), quotedApple.hashCode());
+        assertEquals("Груша".hashCode(), cyrillic.hashCode());
+    }
+
+    @Test
+    void getNextValue_skipsBlankCells() throws IOException {
+        ReportPage reportPage = of("key, ,value\n \nnext\n");
+
+        assertEquals("value", String.valueOf(reportPage.getNextColumnValue("key")));
+        assertEquals("next", String.valueOf(reportPage.getNextRowValue("key")));
+    }
+
+    private static @Nullable Object getValue(ReportPage reportPage, int row, int column) {
+        @Nullable TableCell cell = reportPage.getCell(TableCellAddress.of(row, column));
+        return (cell == null) ? null : cell.getValue().toString();
+    }
+
+    private static TableCell getCell(ReportPage reportPage, int row, int column) {
+        @Nullable TableCell cell = reportPage.getCell(TableCellAddress.of(row, column));
+        assertNotNull(cell);
+        return cell;
+    }
+
+    enum ProductTableHeader implements TableHeaderColumn {
+        PRODUCT("товар"),
+        PRICE("цена"),
+        COUNT("количество");
+
+        private final TableColumn column;
+
+        ProductTableHeader(String word) {
+            this.column = PatternTableColumn.of(word);
+        }
+
+        @Override
+        public TableColumn getColumn() {
+            return column;
+        }
+    }
+}
@@ -20,12 +20,117 @@ package org.spacious_team.table_wrapper.api;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.BitSet;
+import java.util.function.Predicate;
+
 /**
  * {@link ReportPage} with specified {@link ReportPageRow}
  */
 public abstract class AbstractReportPage<T extends ReportPageRow> implements ReportPage {
 
+    private final EmptyRows emptyRows = new EmptyRows();
+    private volatile @Nullable ReportPageSearchPlanner searchPlanner;
+
     @Override
     public abstract @Nullable T getRow(int i);
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Cells are searched by {@link #getSearchPlanner()}
+     */
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return getSearchPlanner().find(value, startRow, endRow, startColumn, endColumn);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Cells are searched by {@link #getSearchPlanner()}
+     */
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<@Nullable Object> cellValuePredicate) {
+        return getSearchPlanner().find(startRow, endRow, startColumn, endColumn, cellValuePredicate);
+    }
+
+    /**
+     * Returns search planner of this report page. Planner is built by first call, it reads all report page rows.
+     * Call {@link #clearSearchCache()} if page is modified.
+     */
+    protected ReportPageSearchPlanner getSearchPlanner() {
+        @Nullable ReportPageSearchPlanner planner = searchPlanner;
+        if (planner == null) {
+            synchronized (emptyRows) {
+                planner = searchPlanner;
+                if (planner == null) {
+                    searchPlanner = planner = ReportPageSearchPlanner.of(this);
+                }
+            }
+        }
+        return planner;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Rows tested by {@link EmptyRowPredicate#INSTANCE} are cached, so each row is tested at most once
+     * for all searches of empty rows on this report page. Call {@link #clearSearchCache()} if page is modified.
+     */
+    @Override
+    public int findRow(int startRow, int endRow, Predicate<@Nullable ReportPageRow> predicate) {
+        return (predicate == EmptyRowPredicate.INSTANCE && startRow >= 0) ?
+                emptyRows.findRow(this, startRow, Math.min(endRow, getLastRowNum() + 1)) :
+                ReportPage.super.findRow(startRow, endRow, predicate);
+    }
+
+    /**
+     * Clears cached results of empty rows search and search planner
+     */
+    protected void clearSearchCache() {
+        synchronized (emptyRows) {
+            searchPlanner = null;
+        }
+        emptyRows.clear();
+    }
+
+    /**
+     * Bitmaps of tested and empty rows, tested rows are not necessarily contiguous
+     */
+    private static final class EmptyRows {
+        private final BitSet testedRows = new BitSet();
+        private final BitSet emptyRows = new BitSet();
+
+        /**
+         * @param endRow exclusive, not greater than rows count
+         */
+        synchronized int findRow(ReportPage reportPage, int startRow, int endRow) {
+            int i = startRow;
+            while (i < endRow) {
+                int untestedRow = testedRows.nextClearBit(i);
+                int emptyRow = emptyRows.nextSetBit(i);
+                if (emptyRow != -1 && emptyRow < untestedRow) {
+                    return (emptyRow < endRow) ? emptyRow : -1;
+                }
+                i = untestedRow;
+                if (i >= endRow) {
+                    break;
+                }
+                testedRows.set(i);
+                if (EmptyRowPredicate.INSTANCE.test(reportPage.getRow(i))) {
+                    emptyRows.set(i);
+                    return i;
+                }
+                i++;
+            }
+            return -1;
+        }
+
+        synchronized void clear() {
+            testedRows.clear();
+            emptyRows.clear();
+        }
+    }
 }
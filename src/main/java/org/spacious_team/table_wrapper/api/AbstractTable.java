@@ -20,22 +20,33 @@ package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -49,6 +60,10 @@ import static java.util.Objects.requireNonNull;
 @ToString(of = {"tableName"})
 public abstract class AbstractTable<R extends ReportPageRow, C> implements Table {
 
+    private static final int DEFAULT_HEADER_DESCRIPTION_CACHE_SIZE = 256;
+    private static volatile HeaderDescriptionCache headerDescriptionCache =
+            LruHeaderDescriptionCache.of(DEFAULT_HEADER_DESCRIPTION_CACHE_SIZE);
+
     @Getter
     protected final AbstractReportPage<R> reportPage;
     protected final String tableName;
@@ -62,6 +77,14 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
      * Offset of first data row. First table row is a header.
      */
     private final int dataRowOffset;
+    /**
+     * Header description enum class
+     */
+    private final Class<?> headerColumnClass;
+    /**
+     * Cell indices of header description columns indexed by enum ordinal, -1 for not found optional columns
+     */
+    private final int[] headerLayout;
 
     /**
      * @param tableName  real or provided table name
@@ -81,6 +104,8 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
         this.headerDescription = this.empty ?
                 Collections.emptyMap() :
                 getHeaderDescription(reportPage, tableRange, headerDescription, headersRowCount);
+        this.headerColumnClass = headerDescription;
+        this.headerLayout = getHeaderLayout(this.headerDescription, headerDescription);
         this.tableRange = empty ?
                 tableRange :
                 TableCellRange.of(
@@ -102,6 +127,8 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
         this.dataRowOffset = table.dataRowOffset;
         this.empty = isEmpty(tableRange, dataRowOffset);
         this.headerDescription = table.headerDescription;
+        this.headerColumnClass = table.headerColumnClass;
+        this.headerLayout = table.headerLayout;
     }
 
     private static boolean isEmpty(TableCellRange tableRange, int dataRowOffset) {
@@ -116,7 +143,6 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
     Map<TableColumn, Integer> getHeaderDescription(AbstractReportPage<?> reportPage, TableCellRange tableRange,
                                                    Class<T> headerDescription,
                                                    int headersRowCount) {
-        Map<TableColumn, Integer> columnIndices = new HashMap<>();
         ReportPageRow[] headerRows = new ReportPageRow[headersRowCount];
         for (int i = 0; i < headersRowCount; i++) {
             @Nullable ReportPageRow row = reportPage.getRow(tableRange.getFirstRow() + i);
@@ -124,13 +150,28 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
             ReportPageRow notNullRow = requireNonNull(row, "Header row is absent");
             headerRows[i] = notNullRow;
         }
-        @SuppressWarnings("nullness")
-        TableColumn[] columns = Arrays.stream(headerDescription.getEnumConstants())
-                .map(TableHeaderColumn::getColumn)
-                .toArray(TableColumn[]::new);
-        for (TableColumn column : columns) {
+        return getHeaderDescription(headerRows, headerDescription);
+    }
+
+    static <T extends Enum<T> & TableHeaderColumn>
+    Map<TableColumn, Integer> getHeaderDescription(ReportPageRow[] headerRows, Class<T> headerDescription) {
+        return headerDescriptionCache.getHeaderDescription(headerDescription, headerRows,
+                () -> parseHeaderDescription(headerRows, headerDescription));
+    }
+
+    private static <T extends Enum<T> & TableHeaderColumn>
+    Map<TableColumn, Integer> parseHeaderDescription(ReportPageRow[] headerRows, Class<T> headerDescription) {
+        Map<TableColumn, Integer> columnIndices = new HashMap<>();
+        HeaderMatcher headerMatcher = HeaderMatcher.of(headerDescription);
+        TableColumn[] columns = headerMatcher.getColumns();
+        int[] matchedColumnIndices = headerMatcher.getColumnIndices(headerRows);
+        for (int i = 0; i < columns.length; i++) {
+            TableColumn column = columns[i];
             try {
-                int columnIndex = column.getColumnIndex(headerRows);
+                // not found column is searched again to throw column specific exception
+                int columnIndex = (matchedColumnIndices[i] == HeaderMatcher.NOT_FOUND) ?
+                        column.getColumnIndex(headerRows) :
+                        matchedColumnIndices[i];
                 columnIndices.put(column, columnIndex);
             } catch (OptionalTableColumnNotFound e) {
                 log.debug("Optional header column is not found: {}", column, e);
@@ -139,6 +180,44 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
         return unmodifiableMap(columnIndices);
     }
 
+    /**
+     * Sets cache used by all tables to skip header parsing of already seen header layouts.
+     * By default, {@link LruHeaderDescriptionCache} is used.
+     * Use {@link HeaderDescriptionCache#DISABLED} if header columns are not pure functions of header cell values.
+     */
+    public static void setHeaderDescriptionCache(HeaderDescriptionCache cache) {
+        headerDescriptionCache = requireNonNull(cache, "Header description cache is null");
+    }
+
+    public static HeaderDescriptionCache getHeaderDescriptionCache() {
+        return headerDescriptionCache;
+    }
+
+    private static <T extends Enum<T> & TableHeaderColumn>
+    int[] getHeaderLayout(Map<TableColumn, Integer> headerDescription, Class<T> headerColumnClass) {
+        HeaderMatcher headerMatcher = HeaderMatcher.of(headerColumnClass);  // enum constants are not cloned
+        int[] headerLayout = new int[headerMatcher.getColumnCount()];
+        for (int i = 0; i < headerLayout.length; i++) {
+            @Nullable Integer cellIndex = headerDescription.get(headerMatcher.getColumn(i));
+            headerLayout[i] = (cellIndex == null) ? -1 : cellIndex;
+        }
+        return headerLayout;
+    }
+
+    /**
+     * Resolves cell index of header description enum constant by one array access,
+     * cell index of other columns is looked up in header description map.
+     *
+     * @return cell index or -1 if column is not found
+     */
+    int getCellIndex(TableHeaderColumn column) {
+        if (headerColumnClass.isInstance(column)) {
+            return headerLayout[((Enum<?>) column).ordinal()];
+        }
+        @Nullable Integer cellIndex = headerDescription.get(column.getColumn());
+        return (cellIndex == null) ? -1 : cellIndex;
+    }
+
     private static IntStream getColumnIndices(Map<TableColumn, Integer> headerDescription) {
         return headerDescription.values()
                 .stream()
@@ -154,6 +233,12 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
         });
     }
 
+    @Override
+    public <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor, ErrorSink errorSink) {
+        return getDataCollection(report, (TableRow row, Collection<T> data) ->
+                addRowData(row, rowExtractor, errorSink, data));
+    }
+
     public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor) {
         return getDataCollection(report, (row, data) -> {
             @Nullable Collection<T> result = rowExtractor.apply(row);
@@ -177,20 +262,152 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
     }
 
     private <T> List<T> getDataCollection(Object report, BiConsumer<TableRow, Collection<T>> rowHandler) {
+        return collectData(this, tableName, report, rowHandler);
+    }
+
+    static <T> List<T> collectData(Iterable<@Nullable TableRow> rows, String tableName, Object report,
+                                   BiConsumer<TableRow, Collection<T>> rowHandler) {
         List<T> data = new ArrayList<>();
-        for (@Nullable TableRow row : this) {
+        forEachRow(rows, tableName, report, row -> rowHandler.accept(row, data));
+        return data;
+    }
+
+    private static void forEachRow(Iterable<@Nullable TableRow> rows, String tableName, Object report,
+                                   Consumer<TableRow> rowHandler) {
+        for (@Nullable TableRow row : rows) {
             if (row != null) {
                 try {
-                    rowHandler.accept(row, data);
+                    rowHandler.accept(row);
                 } catch (Exception e) {
-                    log.warn("Не могу распарсить таблицу '{}' в {}, строка {}",
-                            tableName, report, row.getRowNum() + 1, e);
+                    logRowParseError(tableName, report, row.getRowNum(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds row extractor result to data. Exceptions thrown by row extractor are reported to error sink.
+     */
+    static <T> void addRowData(TableRow row, Function<TableRow, @Nullable T> rowExtractor,
+                               ErrorSink errorSink, Collection<T> data) {
+        try {
+            @Nullable T result = rowExtractor.apply(row);
+            if (result != null) {
+                data.add(result);
+            }
+        } catch (Exception e) {
+            @Nullable TableHeaderColumn column = (row instanceof MutableTableRow) ?
+                    ((MutableTableRow<?, ?>) row).getLastAccessedColumn() :
+                    null;
+            errorSink.accept(row.getRowNum(), column, String.valueOf(e));
+        }
+    }
+
+    private static void logRowParseError(String tableName, Object report, int rowNum, Exception e) {
+        log.warn("Не могу распарсить таблицу '{}' в {}, строка {}", tableName, report, rowNum + 1, e);
+    }
+
+    @Override
+    public <T> List<T> getDataParallel(Object report, Function<TableRow, @Nullable T> rowExtractor, Executor executor) {
+        return getDataCollectionParallel(report, (TableRow row, Collection<T> data) -> {
+            @Nullable T result = rowExtractor.apply(row);
+            if (result != null) {
+                data.add(result);
+            }
+        }, executor);
+    }
+
+    @Override
+    public <T> List<T> getDataCollectionParallel(Object report,
+                                                 Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                                 Executor executor) {
+        return getDataCollectionParallel(report, (TableRow row, Collection<T> data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                data.addAll(result);
+            }
+        }, executor);
+    }
+
+    @Override
+    public <T> List<T> getDataCollectionParallel(Object report,
+                                                 Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                                 BiPredicate<T, T> equalityChecker,
+                                                 BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates,
+                                                 Executor executor) {
+        List<RowData<T>> rowsData = getDataCollectionParallel(report, (TableRow row, Collection<RowData<T>> data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                data.add(new RowData<>(row.getRowNum(), result));
+            }
+        }, executor);
+        List<T> data = new ArrayList<>();
+        for (RowData<T> rowData : rowsData) {
+            try {
+                for (T r : rowData.data) {
+                    addWithEqualityChecker(r, data, equalityChecker, mergeDuplicates);
                 }
+            } catch (Exception e) {
+                logRowParseError(tableName, report, rowData.rowNum, e);
             }
         }
         return data;
     }
 
+    /**
+     * Splits table data rows to chunks, handles chunks by {@code executor} and concatenates results in row order
+     */
+    private <T> List<T> getDataCollectionParallel(Object report, BiConsumer<TableRow, Collection<T>> rowHandler,
+                                                  Executor executor) {
+        int numberOfRows = getNumberOfTableRows(tableRange);
+        int numberOfDataRows = numberOfRows - dataRowOffset;
+        if (numberOfDataRows <= 0) {
+            return new ArrayList<>();
+        }
+        int chunks = Math.min(numberOfDataRows, Runtime.getRuntime().availableProcessors() * 4);
+        int chunkSize = (numberOfDataRows + chunks - 1) / chunks;
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(chunks);
+        for (int start = dataRowOffset; start < numberOfRows; start += chunkSize) {
+            TableSpliterator rows = new TableSpliterator(start, Math.min(start + chunkSize, numberOfRows));
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> collectData(() -> Spliterators.iterator(rows), tableName, report, rowHandler),
+                    executor));
+        }
+        List<T> data = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<T>> future : futures) {
+                data.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            @Nullable Throwable cause = e.getCause();
+            throw (cause instanceof RuntimeException) ? (RuntimeException) cause : e;
+        }
+        return data;
+    }
+
+    @RequiredArgsConstructor
+    private static class RowData<T> {
+        private final int rowNum;
+        private final Collection<T> data;
+    }
+
+    @Override
+    public <T, K> List<T> getDataCollectionByKey(Object report,
+                                                 Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                                 Function<T, K> keyExtractor,
+                                                 BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates) {
+        Map<K, T> data = new LinkedHashMap<>();
+        forEachRow(this, tableName, report, row -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                for (T r : result) {
+                    addWithKeyExtractor(r, data, keyExtractor, mergeDuplicates);
+                }
+            }
+        });
+        return new ArrayList<>(data.values());
+    }
+
     public static <T> void addWithEqualityChecker(T element,
                                                   Collection<T> collection,
                                                   BiPredicate<T, T> equalityChecker,
@@ -213,16 +430,146 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
         }
     }
 
+    /**
+     * Adds element to map or merges it with the element of the same key. Merged elements are moved to the map end.
+     * Merged elements are expected to have distinct keys, an element with the same key is replaced.
+     *
+     * @param map element key to element map, should keep insertion order, for example {@link LinkedHashMap}
+     */
+    public static <T, K> void addWithKeyExtractor(T element,
+                                                  Map<K, T> map,
+                                                  Function<T, K> keyExtractor,
+                                                  BiFunction<T, T, @Nullable Collection<T>> duplicatesMerger) {
+        K key = keyExtractor.apply(element);
+        @Nullable T equalsObject = map.remove(key);
+        if (equalsObject != null) {
+            @Nullable Collection<T> mergedCollection = duplicatesMerger.apply(equalsObject, element);
+            if (mergedCollection != null) {
+                for (T e : mergedCollection) {
+                    map.put(keyExtractor.apply(e), e);
+                }
+            }
+        } else {
+            map.put(key, element);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Column index is resolved once, cells are read by {@link CellDataAccessObject} without
+     * {@link TableRow} wrappers. Values are parsed by {@code tryGet*} DAO methods as {@link TableRow} does,
+     * so empty and not a number cells are marked as invalid without exception handling.
+     */
+    @Override
+    public int[] getIntColumn(TableHeaderColumn column, BitSet invalidRows) {
+        int[] values = new int[getNumberOfDataRows()];
+        CellDataAccessObject<C, R> dao = getCellDataAccessObject();
+        forEachColumnCell(column, invalidRows, (cell, i) -> {
+            OptionalInt value = dao.tryGetIntValue(cell);
+            values[i] = value.orElse(0);
+            return value.isPresent();
+        });
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Column index is resolved once, cells are read by {@link CellDataAccessObject} without
+     * {@link TableRow} wrappers. Values are parsed by {@code tryGet*} DAO methods as {@link TableRow} does,
+     * so empty and not a number cells are marked as invalid without exception handling.
+     */
+    @Override
+    public long[] getLongColumn(TableHeaderColumn column, BitSet invalidRows) {
+        long[] values = new long[getNumberOfDataRows()];
+        CellDataAccessObject<C, R> dao = getCellDataAccessObject();
+        forEachColumnCell(column, invalidRows, (cell, i) -> {
+            OptionalLong value = dao.tryGetLongValue(cell);
+            values[i] = value.orElse(0);
+            return value.isPresent();
+        });
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Column index is resolved once, cells are read by {@link CellDataAccessObject} without
+     * {@link TableRow} wrappers. Values are parsed by {@code tryGet*} DAO methods as {@link TableRow} does,
+     * so empty and not a number cells are marked as invalid without exception handling.
+     */
+    @Override
+    public double[] getDoubleColumn(TableHeaderColumn column, BitSet invalidRows) {
+        double[] values = new double[getNumberOfDataRows()];
+        CellDataAccessObject<C, R> dao = getCellDataAccessObject();
+        forEachColumnCell(column, invalidRows, (cell, i) -> {
+            OptionalDouble value = dao.tryGetDoubleValue(cell);
+            values[i] = value.orElse(0);
+            return value.isPresent();
+        });
+        return values;
+    }
+
+    /**
+     * Calls {@code cellValueReader} for each not null column cell with data row index.
+     * Marks data row as invalid if cell is null or reader returns false.
+     */
+    private void forEachColumnCell(TableHeaderColumn column, BitSet invalidRows, CellValueReader<C> cellValueReader) {
+        invalidRows.clear();
+        int numberOfDataRows = getNumberOfDataRows();
+        int cellIndex = getCellIndex(column);
+        if (cellIndex == -1) {
+            invalidRows.set(0, numberOfDataRows);
+            return;
+        }
+        CellDataAccessObject<C, R> dao = getCellDataAccessObject();
+        int firstDataRow = tableRange.getFirstRow() + dataRowOffset;
+        for (int i = 0; i < numberOfDataRows; i++) {
+            @Nullable R row = reportPage.getRow(firstDataRow + i);
+            @Nullable C cell = (row == null) ? null : dao.getCell(row, cellIndex);
+            if (cell == null || !cellValueReader.read(cell, i)) {
+                invalidRows.set(i);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface CellValueReader<C> {
+        /**
+         * @return false if cell value is absent or invalid
+         */
+        boolean read(C cell, int dataRowIndex);
+    }
+
+    private int getNumberOfDataRows() {
+        return Math.max(0, getNumberOfTableRows(tableRange) - dataRowOffset);
+    }
+
     /**
      * {@link TableRow} impl is mutable.
      * For performance issue same object with changed state is provided in each loop cycle.
      * Call {@link TableRow#clone()} if you want to use row object outside stream() block.
+     * Stream may be parallel, each parallel task is provided by its own row object.
      */
     @Override
     public Stream<@Nullable TableRow> stream() {
         return StreamSupport.stream(spliterator(), false);
     }
 
+    /**
+     * Spliterator which returns {@link MutableTableRow} or {@link EmptyTableRow} and splits table by row ranges.
+     *
+     * @implSpec This spliterator never returns null values. Null rows is wrapped by {@link EmptyTableRow}
+     * @implNote For performance issue same object with changed state is provided in each loop cycle of one split.
+     * Call {@link TableRow#clone()} if you want to use row object outside of loop cycle.
+     * For parallel processing {@link AbstractReportPage#getRow(int)} should be thread-safe.
+     */
+    @Override
+    public Spliterator<@Nullable TableRow> spliterator() {
+        return new TableSpliterator(dataRowOffset, getNumberOfTableRows(tableRange));
+    }
+
     /**
      * Iterator which returns {@link MutableTableRow} or {@link EmptyTableRow}.
      *
@@ -254,14 +601,79 @@ public abstract class AbstractTable<R extends ReportPageRow, C> implements Table
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            int rowNum = tableRange.getFirstRow() + (i++);
-            @Nullable R row = reportPage.getRow(rowNum);
-            if (row == null) {
-                return new EmptyTableRow(AbstractTable.this, rowNum);
+            return getTableRow(i++, tableRow);
+        }
+    }
+
+    protected class TableSpliterator implements Spliterator<@Nullable TableRow> {
+        /**
+         * Splits smaller than this value are not split further
+         */
+        private static final int MIN_SPLIT_SIZE = 128;
+        private final MutableTableRow<C, R> tableRow =
+                new MutableTableRow<>(AbstractTable.this, getCellDataAccessObject());
+        private int i;
+        private final int end;
+
+        /**
+         * @param start first row offset from the table first row (inclusive)
+         * @param end   last row offset from the table first row (exclusive)
+         */
+        protected TableSpliterator(int start, int end) {
+            this.i = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super @Nullable TableRow> action) {
+            if (i < end) {
+                action.accept(getTableRow(i++, tableRow));
+                return true;
             }
-            tableRow.setRow(row);
-            return tableRow;
+            return false;
         }
+
+        @Override
+        public void forEachRemaining(Consumer<? super @Nullable TableRow> action) {
+            while (i < end) {
+                action.accept(getTableRow(i++, tableRow));
+            }
+        }
+
+        @Override
+        public @Nullable Spliterator<@Nullable TableRow> trySplit() {
+            int start = i;
+            int middle = (start + end) >>> 1;
+            if (middle - start < MIN_SPLIT_SIZE) {
+                return null;
+            }
+            i = middle;
+            return new TableSpliterator(start, middle);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(0, end - i);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    /**
+     * @param offset row offset from the table first row
+     * @return table row, provided mutable row with updated state if report page row exists
+     */
+    private TableRow getTableRow(int offset, MutableTableRow<C, R> tableRow) {
+        int rowNum = tableRange.getFirstRow() + offset;
+        @Nullable R row = reportPage.getRow(rowNum);
+        if (row == null) {
+            return new EmptyTableRow(this, rowNum);
+        }
+        tableRow.setRow(row);
+        return tableRow;
     }
 
     @Override
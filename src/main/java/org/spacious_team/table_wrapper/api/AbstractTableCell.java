@@ -29,6 +29,9 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import static lombok.AccessLevel.PROTECTED;
 
@@ -86,6 +89,26 @@ public abstract class AbstractTableCell<T, D extends CellDataAccessObject<T, ?>>
         return dao.getLocalDateTimeValue(cell, zoneId);
     }
 
+    @Override
+    public OptionalInt tryGetIntValue() {
+        return dao.tryGetIntValue(cell);
+    }
+
+    @Override
+    public OptionalLong tryGetLongValue() {
+        return dao.tryGetLongValue(cell);
+    }
+
+    @Override
+    public OptionalDouble tryGetDoubleValue() {
+        return dao.tryGetDoubleValue(cell);
+    }
+
+    @Override
+    public @Nullable BigDecimal tryGetBigDecimalValue() {
+        return dao.tryGetBigDecimalValue(cell);
+    }
+
     public D getCellDataAccessObject() {
         return dao;
     }
@@ -95,7 +118,7 @@ public abstract class AbstractTableCell<T, D extends CellDataAccessObject<T, ?>>
      * is different from this class CellDataAccessObject.
      */
     public AbstractTableCell<T, D> withCellDataAccessObject(D dao) {
-        return Objects.equals(this.dao, dao) ? this : createWithCellDataAccessObject(dao);
+        return (this.dao == dao || Objects.equals(this.dao, dao)) ? this : createWithCellDataAccessObject(dao);
     }
 
     protected abstract AbstractTableCell<T, D> createWithCellDataAccessObject(D dao);
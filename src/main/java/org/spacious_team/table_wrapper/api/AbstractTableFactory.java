@@ -20,6 +20,7 @@ package org.spacious_team.table_wrapper.api;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
@@ -32,6 +33,7 @@ import lombok.ToString;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractTableFactory<T extends ReportPage> implements TableFactory {
 
+    @Getter(AccessLevel.PACKAGE)
     private final Class<T> reportPageType;
 
     @Override
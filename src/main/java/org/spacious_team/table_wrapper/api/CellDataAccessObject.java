@@ -24,7 +24,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import static java.util.Objects.requireNonNull;
 import static org.spacious_team.table_wrapper.api.CellDataAccessObjectHelper.*;
@@ -56,8 +58,7 @@ public interface CellDataAccessObject<C, R extends ReportPageRow> {
         if (value instanceof Number) {
             return ((Number) value).longValue();
         } else if (value != null) {
-            String str = spacePattern.matcher(value.toString()).replaceAll("");
-            return Long.parseLong(str);
+            return NumberCellParser.parseLong(value.toString());
         } else {
             throw new NullPointerException(NO_CELL_VALUE_EXCEPTION_MESSAGE);
         }
@@ -71,15 +72,7 @@ public interface CellDataAccessObject<C, R extends ReportPageRow> {
         if (value instanceof Number) {
             return ((Number) value).doubleValue();
         } else if (value != null) {
-            String str = spacePattern.matcher(value.toString()).replaceAll("");
-            try {
-                return Double.parseDouble(str);
-            } catch (NumberFormatException e) {
-                if (str.indexOf(',') != -1) {
-                    return Double.parseDouble(str.replace(',', '.'));
-                }
-                throw e;
-            }
+            return NumberCellParser.parseDouble(value.toString());
         } else {
             throw new NullPointerException(NO_CELL_VALUE_EXCEPTION_MESSAGE);
         }
@@ -92,10 +85,63 @@ public interface CellDataAccessObject<C, R extends ReportPageRow> {
      */
     default BigDecimal getBigDecimalValue(C cell) {
         String number = getStringValue(cell);
-        number = spacePattern.matcher(number).replaceAll("");
-        number = number.replace(',', '.');
-        return (Objects.equals(number, "0") || Objects.equals(number, "0.0") || Objects.equals(number, "0.00")) ?
-                BigDecimal.ZERO : new BigDecimal(number);
+        return NumberCellParser.parseBigDecimal(number);
+    }
+
+    /**
+     * Returns value without throwing exception for not a number values.
+     * Impl overriding {@link #getLongValue(Object)} should override this method too.
+     *
+     * @return int value or empty if value is absent or not a number
+     */
+    default OptionalInt tryGetIntValue(C cell) {
+        OptionalLong value = tryGetLongValue(cell);
+        return value.isPresent() ? OptionalInt.of((int) value.getAsLong()) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns value without throwing exception for not a number values.
+     * Impl overriding {@link #getLongValue(Object)} should override this method too.
+     *
+     * @return long value or empty if value is absent or not a number
+     */
+    default OptionalLong tryGetLongValue(C cell) {
+        @Nullable Object value = getValue(cell);
+        if (value instanceof Number) {
+            return OptionalLong.of(((Number) value).longValue());
+        } else if (value != null) {
+            return NumberCellParser.tryParseLong(toCharSequence(value));
+        } else {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Returns value without throwing exception for not a number values.
+     * Impl overriding {@link #getDoubleValue(Object)} should override this method too.
+     *
+     * @return double value or empty if value is absent or not a number
+     */
+    default OptionalDouble tryGetDoubleValue(C cell) {
+        @Nullable Object value = getValue(cell);
+        if (value instanceof Number) {
+            return OptionalDouble.of(((Number) value).doubleValue());
+        } else if (value != null) {
+            return NumberCellParser.tryParseDouble(toCharSequence(value));
+        } else {
+            return OptionalDouble.empty();
+        }
+    }
+
+    /**
+     * Returns value without throwing exception for not a number values.
+     * Impl overriding {@link #getBigDecimalValue(Object)} should override this method too.
+     *
+     * @return BigDecimal value or null if value is absent or not a number
+     */
+    default @Nullable BigDecimal tryGetBigDecimalValue(C cell) {
+        @Nullable Object value = getValue(cell);
+        return (value == null) ? null : NumberCellParser.tryParseBigDecimal(toCharSequence(value));
     }
 
     /**
@@ -114,12 +160,20 @@ public interface CellDataAccessObject<C, R extends ReportPageRow> {
     Instant getInstantValue(C cell);
 
     /**
-     * Returns local date time at system default time zone.
+     * Returns time zone of date time values without zone and of local date time values.
+     * Impl with configured time zone should override this method.
+     */
+    default ZoneId getDefaultZoneId() {
+        return defaultZoneId;
+    }
+
+    /**
+     * Returns local date time at {@link #getDefaultZoneId()} time zone.
      *
      * @throws RuntimeException if method can't extract local date time value
      */
     default LocalDateTime getLocalDateTimeValue(C cell) {
-        return getLocalDateTimeValue(cell, defaultZoneId);
+        return getLocalDateTimeValue(cell, getDefaultZoneId());
     }
 
     /**
@@ -172,6 +226,38 @@ public interface CellDataAccessObject<C, R extends ReportPageRow> {
         return getBigDecimalValue(cell);
     }
 
+    /**
+     * @return int value or empty if cell is not found, value is absent or not a number
+     */
+    default OptionalInt tryGetIntValue(R row, Integer cellIndex) {
+        @Nullable C cell = getCell(row, cellIndex);
+        return (cell == null) ? OptionalInt.empty() : tryGetIntValue(cell);
+    }
+
+    /**
+     * @return long value or empty if cell is not found, value is absent or not a number
+     */
+    default OptionalLong tryGetLongValue(R row, Integer cellIndex) {
+        @Nullable C cell = getCell(row, cellIndex);
+        return (cell == null) ? OptionalLong.empty() : tryGetLongValue(cell);
+    }
+
+    /**
+     * @return double value or empty if cell is not found, value is absent or not a number
+     */
+    default OptionalDouble tryGetDoubleValue(R row, Integer cellIndex) {
+        @Nullable C cell = getCell(row, cellIndex);
+        return (cell == null) ? OptionalDouble.empty() : tryGetDoubleValue(cell);
+    }
+
+    /**
+     * @return BigDecimal value or null if cell is not found, value is absent or not a number
+     */
+    default @Nullable BigDecimal tryGetBigDecimalValue(R row, Integer cellIndex) {
+        @Nullable C cell = getCell(row, cellIndex);
+        return (cell == null) ? null : tryGetBigDecimalValue(cell);
+    }
+
     /**
      * @throws RuntimeException if method can't extract string value
      */
@@ -21,7 +21,6 @@ package org.spacious_team.table_wrapper.api;
 import lombok.NoArgsConstructor;
 
 import java.time.ZoneId;
-import java.util.regex.Pattern;
 
 import static lombok.AccessLevel.PRIVATE;
 
@@ -29,6 +28,9 @@ import static lombok.AccessLevel.PRIVATE;
 final class CellDataAccessObjectHelper {
 
     static final ZoneId defaultZoneId = ZoneId.systemDefault();
-    static final Pattern spacePattern = Pattern.compile("\\s");
     static final String NO_CELL_VALUE_EXCEPTION_MESSAGE = "Cell doesn't contains value";
+
+    static CharSequence toCharSequence(Object value) {
+        return (value instanceof CharSequence) ? (CharSequence) value : value.toString();
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Char trie node. Children keys are stored in sorted array, child is found by binary search.
+ * Children arrays grow while trie is built, call {@link #trimToSize()} when trie is built.
+ *
+ * @param <N> node type
+ */
+abstract class CharTrieNode<N extends CharTrieNode<N>> {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Object[] NO_CHILDREN = new Object[0];
+
+    private char[] keys = NO_KEYS;
+    private @Nullable Object[] children = NO_CHILDREN;
+    private int size = 0;
+
+    protected abstract N createChild();
+
+    final @Nullable N get(char key) {
+        int i = Arrays.binarySearch(keys, 0, size, key);
+        return (i >= 0) ? getChild(i) : null;
+    }
+
+    final N getOrCreate(char key) {
+        int i = Arrays.binarySearch(keys, 0, size, key);
+        if (i >= 0) {
+            return getChild(i);
+        }
+        i = -i - 1;
+        if (size == keys.length) {
+            int capacity = Math.max(2, size << 1);
+            keys = Arrays.copyOf(keys, capacity);
+            children = Arrays.copyOf(children, capacity);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(children, i, children, i + 1, size - i);
+        N child = createChild();
+        keys[i] = key;
+        children[i] = child;
+        size++;
+        return child;
+    }
+
+    final int size() {
+        return size;
+    }
+
+    /**
+     * @return key of child with index in keys order
+     */
+    final char getKey(int i) {
+        return keys[i];
+    }
+
+    /**
+     * @return child with index in keys order
+     */
+    final N getChild(int i) {
+        @SuppressWarnings({"unchecked", "nullness"})
+        N child = (N) children[i];
+        return child;
+    }
+
+    /**
+     * Trims children arrays of this node and all its descendants
+     */
+    final void trimToSize() {
+        if (size < keys.length) {
+            keys = Arrays.copyOf(keys, size);
+            children = Arrays.copyOf(children, size);
+        }
+        for (int i = 0; i < size; i++) {
+            getChild(i).trimToSize();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Reads column values of table rows. Column type is inferred by sampling table rows,
+ * values are read by {@link TableRow} typed getters.
+ *
+ * @see Table#getColumnReaders(Class, int)
+ */
+public interface ColumnReader {
+
+    ColumnType getType();
+
+    /**
+     * @throws RuntimeException if method can't extract long value
+     */
+    long getLongValue(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract double value
+     */
+    double getDoubleValue(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract BigDecimal value
+     */
+    BigDecimal getBigDecimalValue(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract instant value
+     */
+    Instant getInstantValue(TableRow row);
+}
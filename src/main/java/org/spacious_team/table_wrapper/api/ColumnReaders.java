@@ -0,0 +1,267 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.spacious_team.table_wrapper.api.ColumnType.*;
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.getIndexOfNonWhitespace;
+
+/**
+ * Infers column types by sampling table rows and creates column readers of inferred types.
+ * Readers convert values of inferred type directly, other values are converted by {@link TableRow} typed getters,
+ * so table {@link CellDataAccessObject} settings (for example date time zone) and overridden methods are applied.
+ * <p>
+ * Sampling iterates the table, so a {@link StreamingTable} can't be sampled.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class ColumnReaders {
+
+    static <T extends Enum<T> & TableHeaderColumn>
+    Map<T, ColumnReader> getColumnReaders(Table table, Class<T> headerDescription, int sampleSize) {
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("Negative sample size: " + sampleSize);
+        }
+        @SuppressWarnings("nullness")
+        T[] columns = headerDescription.getEnumConstants();
+        ColumnSample[] samples = new ColumnSample[columns.length];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = new ColumnSample();
+        }
+        ZoneId zoneId = CellDataAccessObjectHelper.defaultZoneId;
+        int sampledRows = 0;
+        for (@Nullable TableRow row : table) {
+            if (sampledRows++ >= sampleSize) {
+                break;
+            }
+            if (row != null) {
+                if (sampledRows == 1 && row instanceof MutableTableRow) {
+                    zoneId = ((MutableTableRow<?, ?>) row).getDao().getDefaultZoneId();
+                }
+                for (T column : columns) {
+                    samples[column.ordinal()].add(getCellValue(row, column));
+                }
+            }
+        }
+        Map<T, ColumnReader> readers = new EnumMap<>(headerDescription);
+        for (T column : columns) {
+            readers.put(column, samples[column.ordinal()].createReader(column, zoneId));
+        }
+        return readers;
+    }
+
+    private static @Nullable Object getCellValue(TableRow row, TableHeaderColumn column) {
+        @Nullable TableCell cell = row.getCellOrNull(column);
+        return (cell == null) ? null : cell.getValue();
+    }
+
+    /**
+     * Merges types of sampled column values
+     */
+    private static final class ColumnSample {
+        private ColumnType type = EMPTY;
+        private @Nullable DateTimeFormatter dateTimeFormatter;
+
+        void add(@Nullable Object value) {
+            if (type == OTHER || value == null) {
+                return;
+            }
+            @Nullable DateTimeFormatter formatter = null;
+            ColumnType valueType;
+            if (value instanceof Number) {
+                valueType = NUMBER;
+            } else if (value instanceof CharSequence) {
+                CharSequence cs = (CharSequence) value;
+                if (getIndexOfNonWhitespace(cs) == -1) {
+                    return;
+                } else if (NumberCellParser.tryParseDouble(cs).isPresent()) {
+                    valueType = NUMERIC_STRING;
+                } else if ((formatter = DateTimeFormatParser.findDateTimeFormatter(cs.toString())) != null) {
+                    valueType = DATE_TIME_STRING;
+                } else {
+                    valueType = STRING;
+                }
+            } else {
+                valueType = OTHER;
+            }
+            if (type == EMPTY) {
+                type = valueType;
+                dateTimeFormatter = formatter;
+            } else if (type != valueType || dateTimeFormatter != formatter) {
+                type = (isString(type) && isString(valueType)) ? STRING : OTHER;
+                dateTimeFormatter = null;
+            }
+        }
+
+        private static boolean isString(ColumnType type) {
+            return type == NUMERIC_STRING || type == DATE_TIME_STRING || type == STRING;
+        }
+
+        ColumnReader createReader(TableHeaderColumn column, ZoneId zoneId) {
+            switch (type) {
+                case NUMBER:
+                    return new NumberColumnReader(column);
+                case NUMERIC_STRING:
+                    return new NumericStringColumnReader(column);
+                case DATE_TIME_STRING:
+                    return (dateTimeFormatter == null) ?
+                            new TypedColumnReader(column, type) :
+                            new DateTimeStringColumnReader(column, createInstantParser(dateTimeFormatter, zoneId));
+                default:
+                    return new TypedColumnReader(column, type);
+            }
+        }
+
+        private static InstantParser createInstantParser(DateTimeFormatter dateTimeFormatter, ZoneId zoneId) {
+            return InstantParser.builder()
+                    .dateTimeFormatter(dateTimeFormatter)
+                    .defaultZoneId(zoneId)
+                    .build();
+        }
+    }
+
+    /**
+     * Reads all values by {@link TableRow} typed getters
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    private static class TypedColumnReader implements ColumnReader {
+        private final TableHeaderColumn column;
+        private final ColumnType type;
+
+        @Override
+        public long getLongValue(TableRow row) {
+            return row.getLongCellValue(column);
+        }
+
+        @Override
+        public double getDoubleValue(TableRow row) {
+            return row.getDoubleCellValue(column);
+        }
+
+        @Override
+        public BigDecimal getBigDecimalValue(TableRow row) {
+            return row.getBigDecimalCellValue(column);
+        }
+
+        @Override
+        public Instant getInstantValue(TableRow row) {
+            return row.getInstantCellValue(column);
+        }
+    }
+
+    /**
+     * Reads {@link Number} cell values without conversion, other values are read by {@link TableRow} typed getters
+     */
+    @ToString(callSuper = true)
+    private static final class NumberColumnReader extends TypedColumnReader {
+
+        NumberColumnReader(TableHeaderColumn column) {
+            super(column, NUMBER);
+        }
+
+        @Override
+        public long getLongValue(TableRow row) {
+            @Nullable Object value = row.getCellValue(getColumn());
+            return (value instanceof Number) ? ((Number) value).longValue() : super.getLongValue(row);
+        }
+
+        @Override
+        public double getDoubleValue(TableRow row) {
+            @Nullable Object value = row.getCellValue(getColumn());
+            return (value instanceof Number) ? ((Number) value).doubleValue() : super.getDoubleValue(row);
+        }
+
+        @Override
+        public BigDecimal getBigDecimalValue(TableRow row) {
+            @Nullable Object value = row.getCellValue(getColumn());
+            return (value instanceof BigDecimal) ? (BigDecimal) value : super.getBigDecimalValue(row);
+        }
+    }
+
+    /**
+     * Parses {@link CharSequence} cell values by {@link NumberCellParser}, other values are read by
+     * {@link TableRow} typed getters
+     */
+    @ToString(callSuper = true)
+    private static final class NumericStringColumnReader extends TypedColumnReader {
+
+        NumericStringColumnReader(TableHeaderColumn column) {
+            super(column, NUMERIC_STRING);
+        }
+
+        @Override
+        public long getLongValue(TableRow row) {
+            @Nullable Object value = row.getCellValue(getColumn());
+            return (value instanceof CharSequence) ?
+                    NumberCellParser.parseLong((CharSequence) value) :
+                    super.getLongValue(row);
+        }
+
+        @Override
+        public double getDoubleValue(TableRow row) {
+            @Nullable Object value = row.getCellValue(getColumn());
+            return (value instanceof CharSequence) ?
+                    NumberCellParser.parseDouble((CharSequence) value) :
+                    super.getDoubleValue(row);
+        }
+
+        @Override
+        public BigDecimal getBigDecimalValue(TableRow row) {
+            @Nullable Object value = row.getCellValue(getColumn());
+            return (value instanceof CharSequence) ?
+                    NumberCellParser.parseBigDecimal((CharSequence) value) :
+                    super.getBigDecimalValue(row);
+        }
+    }
+
+    /**
+     * Parses {@link CharSequence} cell values by sampled date time format and table
+     * {@link CellDataAccessObject#getDefaultZoneId() zone}, other values are read by {@link TableRow} typed getters
+     */
+    @ToString(callSuper = true)
+    private static final class DateTimeStringColumnReader extends TypedColumnReader {
+        private final InstantParser instantParser;
+
+        DateTimeStringColumnReader(TableHeaderColumn column, InstantParser instantParser) {
+            super(column, DATE_TIME_STRING);
+            this.instantParser = instantParser;
+        }
+
+        @Override
+        public Instant getInstantValue(TableRow row) {
+            @Nullable Object value = row.getCellValue(getColumn());
+            return (value instanceof CharSequence) ?
+                    instantParser.parseInstant(value.toString()) :
+                    super.getInstantValue(row);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+/**
+ * Physical type of table column values inferred by sampling table rows.
+ *
+ * @see Table#getColumnReaders(Class, int)
+ */
+public enum ColumnType {
+    /**
+     * Sampled cells are absent, null or blank
+     */
+    EMPTY,
+    /**
+     * Sampled values are native {@link Number} values
+     */
+    NUMBER,
+    /**
+     * Sampled values are strings parsable by {@link NumberCellParser}, for example with comma decimal separator
+     */
+    NUMERIC_STRING,
+    /**
+     * Sampled values are date time strings of the same format derived by {@link InstantParser}
+     */
+    DATE_TIME_STRING,
+    /**
+     * Sampled values are other strings
+     */
+    STRING,
+    /**
+     * Sampled values are of other or mixed types
+     */
+    OTHER
+}
@@ -0,0 +1,946 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Collections.emptyIterator;
+
+/**
+ * In-memory snapshot of {@link Table} header description columns. Column values are stored in typed column vectors:
+ * primitive arrays for numbers, dictionary encoded strings, epoch millis for date times and objects for other values.
+ * Snapshot holds no references to source report page, so it can be cached and iterated many times.
+ * <p>
+ * Differences from source table:
+ * <ul>
+ *     <li>only header description columns are available, other cells are absent;</li>
+ *     <li>integral number values are returned as {@link Long}, floating point values as {@link Double},
+ *     {@link CharSequence} values as {@link String}, so find methods compare integral or floating point numbers
+ *     by value regardless of boxed type;</li>
+ *     <li>{@link Instant}, {@link Date}, {@link LocalDateTime}, {@link ZonedDateTime} and {@link OffsetDateTime} values
+ *     are converted to {@link Instant} by source table cell data access object;</li>
+ *     <li>typed getters convert native values by {@link CellDataAccessObject} default methods,
+ *     strings are parsed to instant by {@link InstantParser#INSTANCE};</li>
+ *     <li>{@link #getReportPage()} returns snapshot rows view, rows not captured by snapshot are absent;</li>
+ *     <li>{@link #subTable(int, int)} can't include rows not captured by snapshot.</li>
+ * </ul>
+ */
+@ToString(of = {"tableName"})
+public final class ColumnarTable implements Table {
+
+    private final String tableName;
+    @Getter
+    private final Map<TableColumn, Integer> headerDescription;
+    /**
+     * Report page row numbers of snapshot rows
+     */
+    private final int[] rowNums;
+    /**
+     * Snapshot rows which are absent in source report page
+     */
+    private final BitSet absentRows;
+    /**
+     * Column vectors indexed by cell index, null if cell index is not a header description column
+     */
+    private final @Nullable ColumnVector[] columns;
+    /**
+     * First snapshot row of this table (inclusive)
+     */
+    private final int from;
+    /**
+     * Last snapshot row of this table (exclusive)
+     */
+    private final int to;
+    private final ColumnarReportPage reportPage = new ColumnarReportPage();
+
+    private ColumnarTable(String tableName, Map<TableColumn, Integer> headerDescription, int[] rowNums,
+                          BitSet absentRows, @Nullable ColumnVector[] columns, int from, int to) {
+        this.tableName = tableName;
+        this.headerDescription = headerDescription;
+        this.rowNums = rowNums;
+        this.absentRows = absentRows;
+        this.columns = columns;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Iterates source table and copies header description column values.
+     */
+    public static ColumnarTable of(Table table) {
+        Map<TableColumn, Integer> headerDescription = table.getHeaderDescription();
+        int[] cellIndices = headerDescription.values()
+                .stream()
+                .mapToInt(i -> i)
+                .distinct()
+                .toArray();
+        int numberOfCells = Arrays.stream(cellIndices).max().orElse(-1) + 1;
+        ColumnVectorBuilder[] builders = new ColumnVectorBuilder[cellIndices.length];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = new ColumnVectorBuilder();
+        }
+        int[] rowNums = new int[16];
+        BitSet absentRows = new BitSet();
+        int size = 0;
+        for (@Nullable TableRow row : table) {
+            if (size == rowNums.length) {
+                rowNums = Arrays.copyOf(rowNums, size << 1);
+            }
+            rowNums[size] = (row == null) ? ((size == 0) ? -1 : rowNums[size - 1] + 1) : row.getRowNum();
+            if (row == null || row instanceof EmptyTableRow) {
+                absentRows.set(size);
+            }
+            for (int i = 0; i < cellIndices.length; i++) {
+                builders[i].add((row == null) ? null : row.getCell(cellIndices[i]));
+            }
+            size++;
+        }
+        @Nullable ColumnVector[] columns = new ColumnVector[numberOfCells];
+        for (int i = 0; i < cellIndices.length; i++) {
+            columns[cellIndices[i]] = builders[i].build();
+        }
+        return new ColumnarTable(getTableName(table), headerDescription, Arrays.copyOf(rowNums, size),
+                absentRows, columns, 0, size);
+    }
+
+    private static String getTableName(Table table) {
+        if (table instanceof AbstractTable) {
+            return ((AbstractTable<?, ?>) table).tableName;
+        } else if (table instanceof StreamingTable) {
+            return ((StreamingTable<?, ?>) table).getTableName();
+        } else if (table instanceof ColumnarTable) {
+            return ((ColumnarTable) table).tableName;
+        }
+        return TableFactoryHelper.TABLE_NAME_NOT_FOUND;
+    }
+
+    @Override
+    public ColumnarTable toColumnar() {
+        return this;
+    }
+
+    /**
+     * @return view of all snapshot rows, including rows excluded by {@link #subTable(int, int)}
+     */
+    @Override
+    public ReportPage getReportPage() {
+        return reportPage;
+    }
+
+    @Override
+    public <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor) {
+        return AbstractTable.collectData(this, tableName, report, (TableRow row, Collection<T> data) -> {
+            @Nullable T result = rowExtractor.apply(row);
+            if (result != null) {
+                data.add(result);
+            }
+        });
+    }
+
+    @Override
+    public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor) {
+        return AbstractTable.collectData(this, tableName, report, (TableRow row, Collection<T> data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                data.addAll(result);
+            }
+        });
+    }
+
+    @Override
+    public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                         BiPredicate<T, T> equalityChecker,
+                                         BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates) {
+        return AbstractTable.collectData(this, tableName, report, (TableRow row, Collection<T> data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                for (T r : result) {
+                    AbstractTable.addWithEqualityChecker(r, data, equalityChecker, mergeDuplicates);
+                }
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Values are copied from column vector without boxing
+     */
+    @Override
+    public int[] getIntColumn(TableHeaderColumn column, BitSet invalidRows) {
+        invalidRows.clear();
+        @Nullable ColumnVector vector = getColumnVector(column);
+        if (vector == null) {
+            invalidRows.set(0, to - from);
+            return new int[to - from];
+        }
+        return vector.getIntValues(from, to, invalidRows);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Values are copied from column vector without boxing
+     */
+    @Override
+    public long[] getLongColumn(TableHeaderColumn column, BitSet invalidRows) {
+        invalidRows.clear();
+        @Nullable ColumnVector vector = getColumnVector(column);
+        if (vector == null) {
+            invalidRows.set(0, to - from);
+            return new long[to - from];
+        }
+        return vector.getLongValues(from, to, invalidRows);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Values are copied from column vector without boxing
+     */
+    @Override
+    public double[] getDoubleColumn(TableHeaderColumn column, BitSet invalidRows) {
+        invalidRows.clear();
+        @Nullable ColumnVector vector = getColumnVector(column);
+        if (vector == null) {
+            invalidRows.set(0, to - from);
+            return new double[to - from];
+        }
+        return vector.getDoubleValues(from, to, invalidRows);
+    }
+
+    private @Nullable ColumnVector getColumnVector(TableHeaderColumn column) {
+        @Nullable Integer cellIndex = headerDescription.get(column.getColumn());
+        return (cellIndex == null) ? null : columns[cellIndex];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return from >= to;
+    }
+
+    /**
+     * {@link TableRow} impl is mutable.
+     * For performance issue same object with changed state is provided in each loop cycle.
+     * Call {@link TableRow#clone()} if you want to use row object outside stream() block.
+     */
+    @Override
+    public Stream<@Nullable TableRow> stream() {
+        Spliterator<@Nullable TableRow> spliterator = Spliterators.spliterator(iterator(), to - from,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Iterator which returns {@link MutableTableRow} or {@link EmptyTableRow}.
+     *
+     * @implNote For performance issue same object with changed state is provided in each loop cycle.
+     * Call {@link TableRow#clone()} if you want to use row object outside iterator() block.
+     */
+    @Override
+    public Iterator<TableRow> iterator() {
+        return new Iterator<>() {
+            private final ColumnarTableRow tableRow = new ColumnarTableRow();
+            private int i = from;
+
+            @Override
+            public boolean hasNext() {
+                return i < to;
+            }
+
+            @Override
+            public TableRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int index = i++;
+                if (absentRows.get(index)) {
+                    return new EmptyTableRow(ColumnarTable.this, rowNums[index]);
+                }
+                tableRow.moveTo(index);
+                return tableRow;
+            }
+        };
+    }
+
+    /**
+     * @param i report page row number
+     * @return row or null if row is not captured by snapshot or is absent
+     */
+    @Override
+    public @Nullable TableRow getRow(int i) {
+        int index = Arrays.binarySearch(rowNums, from, to, i);
+        return (index < 0) ? null : getTableRow(index);
+    }
+
+    @Override
+    public @Nullable TableRow findRow(Object value) {
+        return findRow(equalsPredicate(value));
+    }
+
+    @Override
+    public @Nullable TableRow findRowByPrefix(String prefix) {
+        return findRow(StringPrefixPredicate.ignoreCaseStringPrefixPredicateOnObject(prefix));
+    }
+
+    private @Nullable TableRow findRow(Predicate<@Nullable Object> predicate) {
+        ColumnarRow row = new ColumnarRow(from);
+        for (int i = from; i < to; i++) {
+            row.index = i;
+            if (!absentRows.get(i) && row.rowContains(predicate)) {
+                return getTableRow(i);
+            }
+        }
+        return null;
+    }
+
+    private @Nullable TableRow getTableRow(int index) {
+        if (absentRows.get(index)) {
+            return null;
+        }
+        MutableTableRow<Object, ColumnarRow> tableRow =
+                new MutableTableRow<>(this, ColumnarCellDataAccessObject.INSTANCE);
+        tableRow.setRow(new ColumnarRow(index));
+        return tableRow;
+    }
+
+    /**
+     * Returns predicate comparing numbers by value, because snapshot stores integral numbers as {@link Long}
+     * and floating point numbers as {@link Double}
+     */
+    private static Predicate<@Nullable Object> equalsPredicate(@Nullable Object expected) {
+        if (expected instanceof Number) {
+            Number number = (Number) expected;
+            ColumnKind kind = ColumnKind.of(number);
+            if (kind == ColumnKind.LONG) {
+                long expectedValue = number.longValue();
+                return value -> value != null && ColumnKind.of(value) == ColumnKind.LONG &&
+                        ((Number) value).longValue() == expectedValue;
+            } else if (kind == ColumnKind.DOUBLE) {
+                double expectedValue = number.doubleValue();
+                return value -> value != null && ColumnKind.of(value) == ColumnKind.DOUBLE &&
+                        Double.compare(((Number) value).doubleValue(), expectedValue) == 0;
+            }
+        }
+        return value -> Objects.equals(value, expected);
+    }
+
+    /**
+     * @param topRows    positive value for inclusion of snapshot rows excluded before, negative for exclusion
+     * @param bottomRows positive value for inclusion of snapshot rows excluded before, negative for exclusion
+     */
+    @Override
+    public ColumnarTable subTable(int topRows, int bottomRows) {
+        int newFrom = Math.max(0, Math.min(rowNums.length, from - topRows));
+        int newTo = Math.max(newFrom, Math.min(rowNums.length, to + bottomRows));
+        return new ColumnarTable(tableName, headerDescription, rowNums, absentRows, columns, newFrom, newTo);
+    }
+
+    /**
+     * Iterator row, which moves single {@link ColumnarRow} cursor. Clone holds its own row.
+     */
+    private final class ColumnarTableRow extends MutableTableRow<Object, ColumnarRow> {
+        private final ColumnarRow cursor = new ColumnarRow(from);
+
+        ColumnarTableRow() {
+            super(ColumnarTable.this, ColumnarCellDataAccessObject.INSTANCE);
+        }
+
+        void moveTo(int index) {
+            cursor.index = index;
+            setRow(cursor);
+        }
+
+        @Override
+        public MutableTableRow<Object, ColumnarRow> clone() {
+            MutableTableRow<Object, ColumnarRow> clone = new MutableTableRow<>(getTable(), getDao());
+            clone.setRow(new ColumnarRow(cursor.index));
+            return clone;
+        }
+    }
+
+    /**
+     * Snapshot row view
+     */
+    final class ColumnarRow implements ReportPageRow {
+        /**
+         * Snapshot row, changed by row cursors only
+         */
+        private int index;
+
+        ColumnarRow(int index) {
+            this.index = index;
+        }
+
+        /**
+         * @return cell native value or null if cell is absent
+         */
+        @Nullable
+        Object getValue(int cellIndex) {
+            @Nullable ColumnVector vector = (cellIndex >= 0 && cellIndex < columns.length) ? columns[cellIndex] : null;
+            return (vector == null) ? null : vector.get(index);
+        }
+
+        @Override
+        public @Nullable TableCell getCell(int i) {
+            @Nullable Object value = getValue(i);
+            return (value == null) ? null : ColumnarTableCell.of(value, i);
+        }
+
+        @Override
+        public int getRowNum() {
+            return rowNums[index];
+        }
+
+        @Override
+        public int getFirstCellNum() {
+            for (int i = 0; i < columns.length; i++) {
+                if (getValue(i) != null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int getLastCellNum() {
+            for (int i = columns.length - 1; i >= 0; i--) {
+                if (getValue(i) != null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean rowContains(@Nullable Object expected) {
+            return rowContains(equalsPredicate(expected));
+        }
+
+        private boolean rowContains(Predicate<@Nullable Object> predicate) {
+            for (int i = 0; i < columns.length; i++) {
+                @Nullable Object value = getValue(i);
+                if (value != null && predicate.test(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<@Nullable TableCell> iterator() {
+            int first = getFirstCellNum();
+            if (first == -1) {
+                return emptyIterator();
+            }
+            int last = getLastCellNum();
+            return new Iterator<@Nullable TableCell>() {
+                private int i = first;
+
+                @Override
+                public boolean hasNext() {
+                    return i <= last;
+                }
+
+                @Override
+                public @Nullable TableCell next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return getCell(i++);
+                }
+            };
+        }
+    }
+
+    /**
+     * Snapshot rows view. Rows not captured by snapshot are absent.
+     */
+    final class ColumnarReportPage extends AbstractReportPage<ColumnarRow> {
+
+        @Override
+        public @Nullable ColumnarRow getRow(int i) {
+            int index = Arrays.binarySearch(rowNums, i);
+            return (index < 0 || absentRows.get(index)) ? null : new ColumnarRow(index);
+        }
+
+        @Override
+        public int getLastRowNum() {
+            return (rowNums.length == 0) ? -1 : rowNums[rowNums.length - 1];
+        }
+
+        @Override
+        public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+            return find(startRow, endRow, startColumn, endColumn, equalsPredicate(value));
+        }
+
+        @Override
+        public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                     Predicate<@Nullable Object> cellValuePredicate) {
+            int index = Arrays.binarySearch(rowNums, startRow);
+            int lastColumn = Math.min(endColumn, columns.length);
+            ColumnarRow row = new ColumnarRow(0);
+            for (int i = (index < 0) ? -index - 1 : index; i < rowNums.length && rowNums[i] < endRow; i++) {
+                if (absentRows.get(i)) {
+                    continue;
+                }
+                row.index = i;
+                for (int j = Math.max(0, startColumn); j < lastColumn; j++) {
+                    @Nullable Object value = row.getValue(j);
+                    if (value != null && cellValuePredicate.test(value)) {
+                        return TableCellAddress.of(rowNums[i], j);
+                    }
+                }
+            }
+            return TableCellAddress.NOT_FOUND;
+        }
+    }
+
+    /**
+     * Cell is a cell native value
+     */
+    static final class ColumnarCellDataAccessObject implements CellDataAccessObject<Object, ColumnarRow> {
+        static final ColumnarCellDataAccessObject INSTANCE = new ColumnarCellDataAccessObject();
+
+        @Override
+        public @Nullable Object getCell(ColumnarRow row, Integer cellIndex) {
+            return row.getValue(cellIndex);
+        }
+
+        @Override
+        public Object getValue(Object cell) {
+            return cell;
+        }
+
+        @Override
+        public Instant getInstantValue(Object cell) {
+            if (cell instanceof Instant) {
+                return (Instant) cell;
+            } else if (cell instanceof Date) {
+                return ((Date) cell).toInstant();
+            }
+            return InstantParser.INSTANCE.parseInstant(getStringValue(cell));
+        }
+    }
+
+    @ToString(callSuper = true)
+    @EqualsAndHashCode(callSuper = true)
+    static final class ColumnarTableCell extends AbstractTableCell<Object, ColumnarCellDataAccessObject> {
+        @Getter
+        private final int columnIndex;
+
+        private ColumnarTableCell(Object value, int columnIndex, ColumnarCellDataAccessObject dao) {
+            super(value, dao);
+            this.columnIndex = columnIndex;
+        }
+
+        static ColumnarTableCell of(Object value, int columnIndex) {
+            return new ColumnarTableCell(value, columnIndex, ColumnarCellDataAccessObject.INSTANCE);
+        }
+
+        @Override
+        protected ColumnarTableCell createWithCellDataAccessObject(ColumnarCellDataAccessObject dao) {
+            return new ColumnarTableCell(getCell(), columnIndex, dao);
+        }
+    }
+
+    /**
+     * Typed column values. Null values are marked in {@link #nulls} bitmap.
+     */
+    @RequiredArgsConstructor
+    abstract static class ColumnVector {
+        protected final BitSet nulls;
+
+        final @Nullable Object get(int row) {
+            return nulls.get(row) ? null : getNotNull(row);
+        }
+
+        abstract Object getNotNull(int row);
+
+        int[] getIntValues(int from, int to, BitSet invalidRows) {
+            int[] result = new int[to - from];
+            for (int i = from; i < to; i++) {
+                if (nulls.get(i)) {
+                    invalidRows.set(i - from);
+                    continue;
+                }
+                OptionalInt value = ColumnarCellDataAccessObject.INSTANCE.tryGetIntValue(getNotNull(i));
+                if (value.isPresent()) {
+                    result[i - from] = value.getAsInt();
+                } else {
+                    invalidRows.set(i - from);
+                }
+            }
+            return result;
+        }
+
+        long[] getLongValues(int from, int to, BitSet invalidRows) {
+            long[] result = new long[to - from];
+            for (int i = from; i < to; i++) {
+                if (nulls.get(i)) {
+                    invalidRows.set(i - from);
+                    continue;
+                }
+                OptionalLong value = ColumnarCellDataAccessObject.INSTANCE.tryGetLongValue(getNotNull(i));
+                if (value.isPresent()) {
+                    result[i - from] = value.getAsLong();
+                } else {
+                    invalidRows.set(i - from);
+                }
+            }
+            return result;
+        }
+
+        double[] getDoubleValues(int from, int to, BitSet invalidRows) {
+            double[] result = new double[to - from];
+            for (int i = from; i < to; i++) {
+                if (nulls.get(i)) {
+                    invalidRows.set(i - from);
+                    continue;
+                }
+                OptionalDouble value = ColumnarCellDataAccessObject.INSTANCE.tryGetDoubleValue(getNotNull(i));
+                if (value.isPresent()) {
+                    result[i - from] = value.getAsDouble();
+                } else {
+                    invalidRows.set(i - from);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Sets invalid rows bits for null values of rows from {@code from} (inclusive) to {@code to} (exclusive)
+         */
+        void setNulls(int from, int to, BitSet invalidRows) {
+            for (int i = nulls.nextSetBit(from); i >= 0 && i < to; i = nulls.nextSetBit(i + 1)) {
+                invalidRows.set(i - from);
+            }
+        }
+    }
+
+    static final class LongVector extends ColumnVector {
+        private final long[] values;
+
+        private LongVector(BitSet nulls, long[] values) {
+            super(nulls);
+            this.values = values;
+        }
+
+        @Override
+        Object getNotNull(int row) {
+            return values[row];
+        }
+
+        @Override
+        int[] getIntValues(int from, int to, BitSet invalidRows) {
+            int[] result = new int[to - from];
+            for (int i = from; i < to; i++) {
+                result[i - from] = (int) values[i];
+            }
+            setNulls(from, to, invalidRows);
+            return result;
+        }
+
+        @Override
+        long[] getLongValues(int from, int to, BitSet invalidRows) {
+            setNulls(from, to, invalidRows);
+            return Arrays.copyOfRange(values, from, to);
+        }
+
+        @Override
+        double[] getDoubleValues(int from, int to, BitSet invalidRows) {
+            double[] result = new double[to - from];
+            for (int i = from; i < to; i++) {
+                result[i - from] = values[i];
+            }
+            setNulls(from, to, invalidRows);
+            return result;
+        }
+    }
+
+    static final class DoubleVector extends ColumnVector {
+        private final double[] values;
+
+        private DoubleVector(BitSet nulls, double[] values) {
+            super(nulls);
+            this.values = values;
+        }
+
+        @Override
+        Object getNotNull(int row) {
+            return values[row];
+        }
+
+        @Override
+        int[] getIntValues(int from, int to, BitSet invalidRows) {
+            int[] result = new int[to - from];
+            for (int i = from; i < to; i++) {
+                result[i - from] = (int) (long) values[i];
+            }
+            setNulls(from, to, invalidRows);
+            return result;
+        }
+
+        @Override
+        long[] getLongValues(int from, int to, BitSet invalidRows) {
+            long[] result = new long[to - from];
+            for (int i = from; i < to; i++) {
+                result[i - from] = (long) values[i];
+            }
+            setNulls(from, to, invalidRows);
+            return result;
+        }
+
+        @Override
+        double[] getDoubleValues(int from, int to, BitSet invalidRows) {
+            setNulls(from, to, invalidRows);
+            return Arrays.copyOfRange(values, from, to);
+        }
+    }
+
+    /**
+     * Dictionary encoded strings
+     */
+    static final class StringVector extends ColumnVector {
+        private final int[] codes;
+        private final String[] dictionary;
+
+        private StringVector(BitSet nulls, int[] codes, String[] dictionary) {
+            super(nulls);
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        Object getNotNull(int row) {
+            return dictionary[codes[row]];
+        }
+    }
+
+    /**
+     * Instants with millisecond precision stored as epoch millis
+     */
+    static final class InstantVector extends ColumnVector {
+        private final long[] epochMillis;
+
+        private InstantVector(BitSet nulls, long[] epochMillis) {
+            super(nulls);
+            this.epochMillis = epochMillis;
+        }
+
+        @Override
+        Object getNotNull(int row) {
+            return Instant.ofEpochMilli(epochMillis[row]);
+        }
+    }
+
+    static final class ObjectVector extends ColumnVector {
+        private final @Nullable Object[] values;
+
+        private ObjectVector(BitSet nulls, @Nullable Object[] values) {
+            super(nulls);
+            this.values = values;
+        }
+
+        @Override
+        Object getNotNull(int row) {
+            @SuppressWarnings("nullness")
+            Object value = Objects.requireNonNull(values[row]);
+            return value;
+        }
+    }
+
+    /**
+     * Appends column values to typed storage. Falls back to object storage if values are of different types.
+     */
+    static final class ColumnVectorBuilder {
+        private static final Object[] EMPTY = {};
+
+        private final BitSet nulls = new BitSet();
+        private ColumnKind kind = ColumnKind.EMPTY;
+        /**
+         * Long values or instant epoch millis
+         */
+        private long[] longs = new long[0];
+        private double[] doubles = new double[0];
+        private int[] codes = new int[0];
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private @Nullable Object[] objects = EMPTY;
+        private int size = 0;
+
+        /**
+         * Copies cell value, char sequences are copied to strings, date times are converted to instant by cell
+         */
+        void add(@Nullable TableCell cell) {
+            @Nullable Object value = (cell == null) ? null : cell.getValue();
+            if (cell == null || value == null) {
+                nulls.set(size++);
+                return;
+            }
+            ColumnKind valueKind = ColumnKind.of(value);
+            if (valueKind == ColumnKind.INSTANT) {
+                value = getInstantValue(cell, value);
+                valueKind = (value instanceof Instant) ? ColumnKind.INSTANT : ColumnKind.OBJECT;
+            } else if (valueKind == ColumnKind.STRING) {
+                value = value.toString();
+            }
+            if (kind == ColumnKind.EMPTY) {
+                kind = valueKind;
+            } else if (kind != valueKind && kind != ColumnKind.OBJECT) {
+                convertToObjects();
+            }
+            ensureCapacity();
+            switch (kind) {
+                case LONG:
+                    longs[size] = ((Number) value).longValue();
+                    break;
+                case DOUBLE:
+                    doubles[size] = ((Number) value).doubleValue();
+                    break;
+                case STRING:
+                    codes[size] = dictionary.computeIfAbsent((String) value, k -> dictionary.size());
+                    break;
+                case INSTANT:
+                    longs[size] = ((Instant) value).toEpochMilli();
+                    break;
+                default:
+                    objects[size] = value;
+            }
+            size++;
+        }
+
+        /**
+         * @return instant with millisecond precision or source value if it can't be converted
+         */
+        private static Object getInstantValue(TableCell cell, Object value) {
+            try {
+                Instant instant = cell.getInstantValue();
+                return (instant.getNano() % 1_000_000 == 0) ? instant : value;
+            } catch (RuntimeException e) {
+                return value;
+            }
+        }
+
+        private void ensureCapacity() {
+            switch (kind) {
+                case LONG:
+                case INSTANT:
+                    if (size >= longs.length) {
+                        longs = Arrays.copyOf(longs, getNewCapacity());
+                    }
+                    break;
+                case DOUBLE:
+                    if (size >= doubles.length) {
+                        doubles = Arrays.copyOf(doubles, getNewCapacity());
+                    }
+                    break;
+                case STRING:
+                    if (size >= codes.length) {
+                        codes = Arrays.copyOf(codes, getNewCapacity());
+                    }
+                    break;
+                default:
+                    if (size >= objects.length) {
+                        objects = Arrays.copyOf(objects, getNewCapacity());
+                    }
+            }
+        }
+
+        private int getNewCapacity() {
+            return Math.max(16, size << 1);
+        }
+
+        private void convertToObjects() {
+            ColumnVector vector = build();
+            objects = new Object[getNewCapacity()];
+            for (int i = 0; i < size; i++) {
+                objects[i] = vector.get(i);
+            }
+            kind = ColumnKind.OBJECT;
+            longs = new long[0];
+            doubles = new double[0];
+            codes = new int[0];
+            dictionary.clear();
+        }
+
+        ColumnVector build() {
+            switch (kind) {
+                case LONG:
+                    return new LongVector(nulls, Arrays.copyOf(longs, size));
+                case DOUBLE:
+                    return new DoubleVector(nulls, Arrays.copyOf(doubles, size));
+                case STRING:
+                    String[] words = new String[dictionary.size()];
+                    dictionary.forEach((word, code) -> words[code] = word);
+                    return new StringVector(nulls, Arrays.copyOf(codes, size), words);
+                case INSTANT:
+                    return new InstantVector(nulls, Arrays.copyOf(longs, size));
+                default:
+                    return new ObjectVector(nulls, Arrays.copyOf(objects, size));
+            }
+        }
+    }
+
+    private enum ColumnKind {
+        EMPTY, LONG, DOUBLE, STRING, INSTANT, OBJECT;
+
+        static ColumnKind of(Object value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return LONG;
+            } else if (value instanceof Double || value instanceof Float) {
+                return DOUBLE;
+            } else if (value instanceof CharSequence) {
+                return STRING;
+            } else if (value instanceof Instant || value instanceof Date || value instanceof LocalDateTime ||
+                    value instanceof ZonedDateTime || value instanceof OffsetDateTime) {
+                return INSTANT;
+            }
+            return OBJECT;
+        }
+    }
+}
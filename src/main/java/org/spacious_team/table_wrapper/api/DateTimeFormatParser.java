@@ -24,9 +24,11 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.text.ParsePosition;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static lombok.AccessLevel.PRIVATE;
 
@@ -34,10 +36,122 @@ import static lombok.AccessLevel.PRIVATE;
 final class DateTimeFormatParser {
 
     private static final Map<Pattern, DateTimeFormatter> dateTimeFormatters = new ConcurrentHashMap<>();
+    /**
+     * Zone formatter patterns indexed by zone style
+     */
+    private static final String[] ZONE_PATTERNS = {"VV", "z", "OOOO", "O", "xxxxx'['VV']'", "xxxxx", "xxxx"};
+    /**
+     * Date splitter and date time separator chars supported by shape code, other chars have no shape code
+     */
+    private static final String SEPARATORS = "-./ T_,:";
+    /*
+     * Shape code bits: | zone style (3) | date time separator (3) | date splitter (3) |
+     *                  | date at first (1) | year at first (1) | has millis (1) | kind (2) |
+     */
+    private static final int NO_SHAPE = -1;
+    private static final int TIME = 0;
+    private static final int DATE = 1;
+    private static final int DATE_TIME = 2;
+    private static final int ZONED_DATE_TIME = 3;
+    private static final int HAS_MILLIS = 1 << 2;
+    private static final int YEAR_AT_FIRST = 1 << 3;
+    private static final int DATE_AT_FIRST = 1 << 4;
+    private static final int DATE_SPLITTER_SHIFT = 5;
+    private static final int DATE_TIME_SEPARATOR_SHIFT = 8;
+    private static final int ZONE_STYLE_SHIFT = 11;
+    private static final int SHAPE_COUNT = 1 << 14;
+    /**
+     * Formatters indexed by shape code, filled on first use
+     */
+    private static final AtomicReferenceArray<DateTimeFormatter> shapeFormatters =
+            new AtomicReferenceArray<>(SHAPE_COUNT);
 
     static DateTimeFormatter getDateTimeFormatter(String dateTimeOffset) {
-        Pattern pattern = getPattern(dateTimeOffset);
-        return getDateTimeFormatter(pattern);
+        int shape = getShape(dateTimeOffset);
+        if (shape == NO_SHAPE) {
+            return getDateTimeFormatter(getPattern(dateTimeOffset));
+        }
+        @Nullable DateTimeFormatter formatter = shapeFormatters.get(shape);
+        if (formatter == null) {
+            formatter = getDateTimeFormatter(getPattern(dateTimeOffset));
+            shapeFormatters.set(shape, formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * Checks value without throwing exceptions. Value is checked by derived format, field values
+     * (for example month number) are not validated.
+     *
+     * @return formatter of derived format or null if value is not a date time of known format
+     */
+    static @Nullable DateTimeFormatter findDateTimeFormatter(String dateTimeOffset) {
+        if (getShape(dateTimeOffset) == NO_SHAPE) {
+            return null;
+        }
+        DateTimeFormatter formatter = getDateTimeFormatter(dateTimeOffset);
+        ParsePosition position = new ParsePosition(0);
+        boolean isParsed = formatter.parseUnresolved(dateTimeOffset, position) != null &&
+                position.getIndex() == dateTimeOffset.length();
+        return isParsed ? formatter : null;
+    }
+
+    /**
+     * Returns small int code which uniquely identifies a formatter without allocations.
+     * Code is computed by the same rules as {@link #getPattern(String)}.
+     *
+     * @return shape code or {@link #NO_SHAPE} if format is unknown or has not supported separator chars
+     */
+    private static int getShape(String dateTimeOffset) {
+        int length = dateTimeOffset.length();
+        if (length == 8 || length == 12) { // without and with millis
+            return getTimeShape(dateTimeOffset, 0);
+        } else if (length == 10) {
+            int dateShape = getDateShape(dateTimeOffset, 0);
+            return (dateShape == NO_SHAPE) ? NO_SHAPE : (dateShape | DATE);
+        } else if (length == 19 || length == 23) { // without and with millis
+            int dateTimeShape = getDateTimeShape(dateTimeOffset);
+            return (dateTimeShape == NO_SHAPE) ? NO_SHAPE : (dateTimeShape | DATE_TIME);
+        } else if (length > 19) {
+            int dateTimeShape = getDateTimeShape(dateTimeOffset);
+            return (dateTimeShape == NO_SHAPE) ?
+                    NO_SHAPE :
+                    (dateTimeShape | ZONED_DATE_TIME | (getZoneStyle(dateTimeOffset) << ZONE_STYLE_SHIFT));
+        }
+        return NO_SHAPE;
+    }
+
+    private static int getTimeShape(String time, int offset) {
+        return hasMillis(time, offset) ? HAS_MILLIS : 0;
+    }
+
+    private static int getDateShape(String date, int dateOffset) {
+        int splitterIndex = SEPARATORS.indexOf(getDateSplitter(date, dateOffset));
+        if (splitterIndex == -1) {
+            return NO_SHAPE;
+        }
+        return (isYearAtFirst(date, dateOffset) ? YEAR_AT_FIRST : 0) | (splitterIndex << DATE_SPLITTER_SHIFT);
+    }
+
+    private static int getDateTimeShape(String dateTime) {
+        int timeShape;
+        int dateShape;
+        int dateTimeSeparatorOffset;
+        if (isTimeAtFirst(dateTime)) {
+            timeShape = getTimeShape(dateTime, 0);
+            boolean hasMillis = (timeShape & HAS_MILLIS) != 0;
+            dateShape = getDateShape(dateTime, hasMillis ? 13 : 9);
+            dateTimeSeparatorOffset = hasMillis ? 12 : 8;
+        } else {
+            timeShape = getTimeShape(dateTime, 11) | DATE_AT_FIRST;
+            dateShape = getDateShape(dateTime, 0);
+            dateTimeSeparatorOffset = 10;
+        }
+        int separatorIndex = SEPARATORS.indexOf(dateTime.charAt(dateTimeSeparatorOffset));
+        if (dateShape == NO_SHAPE || separatorIndex == -1) {
+            return NO_SHAPE;
+        }
+        return timeShape | dateShape | (separatorIndex << DATE_TIME_SEPARATOR_SHIFT);
     }
 
     private static Pattern getPattern(String dateTimeOffset) {
@@ -59,24 +173,33 @@ final class DateTimeFormatParser {
     }
 
     private static TimePattern getForTime(String time, int offset) {
-        boolean hasMillis = (time.length() > (offset + 8)) && (time.charAt(offset + 8) == '.');
-        return TimePattern.of(hasMillis);
+        return TimePattern.of(hasMillis(time, offset));
+    }
+
+    private static boolean hasMillis(String time, int offset) {
+        return (time.length() > (offset + 8)) && (time.charAt(offset + 8) == '.');
     }
 
     private static DatePattern getForDate(String date, int dateOffset) {
-        boolean isYearAtFirst;
-        char dateSplitter;
-        char ch = date.charAt(dateOffset + 2);
-        if (!Character.isDigit(ch)) {
-            // date format is DD MM YYYY
-            isYearAtFirst = false;
-            dateSplitter = ch;
-        } else {
-            // date format is YYYY MM DD
-            isYearAtFirst = true;
-            dateSplitter = date.charAt(dateOffset + 4);
-        }
-        return DatePattern.of(isYearAtFirst, dateSplitter);
+        return DatePattern.of(isYearAtFirst(date, dateOffset), getDateSplitter(date, dateOffset));
+    }
+
+    /**
+     * @return false for DD MM YYYY date format, true for YYYY MM DD date format
+     */
+    private static boolean isYearAtFirst(String date, int dateOffset) {
+        return Character.isDigit(date.charAt(dateOffset + 2));
+    }
+
+    private static char getDateSplitter(String date, int dateOffset) {
+        return date.charAt(dateOffset + (isYearAtFirst(date, dateOffset) ? 4 : 2));
+    }
+
+    /**
+     * @return true for {@code <time> <date>} format, false for {@code <date> <time>} format
+     */
+    private static boolean isTimeAtFirst(String dateTime) {
+        return dateTime.charAt(2) == ':';
     }
 
     private static DateTimePattern getForDateTime(String dateTime) {
@@ -84,7 +207,7 @@ final class DateTimeFormatParser {
         DatePattern datePattern;
         TimePattern timePattern;
         char dateTimeSeparator;
-        if (dateTime.charAt(2) == ':') {
+        if (isTimeAtFirst(dateTime)) {
             // format is <time> <date>
             isDateAtFirst = false;
             timePattern = getForTime(dateTime, 0);
@@ -102,40 +225,45 @@ final class DateTimeFormatParser {
     }
 
     private static ZonedDateTimePattern getForDateTimeZone(String dateTimeOffset) {
-        String zonePattern;
+        String zonePattern = ZONE_PATTERNS[getZoneStyle(dateTimeOffset)];
+        DateTimePattern dateTimePattern = getForDateTime(dateTimeOffset);
+        return ZonedDateTimePattern.of(zonePattern, dateTimePattern);
+    }
+
+    /**
+     * @return index of {@link #ZONE_PATTERNS}
+     */
+    private static int getZoneStyle(String dateTimeOffset) {
         int length = dateTimeOffset.length();
         char char19 = dateTimeOffset.charAt(19);
         if (length == 20) {
             // Z timezone
-            zonePattern = "VV";
+            return 0; // VV
         } else if (length == 22) {
             // MSK, UTC, GMT
-            zonePattern = "z";
+            return 1; // z
         } else if (char19 == 'G') {
             if (length > 23 && dateTimeOffset.charAt(23) == '0') {
                 // GMT+03:00 / GMT+03:00:00
-                zonePattern = "OOOO";
+                return 2; // OOOO
             } else {
                 // GMT / GMT+3 / GMT+3:30
-                zonePattern = "O";
+                return 3; // O
             }
         } else if (char19 == '+' || char19 == '-') {
             if (dateTimeOffset.indexOf('[', 23) != -1) {
                 // +01:00[Europe/Paris]'
-                zonePattern = "xxxxx'['VV']'";
+                return 4; // xxxxx'['VV']'
             } else if (length > 22 && dateTimeOffset.charAt(22) == ':') {
                 // +03:00
-                zonePattern = "xxxxx";
+                return 5; // xxxxx
             } else {
                 // +0300
-                zonePattern = "xxxx";
+                return 6; // xxxx
             }
-        } else {
-            // fallback: Europe/Paris
-            zonePattern = "VV";
         }
-        DateTimePattern dateTimePattern = getForDateTime(dateTimeOffset);
-        return ZonedDateTimePattern.of(zonePattern, dateTimePattern);
+        // fallback: Europe/Paris
+        return 0; // VV
     }
 
     private static DateTimeFormatter getDateTimeFormatter(Pattern pattern) {
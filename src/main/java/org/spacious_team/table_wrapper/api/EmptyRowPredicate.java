@@ -35,7 +35,7 @@ public class EmptyRowPredicate implements Predicate<@Nullable ReportPageRow> {
             @Nullable Object value;
             if (!(cell == null
                     || ((value = cell.getValue()) == null)
-                    || (value instanceof String) && (value.toString().isEmpty()))) {
+                    || (value instanceof CharSequence) && (((CharSequence) value).length() == 0))) {
                 return false;
             }
         }
@@ -0,0 +1,37 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Receives row parse errors. Row extractors can report invalid cells found by {@code tryGet*} methods
+ * to sink without throwing exceptions.
+ *
+ * @see Table#getData(Object, java.util.function.Function, ErrorSink)
+ */
+@FunctionalInterface
+public interface ErrorSink {
+
+    /**
+     * @param rowNum report page row number
+     * @param column column of invalid cell or null if error is not column specific
+     * @param reason error description
+     */
+    void accept(int rowNum, @Nullable TableHeaderColumn column, String reason);
+}
@@ -0,0 +1,169 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Parses date and time values of fixed layouts recognized by {@link DateTimeFormatParser} by digit positions
+ * without {@link java.time.format.DateTimeFormatter}. Supported layouts are {@code HH:mm:ss[.SSS]},
+ * {@code dd?MM?yyyy}, {@code yyyy?MM?dd} and their date time combinations with any separator char.
+ * Zoned values are not supported.
+ * <p>
+ * Methods return null if value doesn't match layout or has field values which are out of range or would be adjusted
+ * by {@link java.time.format.ResolverStyle#SMART} formatter resolver. Such values should be parsed by formatter.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class FixedLayoutDateTimeParser {
+
+    private static final int NOT_A_NUMBER = -1;
+
+    /**
+     * @param value time of {@code HH:mm:ss} or {@code HH:mm:ss.SSS} layout
+     */
+    static @Nullable LocalTime parseLocalTime(String value) {
+        int length = value.length();
+        if (length != 8 && length != 12) {
+            return null;
+        }
+        return parseTime(value, 0, length == 12);
+    }
+
+    /**
+     * @param value date of {@code dd?MM?yyyy} or {@code yyyy?MM?dd} layout, where {@code ?} is non-digit splitter
+     */
+    static @Nullable LocalDate parseLocalDate(String value) {
+        if (value.length() != 10) {
+            return null;
+        }
+        return parseDate(value, 0);
+    }
+
+    /**
+     * @param value date time of {@code <date>?<time>} or {@code <time>?<date>} layout
+     */
+    static @Nullable LocalDateTime parseLocalDateTime(String value) {
+        int length = value.length();
+        if (length != 19 && length != 23) {
+            return null;
+        }
+        boolean hasMillis = (length == 23);
+        @Nullable LocalDate date;
+        @Nullable LocalTime time;
+        if (value.charAt(2) == ':') {
+            // format is <time> <date>
+            time = parseTime(value, 0, hasMillis);
+            date = parseDate(value, hasMillis ? 13 : 9);
+        } else {
+            // format is <date> <time>
+            date = parseDate(value, 0);
+            time = parseTime(value, 11, hasMillis);
+        }
+        return (date == null || time == null) ? null : LocalDateTime.of(date, time);
+    }
+
+    private static @Nullable LocalTime parseTime(String value, int offset, boolean hasMillis) {
+        if (value.charAt(offset + 2) != ':' || value.charAt(offset + 5) != ':' ||
+                (hasMillis && value.charAt(offset + 8) != '.')) {
+            return null;
+        }
+        int hour = parseDigits(value, offset, 2);
+        int minute = parseDigits(value, offset + 3, 2);
+        int second = parseDigits(value, offset + 6, 2);
+        int millis = hasMillis ? parseDigits(value, offset + 9, 3) : 0;
+        if (hour == NOT_A_NUMBER || hour > 23 ||
+                minute == NOT_A_NUMBER || minute > 59 ||
+                second == NOT_A_NUMBER || second > 59 ||
+                millis == NOT_A_NUMBER) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second, millis * 1_000_000);
+    }
+
+    private static @Nullable LocalDate parseDate(String value, int offset) {
+        int year;
+        int month;
+        int day;
+        if (isDigit(value.charAt(offset + 2))) {
+            // date format is YYYY MM DD
+            char splitter = value.charAt(offset + 4);
+            if (isDigit(splitter) || value.charAt(offset + 7) != splitter) {
+                return null;
+            }
+            year = parseDigits(value, offset, 4);
+            month = parseDigits(value, offset + 5, 2);
+            day = parseDigits(value, offset + 8, 2);
+        } else {
+            // date format is DD MM YYYY
+            char splitter = value.charAt(offset + 2);
+            if (Character.isDigit(splitter) || value.charAt(offset + 5) != splitter) {  // not an ASCII digit
+                return null;
+            }
+            day = parseDigits(value, offset, 2);
+            month = parseDigits(value, offset + 3, 2);
+            year = parseDigits(value, offset + 6, 4);
+        }
+        if (year == NOT_A_NUMBER || year == 0 ||  // zero year of era is invalid
+                month == NOT_A_NUMBER || month < 1 || month > 12 ||
+                day == NOT_A_NUMBER || day < 1 || day > getLengthOfMonth(year, month)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static int getLengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return Year.isLeap(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return non-negative number or {@link #NOT_A_NUMBER} if chars are not ASCII digits
+     */
+    private static int parseDigits(String value, int offset, int count) {
+        int result = 0;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return NOT_A_NUMBER;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
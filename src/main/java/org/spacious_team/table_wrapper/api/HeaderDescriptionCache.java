@@ -0,0 +1,45 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches table header descriptions of equal header layouts. Header layouts are equal if tables have same
+ * header description enum class and header rows have same cell values at same cell indices.
+ *
+ * @see AbstractTable#setHeaderDescriptionCache(HeaderDescriptionCache)
+ */
+public interface HeaderDescriptionCache {
+
+    /**
+     * Does not cache anything
+     */
+    HeaderDescriptionCache DISABLED = (headerColumnClass, headerRows, headerDescriptionParser) ->
+            headerDescriptionParser.get();
+
+    /**
+     * @param headerDescriptionParser called if header description of this header layout is not cached,
+     *                                may throw exception if table column is not found
+     * @return cached or parsed header description
+     */
+    Map<TableColumn, Integer> getHeaderDescription(Class<? extends TableHeaderColumn> headerColumnClass,
+                                                   ReportPageRow[] headerRows,
+                                                   Supplier<Map<TableColumn, Integer>> headerDescriptionParser);
+}
@@ -0,0 +1,388 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static org.spacious_team.table_wrapper.api.LiteralWordMatcher.isLiteral;
+import static org.spacious_team.table_wrapper.api.LiteralWordMatcher.toFoldedCase;
+
+/**
+ * Finds column indices of all columns of {@link TableHeaderColumn} enum by one pass over header cells.
+ * <p>
+ * All {@link PatternTableColumn} of enum (including nested by {@link MultiLineTableColumn}, {@link AnyOfTableColumn},
+ * {@link OptionalTableColumn} and {@link RelativePositionTableColumn}) are compiled to one matcher. Literal words are
+ * searched by one Aho-Corasick automaton over case folded cell text, only regex patterns are matched by regex engine.
+ * Column indices are computed from cell matches with same semantics as {@link TableColumn#getColumnIndex} methods.
+ * Other {@link TableColumn} impls are called directly.
+ */
+final class HeaderMatcher {
+
+    /**
+     * Column index is not found. Not a -1 because {@link RelativePositionTableColumn} can return negative index.
+     */
+    static final int NOT_FOUND = Integer.MIN_VALUE;
+    private static final ClassValue<HeaderMatcher> matchers = new ClassValue<>() {
+        @Override
+        protected HeaderMatcher computeValue(Class<?> type) {
+            @SuppressWarnings("nullness")
+            TableColumn[] columns = Arrays.stream((TableHeaderColumn[]) type.getEnumConstants())
+                    .map(TableHeaderColumn::getColumn)
+                    .toArray(TableColumn[]::new);
+            return new HeaderMatcher(columns);
+        }
+    };
+
+    private final TableColumn[] columns;
+    private final Map<PatternTableColumn, Integer> patternColumnIds;
+    /**
+     * Literal word ids of pattern columns indexed by pattern column id
+     */
+    private final List<int[]> literalWordIds;
+    /**
+     * Regex patterns of pattern columns indexed by pattern column id
+     */
+    private final List<Pattern[]> regexPatterns;
+    private final AhoCorasickAutomaton automaton;
+
+    private HeaderMatcher(TableColumn[] columns) {
+        PatternColumns patternColumns = new PatternColumns();
+        for (TableColumn column : columns) {
+            patternColumns.collect(column);
+        }
+        this.columns = columns;
+        this.patternColumnIds = patternColumns.ids;
+        this.literalWordIds = patternColumns.literalWordIds;
+        this.regexPatterns = patternColumns.regexPatterns;
+        this.automaton = AhoCorasickAutomaton.of(patternColumns.literalWords);
+    }
+
+    static <T extends Enum<T> & TableHeaderColumn> HeaderMatcher of(Class<T> headerDescription) {
+        return matchers.get(headerDescription);
+    }
+
+    TableColumn[] getColumns() {
+        return columns.clone();
+    }
+
+    int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * @return column of enum constant with the ordinal
+     */
+    TableColumn getColumn(int ordinal) {
+        return columns[ordinal];
+    }
+
+    /**
+     * @return column indices ordered as enum constants, {@link #NOT_FOUND} if column is not found
+     */
+    int[] getColumnIndices(ReportPageRow[] headerRows) {
+        List<List<CellMatch>> cellMatches = matchCells(headerRows);
+        int[] columnIndices = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnIndices[i] = getColumnIndex(columns[i], 0, headerRows, 0, headerRows.length, cellMatches);
+        }
+        return columnIndices;
+    }
+
+    /**
+     * @return matched cells of each header row in header row iteration order
+     */
+    private List<List<CellMatch>> matchCells(ReportPageRow[] headerRows) {
+        List<List<CellMatch>> cellMatches = new ArrayList<>(headerRows.length);
+        BitSet foundWords = new BitSet();
+        for (ReportPageRow row : headerRows) {
+            List<CellMatch> rowMatches = new ArrayList<>();
+            for (@Nullable TableCell cell : row) {
+                @Nullable Object value = (cell == null) ? null : cell.getValue();
+                if (cell != null && value instanceof CharSequence) {
+                    CharSequence text = (CharSequence) value;
+                    foundWords.clear();
+                    automaton.findAll(text, foundWords);
+                    @Nullable BitSet matchedColumns = matchPatternColumns(text, foundWords);
+                    if (matchedColumns != null) {
+                        rowMatches.add(new CellMatch(cell.getColumnIndex(), matchedColumns));
+                    }
+                }
+            }
+            cellMatches.add(rowMatches);
+        }
+        return cellMatches;
+    }
+
+    /**
+     * @return ids of pattern columns matched to text or null if nothing is matched
+     */
+    private @Nullable BitSet matchPatternColumns(CharSequence text, BitSet foundWords) {
+        @Nullable BitSet matchedColumns = null;
+        for (int id = 0, n = literalWordIds.size(); id < n; id++) {
+            if (matches(text, foundWords, literalWordIds.get(id), regexPatterns.get(id))) {
+                if (matchedColumns == null) {
+                    matchedColumns = new BitSet();
+                }
+                matchedColumns.set(id);
+            }
+        }
+        return matchedColumns;
+    }
+
+    private static boolean matches(CharSequence text, BitSet foundWords, int[] wordIds, Pattern[] regexes) {
+        for (int wordId : wordIds) {
+            if (!foundWords.get(wordId)) {
+                return false;
+            }
+        }
+        for (Pattern pattern : regexes) {
+            if (!pattern.matcher(text).find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes column index as {@link TableColumn#getColumnIndex(int, ReportPageRow...)} called
+     * for header rows from {@code fromRow} (inclusive) to {@code toRow} (exclusive).
+     *
+     * @return column index or {@link #NOT_FOUND}
+     */
+    private int getColumnIndex(TableColumn column, int firstColumnForSearch, ReportPageRow[] headerRows,
+                               int fromRow, int toRow, List<List<CellMatch>> cellMatches) {
+        Class<?> type = column.getClass();
+        if (type == PatternTableColumn.class) {
+            @Nullable Integer id = patternColumnIds.get(column);
+            if (id != null) {
+                for (int i = fromRow; i < toRow; i++) {
+                    for (CellMatch match : cellMatches.get(i)) {
+                        if (match.columnIndex >= firstColumnForSearch && match.patternColumns.get(id)) {
+                            return match.columnIndex;
+                        }
+                    }
+                }
+                return NOT_FOUND;
+            }
+        } else if (type == MultiLineTableColumn.class) {
+            TableColumn[] rowDescriptors = ((MultiLineTableColumn) column).getRowDescriptors();
+            if (toRow - fromRow != rowDescriptors.length) {
+                return NOT_FOUND;
+            }
+            int columnIndex = firstColumnForSearch;
+            for (int i = 0; i < rowDescriptors.length && columnIndex != NOT_FOUND; i++) {
+                int row = fromRow + i;
+                columnIndex = getColumnIndex(rowDescriptors[i], columnIndex, headerRows, row, row + 1, cellMatches);
+            }
+            return columnIndex;
+        } else if (type == AnyOfTableColumn.class) {
+            for (TableColumn c : ((AnyOfTableColumn) column).getColumns()) {
+                int columnIndex = getColumnIndex(c, firstColumnForSearch, headerRows, fromRow, toRow, cellMatches);
+                if (columnIndex != NOT_FOUND) {
+                    return columnIndex;
+                }
+            }
+            return NOT_FOUND;
+        } else if (type == OptionalTableColumn.class) {
+            TableColumn c = ((OptionalTableColumn) column).getColumn();
+            return getColumnIndex(c, firstColumnForSearch, headerRows, fromRow, toRow, cellMatches);
+        } else if (type == RelativePositionTableColumn.class) {
+            RelativePositionTableColumn relativeColumn = (RelativePositionTableColumn) column;
+            int columnIndex = getColumnIndex(relativeColumn.getColumn(), firstColumnForSearch,
+                    headerRows, fromRow, toRow, cellMatches);
+            return (columnIndex == NOT_FOUND) ? NOT_FOUND : columnIndex + relativeColumn.getPositionOffset();
+        }
+        try {
+            @SuppressWarnings("nullness")
+            ReportPageRow[] rows = (fromRow == 0 && toRow == headerRows.length) ?
+                    headerRows :
+                    Arrays.copyOfRange(headerRows, fromRow, toRow);
+            return column.getColumnIndex(firstColumnForSearch, rows);
+        } catch (RuntimeException e) {
+            return NOT_FOUND;
+        }
+    }
+
+    /**
+     * Collects pattern columns, including nested ones, and their literal words
+     */
+    private static final class PatternColumns {
+        private final Map<PatternTableColumn, Integer> ids = new IdentityHashMap<>();
+        private final List<int[]> literalWordIds = new ArrayList<>();
+        private final List<Pattern[]> regexPatterns = new ArrayList<>();
+        private final Map<String, Integer> literalWords = new TreeMap<>();
+
+        void collect(TableColumn column) {
+            Class<?> type = column.getClass();
+            if (type == PatternTableColumn.class) {
+                PatternTableColumn patternColumn = (PatternTableColumn) column;
+                if (!ids.containsKey(patternColumn)) {
+                    ids.put(patternColumn, ids.size());
+                    addPatterns(patternColumn.getPatterns());
+                }
+            } else if (type == MultiLineTableColumn.class) {
+                for (TableColumn c : ((MultiLineTableColumn) column).getRowDescriptors()) {
+                    collect(c);
+                }
+            } else if (type == AnyOfTableColumn.class) {
+                for (TableColumn c : ((AnyOfTableColumn) column).getColumns()) {
+                    collect(c);
+                }
+            } else if (type == OptionalTableColumn.class) {
+                collect(((OptionalTableColumn) column).getColumn());
+            } else if (type == RelativePositionTableColumn.class) {
+                collect(((RelativePositionTableColumn) column).getColumn());
+            }
+        }
+
+        private void addPatterns(Pattern[] patterns) {
+            List<Integer> wordIds = new ArrayList<>();
+            List<Pattern> regexes = new ArrayList<>();
+            for (Pattern pattern : patterns) {
+                String word = pattern.pattern();
+                if (isLiteral(word)) {
+                    String foldedWord = toFoldedCase(word);
+                    wordIds.add(literalWords.computeIfAbsent(foldedWord, w -> literalWords.size()));
+                } else {
+                    regexes.add(pattern);
+                }
+            }
+            literalWordIds.add(wordIds.stream().mapToInt(i -> i).toArray());
+            regexPatterns.add(regexes.toArray(new Pattern[0]));
+        }
+    }
+
+    private static final class CellMatch {
+        private final int columnIndex;
+        private final BitSet patternColumns;
+
+        CellMatch(int columnIndex, BitSet patternColumns) {
+            this.columnIndex = columnIndex;
+            this.patternColumns = patternColumns;
+        }
+    }
+
+    /**
+     * Finds all words occurrences in case folded text by one pass
+     */
+    private static final class AhoCorasickAutomaton {
+        private final Node root;
+
+        private AhoCorasickAutomaton(Node root) {
+            this.root = root;
+        }
+
+        /**
+         * @param words case folded words with ids
+         */
+        static AhoCorasickAutomaton of(Map<String, Integer> words) {
+            Node root = new Node();
+            words.forEach((word, id) -> root.add(word, id));
+            root.freeze(root);
+            return new AhoCorasickAutomaton(root);
+        }
+
+        void findAll(CharSequence text, BitSet foundWords) {
+            if (root.size() == 0) {
+                return;
+            }
+            Node node = root;
+            for (int i = 0, n = text.length(); i < n; i++) {
+                char c = StringPrefixPredicate.foldCase(text.charAt(i));
+                @Nullable Node next;
+                while ((next = node.get(c)) == null && node != root) {
+                    node = node.getFail();
+                }
+                node = (next == null) ? root : next;
+                for (int wordId : node.wordIds) {
+                    foundWords.set(wordId);
+                }
+            }
+        }
+    }
+
+    private static final class Node extends CharTrieNode<Node> {
+        private int[] wordIds = new int[0];
+        /**
+         * Failure link, null for root
+         */
+        private @Nullable Node fail;
+
+        @Override
+        protected Node createChild() {
+            return new Node();
+        }
+
+        void add(String word, int wordId) {
+            Node node = this;
+            for (int i = 0, n = word.length(); i < n; i++) {
+                node = node.getOrCreate(word.charAt(i));
+            }
+            node.wordIds = new int[]{wordId};
+        }
+
+        /**
+         * Computes failure links by breadth-first traversal and trims children arrays
+         */
+        void freeze(Node root) {
+            root.trimToSize();
+            List<Node> queue = new ArrayList<>();
+            queue.add(root);
+            for (int i = 0; i < queue.size(); i++) {
+                Node node = queue.get(i);
+                for (int j = 0, n = node.size(); j < n; j++) {
+                    Node child = node.getChild(j);
+                    child.fail = root;
+                    if (node != root) {
+                        Node fail = node.getFail();
+                        @Nullable Node next;
+                        while ((next = fail.get(node.getKey(j))) == null && fail != root) {
+                            fail = fail.getFail();
+                        }
+                        child.fail = (next == null) ? root : next;
+                    }
+                    child.wordIds = concat(child.wordIds, child.getFail().wordIds);
+                    queue.add(child);
+                }
+            }
+        }
+
+        Node getFail() {
+            @Nullable Node node = fail;
+            return (node == null) ? this : node;
+        }
+
+        private static int[] concat(int[] a, int[] b) {
+            if (b.length == 0) {
+                return a;
+            }
+            int[] result = Arrays.copyOf(a, a.length + b.length);
+            System.arraycopy(b, 0, result, a.length, b.length);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.*;
+
+/**
+ * {@link ReportPage} decorator for pages with many searches. All cell values are indexed by one pass
+ * over the report page, subsequent searches take O(log n) time instead of scanning all page cells.
+ * <ul>
+ *     <li>Exact value search uses value to sorted cell addresses index. Cell value is equal to searching value
+ *     if {@link Object#equals(Object)} returns true.</li>
+ *     <li>Prefix search (including searches by {@link StringPrefixPredicate} predicates) uses case-folded
+ *     prefix trie of {@link CharSequence} cell values.</li>
+ *     <li>Searches by other predicates skip rows without cells and columns out of row cells range
+ *     by {@link ReportPageSearchPlanner}, which is built by first such search.</li>
+ * </ul>
+ * Tables are created by the decorated report page {@link TableFactory} with table ranges found by index.
+ *
+ * @apiNote Index memory consumption is proportional to number of cells and to string cells length
+ * (up to {@value #MAX_INDEXED_PREFIX_LENGTH} chars per cell). The decorated report page should not be modified
+ * after the index is built.
+ */
+@ToString(of = "reportPage")
+public class IndexedReportPage implements ReportPage {
+
+    /**
+     * Prefixes longer than this value are searched by index and then checked by cell value
+     */
+    static final int MAX_INDEXED_PREFIX_LENGTH = 32;
+
+    @Getter
+    private final ReportPage reportPage;
+    private final Map<Object, long[]> valueIndex;
+    private final TrieNode prefixIndex;
+    private final TableFactory tableFactory = new IndexedTableFactory();
+    private volatile @Nullable ReportPageSearchPlanner searchPlanner;
+
+    private IndexedReportPage(ReportPage reportPage) {
+        this.reportPage = reportPage;
+        Map<Object, Postings> values = new HashMap<>();
+        TrieNode root = new TrieNode();
+        for (int i = 0, lastRowNum = reportPage.getLastRowNum(); i <= lastRowNum; i++) {
+            @Nullable ReportPageRow row = reportPage.getRow(i);
+            if (row == null) {
+                continue;
+            }
+            for (@Nullable TableCell cell : row) {
+                @Nullable Object value;
+                if (cell == null || (value = cell.getValue()) == null) {
+                    continue;
+                }
+                long address = toLong(i, cell.getColumnIndex());
+                values.computeIfAbsent(value, $ -> new Postings()).add(address);
+                if (value instanceof CharSequence) {
+                    root.index((CharSequence) value, address);
+                }
+            }
+        }
+        Map<Object, long[]> index = new HashMap<>((int) (values.size() / 0.75f) + 1);
+        values.forEach((value, postings) -> index.put(value, postings.toSortedArray()));
+        root.freeze();
+        this.valueIndex = index;
+        this.prefixIndex = root;
+    }
+
+    /**
+     * Builds index of report page. Index building reads all report page cells.
+     */
+    public static IndexedReportPage of(ReportPage reportPage) {
+        return (reportPage instanceof IndexedReportPage) ?
+                (IndexedReportPage) reportPage :
+                new IndexedReportPage(reportPage);
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        long @Nullable [] addresses = valueIndex.get(value);
+        return (addresses == null) ?
+                TableCellAddress.NOT_FOUND :
+                findFirst(addresses, startRow, endRow, startColumn, endColumn, null);
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<@Nullable Object> cellValuePredicate) {
+        @Nullable String prefix = getIgnoreCasePrefix(cellValuePredicate);
+        return (prefix == null || prefix.isEmpty()) ?
+                getSearchPlanner().find(startRow, endRow, startColumn, endColumn, cellValuePredicate) :
+                findByStrippedPrefix(prefix, startRow, endRow, startColumn, endColumn);
+    }
+
+    private ReportPageSearchPlanner getSearchPlanner() {
+        @Nullable ReportPageSearchPlanner planner = searchPlanner;
+        if (planner == null) {
+            synchronized (valueIndex) {
+                planner = searchPlanner;
+                if (planner == null) {
+                    searchPlanner = planner = ReportPageSearchPlanner.of(reportPage);
+                }
+            }
+        }
+        return planner;
+    }
+
+    @Override
+    public TableCellAddress findByPrefix(@Nullable String prefix, int startRow, int endRow, int startColumn, int endColumn) {
+        if (prefix == null || prefix.isEmpty()) {
+            return TableCellAddress.NOT_FOUND;
+        }
+        String strippedPrefix = prefix.strip();
+        return strippedPrefix.isEmpty() ?
+                reportPage.findByPrefix(prefix, startRow, endRow, startColumn, endColumn) :
+                findByStrippedPrefix(strippedPrefix, startRow, endRow, startColumn, endColumn);
+    }
+
+    @Override
+    public Map<String, TableCellAddress> findAllByPrefix(Collection<String> prefixes) {
+        Map<String, TableCellAddress> addresses = new LinkedHashMap<>();
+        for (String prefix : prefixes) {
+            addresses.put(prefix, findByPrefix(prefix));
+        }
+        return addresses;
+    }
+
+    private TableCellAddress findByStrippedPrefix(String prefix, int startRow, int endRow, int startColumn, int endColumn) {
+        TrieNode node = prefixIndex;
+        for (int i = 0, n = Math.min(prefix.length(), MAX_INDEXED_PREFIX_LENGTH); i < n; i++) {
+            @Nullable TrieNode child = node.get(foldCase(prefix.charAt(i)));
+            if (child == null) {
+                return TableCellAddress.NOT_FOUND;
+            }
+            node = child;
+        }
+        @Nullable Predicate<@Nullable Object> cellValuePredicate = (prefix.length() > MAX_INDEXED_PREFIX_LENGTH) ?
+                ignoreCaseStringPrefixPredicateOnObject(prefix) :
+                null;
+        return findFirst(node.addresses, startRow, endRow, startColumn, endColumn, cellValuePredicate);
+    }
+
+    /**
+     * @param addresses          sorted cell addresses
+     * @param cellValuePredicate if not null, cell value is additionally tested by predicate
+     */
+    private TableCellAddress findFirst(long[] addresses,
+                                       int startRow, int endRow,
+                                       int startColumn, int endColumn,
+                                       @Nullable Predicate<@Nullable Object> cellValuePredicate) {
+        int i = Arrays.binarySearch(addresses, toLong(Math.max(0, startRow), 0));
+        for (i = (i < 0) ? (-i - 1) : i; i < addresses.length; i++) {
+            long address = addresses[i];
+            int row = getRow(address);
+            if (row >= endRow) {
+                break;
+            }
+            int column = getColumn(address);
+            if (column >= startColumn && column < endColumn) {
+                TableCellAddress cellAddress = TableCellAddress.of(row, column);
+                if (cellValuePredicate == null || testCellValue(cellAddress, cellValuePredicate)) {
+                    return cellAddress;
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    private boolean testCellValue(TableCellAddress address, Predicate<@Nullable Object> cellValuePredicate) {
+        @Nullable TableCell cell = reportPage.getCell(address);
+        return cell != null && cellValuePredicate.test(cell.getValue());
+    }
+
+    @Override
+    public int findRow(int startRow, int endRow, Predicate<@Nullable ReportPageRow> predicate) {
+        return reportPage.findRow(startRow, endRow, predicate);
+    }
+
+    @Override
+    public @Nullable ReportPageRow getRow(int i) {
+        return reportPage.getRow(i);
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return reportPage.getLastRowNum();
+    }
+
+    @Override
+    public @Nullable TableCell getCell(TableCellAddress address) {
+        return reportPage.getCell(address);
+    }
+
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Table createTable(String tableName,
+                      int tableNameRowCount,
+                      String firstDataRowPrefix,
+                      @Nullable String lastRowPrefix,
+                      Class<T> headerDescription) {
+        return tableFactory.create(this, tableName, tableNameRowCount, firstDataRowPrefix, lastRowPrefix, headerDescription);
+    }
+
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Table createTable(String tableName,
+                      int tableNameRowCount,
+                      @Nullable String lastRowPrefix,
+                      Class<T> headerDescription,
+                      int headerRowsCount) {
+        return tableFactory.create(this, tableName, tableNameRowCount, lastRowPrefix, headerDescription, headerRowsCount);
+    }
+
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Table createTable(Predicate<@Nullable Object> tableNameFinder,
+                      int tableNameRowCount,
+                      Predicate<@Nullable Object> firstDataRowFinder,
+                      @Nullable Predicate<@Nullable Object> lastRowFinder,
+                      Class<T> headerDescription) {
+        return tableFactory.create(this, tableNameFinder, tableNameRowCount, firstDataRowFinder, lastRowFinder, headerDescription);
+    }
+
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Table createTable(Predicate<@Nullable Object> tableNameFinder,
+                      int tableNameRowCount,
+                      @Nullable Predicate<@Nullable Object> lastRowFinder,
+                      Class<T> headerDescription,
+                      int headerRowsCount) {
+        return tableFactory.create(this, tableNameFinder, tableNameRowCount, lastRowFinder, headerDescription, headerRowsCount);
+    }
+
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Table createNamelessTable(String providedTableName,
+                              String headerRowPrefix,
+                              String firstDataRowPrefix,
+                              @Nullable String lastRowPrefix,
+                              Class<T> headerDescription) {
+        return tableFactory.createNameless(this, providedTableName, headerRowPrefix, firstDataRowPrefix, lastRowPrefix, headerDescription);
+    }
+
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Table createNamelessTable(String providedTableName,
+                              String headerRowPrefix,
+                              @Nullable String lastRowPrefix,
+                              Class<T> headerDescription,
+                              int headerRowsCount) {
+        return tableFactory.createNameless(this, providedTableName, headerRowPrefix, lastRowPrefix, headerDescription, headerRowsCount);
+    }
+
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Table createNamelessTable(String providedTableName,
+                              Predicate<@Nullable Object> headerRowFinder,
+                              Predicate<@Nullable Object> firstDataRowFinder,
+                              @Nullable Predicate<@Nullable Object> lastRowFinder,
+                              Class<T> headerDescription) {
+        return tableFactory.createNameless(this, providedTableName, headerRowFinder, firstDataRowFinder, lastRowFinder, headerDescription);
+    }
+
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Table createNamelessTable(String providedTableName,
+                              Predicate<@Nullable Object> headerRowFinder,
+                              @Nullable Predicate<@Nullable Object> lastRowFinder,
+                              Class<T> headerDescription,
+                              int headerRowsCount) {
+        return tableFactory.createNameless(this, providedTableName, headerRowFinder, lastRowFinder, headerDescription, headerRowsCount);
+    }
+
+    @Override
+    public List<Table> createTables(List<? extends TableSpec<?>> tableSpecs) {
+        return tableFactory.createAll(this, tableSpecs);
+    }
+
+    private static long toLong(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFF_FFFFL);
+    }
+
+    private static int getRow(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int getColumn(long address) {
+        return (int) address;
+    }
+
+    /**
+     * Searches table ranges by this report page index, creates table by the decorated report page factory.
+     */
+    private class IndexedTableFactory implements TableFactory {
+
+        @Override
+        public boolean canHandle(ReportPage reportPage) {
+            return reportPage == IndexedReportPage.this;
+        }
+
+        @Override
+        public <T extends Enum<T> & TableHeaderColumn>
+        Table create(ReportPage reportPage,
+                     String tableName,
+                     TableCellRange tableRange,
+                     Class<T> headerDescription,
+                     int headerRowsCount) {
+            ReportPage decoratedReportPage = IndexedReportPage.this.reportPage;
+            return TableFactoryRegistry.get(decoratedReportPage)
+                    .create(decoratedReportPage, tableName, tableRange, headerDescription, headerRowsCount);
+        }
+    }
+
+    /**
+     * Growable array of cell addresses
+     */
+    private static final class Postings {
+        private long[] addresses = new long[2];
+        private int size = 0;
+        private boolean sorted = true;
+
+        void add(long address) {
+            if (size == addresses.length) {
+                addresses = Arrays.copyOf(addresses, size << 1);
+            }
+            if (size > 0 && addresses[size - 1] > address) {
+                sorted = false;
+            }
+            addresses[size++] = address;
+        }
+
+        long[] toSortedArray() {
+            long[] result = (size == addresses.length) ? addresses : Arrays.copyOf(addresses, size);
+            if (!sorted) {
+                Arrays.sort(result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Case-folded prefix trie node. Node contains addresses of all cells starting with node prefix.
+     */
+    private static final class TrieNode extends CharTrieNode<TrieNode> {
+        private static final long[] NO_ADDRESSES = new long[0];
+
+        private @Nullable Postings postings = new Postings();
+        private long[] addresses = NO_ADDRESSES;
+
+        @Override
+        protected TrieNode createChild() {
+            return new TrieNode();
+        }
+
+        /**
+         * Indexes cell value prefixes, leading whitespaces are ignored
+         */
+        void index(CharSequence cellValue, long address) {
+            int start = getIndexOfNonWhitespace(cellValue);
+            if (start == -1) {
+                return;
+            }
+            int end = Math.min(cellValue.length(), start + MAX_INDEXED_PREFIX_LENGTH);
+            TrieNode node = this;
+            for (int i = start; i < end; i++) {
+                node = node.getOrCreate(foldCase(cellValue.charAt(i)));
+                @SuppressWarnings("nullness")
+                Postings nodePostings = node.postings;  // not null before freeze
+                nodePostings.add(address);
+            }
+        }
+
+        /**
+         * Trims and sorts node and its children addresses
+         */
+        void freeze() {
+            trimToSize();
+            freezeAddresses();
+        }
+
+        private void freezeAddresses() {
+            if (postings != null) {
+                addresses = postings.toSortedArray();
+                postings = null;
+            }
+            for (int i = 0, n = size(); i < n; i++) {
+                getChild(i).freezeAddresses();
+            }
+        }
+    }
+}
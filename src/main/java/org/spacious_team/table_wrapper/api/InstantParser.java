@@ -89,6 +89,12 @@ public class InstantParser {
     private final LocalTime defaultTime = LocalTime.MIDNIGHT;
     @Builder.Default
     private final ZoneId defaultZoneId = ZoneId.systemDefault();
+    /**
+     * If true, not zoned values of derived format are parsed by {@link FixedLayoutDateTimeParser}
+     * without {@link DateTimeFormatter}. Values not supported by fixed layout parser are parsed by formatter.
+     */
+    @Builder.Default
+    private final boolean fixedLayoutParsing = false;
 
     /**
      * @throws DateTimeParseException If value can't be parsed
@@ -99,20 +105,17 @@ public class InstantParser {
         }
         int length = value.length();
         if (length == 8 || length == 12) { // without and with millis
-            DateTimeFormatter formatter = getConfiguredOrParsedDateTimeFormatter(value);
-            return LocalTime.parse(value, formatter)
+            return parseLocalTime(value)
                     .atDate(getDefaultDateOrNow())
                     .atZone(defaultZoneId)
                     .toInstant();
         } else if (length == 10) {
-            DateTimeFormatter formatter = getConfiguredOrParsedDateTimeFormatter(value);
-            return LocalDate.parse(value, formatter)
+            return parseLocalDate(value)
                     .atTime(defaultTime)
                     .atZone(defaultZoneId)
                     .toInstant();
         } else if (length == 19 || length == 23) { // without and with millis
-            DateTimeFormatter formatter = getConfiguredOrParsedDateTimeFormatter(value);
-            return LocalDateTime.parse(value, formatter)
+            return parseLocalDateTime(value)
                     .atZone(defaultZoneId)
                     .toInstant();
         } else if (length > 19) {
@@ -123,6 +126,21 @@ public class InstantParser {
         throw new DateTimeParseException("Not an instant", value, 0);
     }
 
+    private LocalTime parseLocalTime(String value) {
+        @Nullable LocalTime time = fixedLayoutParsing ? FixedLayoutDateTimeParser.parseLocalTime(value) : null;
+        return (time == null) ? LocalTime.parse(value, getConfiguredOrParsedDateTimeFormatter(value)) : time;
+    }
+
+    private LocalDate parseLocalDate(String value) {
+        @Nullable LocalDate date = fixedLayoutParsing ? FixedLayoutDateTimeParser.parseLocalDate(value) : null;
+        return (date == null) ? LocalDate.parse(value, getConfiguredOrParsedDateTimeFormatter(value)) : date;
+    }
+
+    private LocalDateTime parseLocalDateTime(String value) {
+        @Nullable LocalDateTime dateTime = fixedLayoutParsing ? FixedLayoutDateTimeParser.parseLocalDateTime(value) : null;
+        return (dateTime == null) ? LocalDateTime.parse(value, getConfiguredOrParsedDateTimeFormatter(value)) : dateTime;
+    }
+
     private boolean isCustomDateTimeFormat() {
         return dateTimeFormatter != null;
     }
@@ -0,0 +1,120 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Arrays;
+
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.foldCase;
+
+/**
+ * Case-insensitive substring search of a literal word by Boyer-Moore-Horspool algorithm over case folded chars.
+ * Matches same texts as {@link java.util.regex.Pattern} compiled from the literal word with
+ * {@link java.util.regex.Pattern#CASE_INSENSITIVE} and {@link java.util.regex.Pattern#UNICODE_CASE} flags.
+ */
+@ToString(of = "word")
+@EqualsAndHashCode(of = "word")
+final class LiteralWordMatcher {
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+    private static final int SHIFT_TABLE_SIZE = 256;
+    private static final int SHIFT_TABLE_MASK = SHIFT_TABLE_SIZE - 1;
+
+    private final String word;
+    private final char[] foldedWord;
+    /**
+     * Shift by low byte of case folded text char. Chars with same low byte share minimal shift.
+     */
+    private final int[] shifts;
+
+    private LiteralWordMatcher(String word) {
+        int length = word.length();
+        char[] foldedWord = new char[length];
+        int[] shifts = new int[SHIFT_TABLE_SIZE];
+        Arrays.fill(shifts, length);
+        for (int i = 0; i < length; i++) {
+            char c = foldCase(word.charAt(i));
+            foldedWord[i] = c;
+            if (i < length - 1) {
+                shifts[c & SHIFT_TABLE_MASK] = length - 1 - i;
+            }
+        }
+        this.word = word;
+        this.foldedWord = foldedWord;
+        this.shifts = shifts;
+    }
+
+    /**
+     * @param word non-empty literal word, see {@link #isLiteral(String)}
+     */
+    static LiteralWordMatcher of(String word) {
+        if (word.isEmpty()) {
+            throw new IllegalArgumentException("Word is empty");
+        }
+        return new LiteralWordMatcher(word);
+    }
+
+    /**
+     * @return true if regex pattern has no metacharacters and matches itself literally
+     */
+    static boolean isLiteral(String pattern) {
+        for (int i = 0, n = pattern.length(); i < n; i++) {
+            if (REGEX_META_CHARS.indexOf(pattern.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String toFoldedCase(CharSequence cs) {
+        int length = cs.length();
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(foldCase(cs.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return true if text contains the word ignoring case
+     */
+    boolean find(CharSequence text) {
+        char[] foldedWord = this.foldedWord;
+        int last = foldedWord.length - 1;
+        int end = text.length() - last;
+        int i = 0;
+        while (i < end) {
+            char c = foldCase(text.charAt(i + last));
+            if (c == foldedWord[last] && regionMatches(text, i, last)) {
+                return true;
+            }
+            i += shifts[c & SHIFT_TABLE_MASK];
+        }
+        return false;
+    }
+
+    private boolean regionMatches(CharSequence text, int offset, int length) {
+        for (int j = 0; j < length; j++) {
+            if (foldCase(text.charAt(offset + j)) != foldedWord[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe {@link HeaderDescriptionCache} which holds up to max size header layouts
+ * and evicts the least recently used one.
+ * <p>
+ * Header layout keys hold copies of header cell values, so cache doesn't hold report page objects.
+ * Headers with values other than char sequences, numbers, booleans and {@link Temporal} values are not cached.
+ */
+@ToString(of = "maxSize")
+public final class LruHeaderDescriptionCache implements HeaderDescriptionCache {
+
+    private final int maxSize;
+    private final Map<HeaderLayout, Map<TableColumn, Integer>> cache;
+
+    private LruHeaderDescriptionCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size should be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<HeaderLayout, Map<TableColumn, Integer>> eldest) {
+                return size() > LruHeaderDescriptionCache.this.maxSize;
+            }
+        };
+    }
+
+    public static LruHeaderDescriptionCache of(int maxSize) {
+        return new LruHeaderDescriptionCache(maxSize);
+    }
+
+    @Override
+    public Map<TableColumn, Integer> getHeaderDescription(Class<? extends TableHeaderColumn> headerColumnClass,
+                                                          ReportPageRow[] headerRows,
+                                                          Supplier<Map<TableColumn, Integer>> headerDescriptionParser) {
+        @Nullable HeaderLayout headerLayout = HeaderLayout.of(headerColumnClass, headerRows);
+        if (headerLayout == null) {
+            return headerDescriptionParser.get();
+        }
+        @Nullable Map<TableColumn, Integer> headerDescription;
+        synchronized (cache) {
+            headerDescription = cache.get(headerLayout);
+        }
+        if (headerDescription == null) {
+            headerDescription = headerDescriptionParser.get();
+            synchronized (cache) {
+                cache.put(headerLayout, headerDescription);
+            }
+        }
+        return headerDescription;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Header description enum class and cell indices with values of header rows
+     */
+    @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+    static final class HeaderLayout {
+        private static final Integer ROW_END = -1;
+        private final Class<?> headerColumnClass;
+        private final List<@Nullable Object> cells;
+
+        private HeaderLayout(Class<?> headerColumnClass, List<@Nullable Object> cells) {
+            this.headerColumnClass = headerColumnClass;
+            this.cells = cells;
+        }
+
+        /**
+         * @return layout or null if header has values of mutable or unknown types
+         */
+        static @Nullable HeaderLayout of(Class<?> headerColumnClass, ReportPageRow[] headerRows) {
+            List<@Nullable Object> cells = new ArrayList<>();
+            for (ReportPageRow row : headerRows) {
+                for (@Nullable TableCell cell : row) {
+                    if (cell != null) {
+                        @Nullable Object value = cell.getValue();
+                        if (value instanceof CharSequence) {
+                            value = value.toString();
+                        } else if (value != null && !isImmutable(value)) {
+                            return null;
+                        }
+                        cells.add(cell.getColumnIndex());
+                        cells.add(value);
+                    }
+                }
+                cells.add(ROW_END);
+            }
+            return new HeaderLayout(headerColumnClass, cells);
+        }
+
+        private static boolean isImmutable(Object value) {
+            return value instanceof Number || value instanceof Boolean || value instanceof Character ||
+                    value instanceof Temporal;
+        }
+    }
+}
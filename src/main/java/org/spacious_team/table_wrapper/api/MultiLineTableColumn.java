@@ -19,12 +19,14 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.Arrays;
 import java.util.Objects;
 
+import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
@@ -40,6 +42,7 @@ import static lombok.AccessLevel.PRIVATE;
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = PRIVATE)
 public class MultiLineTableColumn implements TableColumn {
+    @Getter(PACKAGE)
     private final TableColumn[] rowDescriptors;
 
     /**
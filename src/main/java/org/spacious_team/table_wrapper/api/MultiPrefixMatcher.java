@@ -0,0 +1,145 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.foldCase;
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.getIndexOfNonWhitespace;
+
+/**
+ * Searches cells starting with any of many prefixes by one pass over report page. Case-folded prefix trie
+ * matches same cell values as {@link StringPrefixPredicate#ignoreCaseStringPrefixPredicateOnObject(CharSequence)}
+ * predicates of the prefixes.
+ */
+@ToString(of = "requestedPrefixes")
+final class MultiPrefixMatcher {
+    private static final int[] NO_PREFIXES = new int[0];
+
+    private final List<String> requestedPrefixes;
+    /**
+     * Distinct not empty prefixes, not stripped. Prefix id is index in this list.
+     */
+    private final List<String> prefixes;
+    private final TrieNode root = new TrieNode();
+
+    private MultiPrefixMatcher(Collection<String> prefixes) {
+        this.requestedPrefixes = Collections.unmodifiableList(new ArrayList<>(prefixes));
+        this.prefixes = new ArrayList<>(prefixes.size());
+        for (String prefix : requestedPrefixes) {
+            if (prefix != null && !prefix.isEmpty() && !this.prefixes.contains(prefix)) {
+                root.add(prefix.strip(), this.prefixes.size());
+                this.prefixes.add(prefix);
+            }
+        }
+        root.trimToSize();
+    }
+
+    /**
+     * @param prefixes null and empty elements are mapped to {@link TableCellAddress#NOT_FOUND},
+     *                 same as by {@link ReportPage#findByPrefix(String)}
+     */
+    static MultiPrefixMatcher of(Collection<String> prefixes) {
+        return new MultiPrefixMatcher(prefixes);
+    }
+
+    /**
+     * Finds first cells starting with prefixes (ignore case, trims leading spaces), see
+     * {@link ReportPage#findAllByPrefix(Collection)}.
+     */
+    Map<String, TableCellAddress> findAll(ReportPage reportPage) {
+        TableCellAddress[] addresses = new TableCellAddress[prefixes.size()];
+        Arrays.fill(addresses, TableCellAddress.NOT_FOUND);
+        int notFoundCount = prefixes.size();
+        for (int i = 0, lastRowNum = reportPage.getLastRowNum(); i <= lastRowNum && notFoundCount > 0; i++) {
+            @Nullable ReportPageRow row = reportPage.getRow(i);
+            if (row == null) {
+                continue;
+            }
+            for (@Nullable TableCell cell : row) {
+                if (cell == null) {
+                    continue;
+                }
+                @Nullable Object value = cell.getValue();
+                if (!(value instanceof CharSequence)) {
+                    continue;
+                }
+                CharSequence cs = (CharSequence) value;
+                int start = getIndexOfNonWhitespace(cs);
+                if (start == -1) {
+                    continue;
+                }
+                int column = cell.getColumnIndex();
+                TrieNode node = root;
+                for (int j = start, n = cs.length(); ; j++) {
+                    for (int id : node.prefixIds) {
+                        TableCellAddress address = addresses[id];
+                        if (address == TableCellAddress.NOT_FOUND) {
+                            addresses[id] = TableCellAddress.of(i, column);
+                            notFoundCount--;
+                        } else if (address.getRow() == i && address.getColumn() > column) {
+                            addresses[id] = TableCellAddress.of(i, column);  // row cells are not ordered
+                        }
+                    }
+                    @Nullable TrieNode child;
+                    if (j == n || (child = node.get(foldCase(cs.charAt(j)))) == null) {
+                        break;
+                    }
+                    node = child;
+                }
+            }
+        }
+        Map<String, TableCellAddress> result = new LinkedHashMap<>();
+        for (String prefix : requestedPrefixes) {
+            int id = prefixes.indexOf(prefix);
+            result.put(prefix, (id == -1) ? TableCellAddress.NOT_FOUND : addresses[id]);
+        }
+        return result;
+    }
+
+    /**
+     * Case-folded prefix trie node. Node contains ids of prefixes ending at this node.
+     */
+    private static final class TrieNode extends CharTrieNode<TrieNode> {
+        private int[] prefixIds = NO_PREFIXES;
+
+        @Override
+        protected TrieNode createChild() {
+            return new TrieNode();
+        }
+
+        void add(String strippedPrefix, int prefixId) {
+            TrieNode node = this;
+            for (int i = 0, n = strippedPrefix.length(); i < n; i++) {
+                node = node.getOrCreate(foldCase(strippedPrefix.charAt(i)));
+            }
+            int[] ids = Arrays.copyOf(node.prefixIds, node.prefixIds.length + 1);
+            ids[ids.length - 1] = prefixId;
+            node.prefixIds = ids;
+        }
+    }
+}
@@ -20,17 +20,23 @@ package org.spacious_team.table_wrapper.api;
 
 import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import lombok.ToString;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
-import static java.util.Objects.requireNonNull;
 
 /**
  * Mutable implementation. Used by {@link AbstractTable#iterator()} and {@link AbstractTable#stream()} to eliminate
@@ -46,25 +52,66 @@ class MutableTableRow<C, R extends ReportPageRow> implements TableRow {
     private final Table table;
     private final CellDataAccessObject<C, R> dao;
 
-    @Setter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.NONE)
     private volatile R row;
 
+    /**
+     * Result of last cell DAO comparison with {@link #dao} and current row cells rewrapped with {@link #dao}.
+     * Not shared between clones.
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient @Nullable CellDaoMemo<C, R> cellDaoMemo;
+
+    /**
+     * Column of last cell value access, used to report row extractor errors by {@link ErrorSink}
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.NONE)
+    private transient @Nullable TableHeaderColumn lastAccessedColumn;
+
+    void setRow(R row) {
+        this.row = row;
+        this.lastAccessedColumn = null;
+        @Nullable CellDaoMemo<C, R> memo = cellDaoMemo;
+        if (memo != null) {
+            memo.clearRewrappedCells();
+        }
+    }
+
     @Override
     public @Nullable TableCell getCell(TableHeaderColumn column) {
         return getCell(getCellIndex(column));
     }
 
+    @Override
+    public @Nullable TableCell getCellOrNull(TableHeaderColumn column) {
+        int cellIndex = findCellIndex(column);
+        return (cellIndex == -1) ? null : getCell(cellIndex);
+    }
+
     @Override
     public @Nullable TableCell getCell(int i) {
+        @Nullable CellDaoMemo<C, R> memo = cellDaoMemo;
+        @Nullable TableCell rewrappedCell = (memo == null) ? null : memo.getRewrappedCell(i);
+        if (rewrappedCell != null) {
+            return rewrappedCell;
+        }
         @Nullable TableCell cell = row.getCell(i);
-        return updateCellDataAccessObject(cell);
+        return updateCellDataAccessObject(cell, i);
     }
 
-    private @Nullable TableCell updateCellDataAccessObject(@Nullable TableCell cell) {
+    private @Nullable TableCell updateCellDataAccessObject(@Nullable TableCell cell, int columnIndex) {
         if (cell instanceof AbstractTableCell) {
+            @Nullable CellDaoMemo<C, R> memo = cellDaoMemo;
+            if (memo == null) {
+                memo = cellDaoMemo = new CellDaoMemo<>(dao);
+            }
             // hopes, dao is compatible
             //noinspection unchecked
-            cell = ((AbstractTableCell<C, CellDataAccessObject<C, R>>) cell).withCellDataAccessObject(dao);
+            return memo.getCell((AbstractTableCell<C, CellDataAccessObject<C, R>>) cell, columnIndex);
         }
         return cell;
     }
@@ -101,7 +148,7 @@ class MutableTableRow<C, R extends ReportPageRow> implements TableRow {
             @Override
             public @Nullable TableCell next() {
                 @Nullable TableCell cell = it.next();
-                return updateCellDataAccessObject(cell);
+                return (cell == null) ? null : updateCellDataAccessObject(cell, cell.getColumnIndex());
             }
         };
     }
@@ -151,12 +198,49 @@ class MutableTableRow<C, R extends ReportPageRow> implements TableRow {
         return dao.getLocalDateTimeValue(row, getCellIndex(column), zoneId);
     }
 
+    @Override
+    public OptionalInt tryGetIntCellValue(TableHeaderColumn column) {
+        int cellIndex = findCellIndex(column);
+        return (cellIndex == -1) ? OptionalInt.empty() : dao.tryGetIntValue(row, cellIndex);
+    }
+
+    @Override
+    public OptionalLong tryGetLongCellValue(TableHeaderColumn column) {
+        int cellIndex = findCellIndex(column);
+        return (cellIndex == -1) ? OptionalLong.empty() : dao.tryGetLongValue(row, cellIndex);
+    }
+
+    @Override
+    public OptionalDouble tryGetDoubleCellValue(TableHeaderColumn column) {
+        int cellIndex = findCellIndex(column);
+        return (cellIndex == -1) ? OptionalDouble.empty() : dao.tryGetDoubleValue(row, cellIndex);
+    }
+
+    @Override
+    public @Nullable BigDecimal tryGetBigDecimalCellValue(TableHeaderColumn column) {
+        int cellIndex = findCellIndex(column);
+        return (cellIndex == -1) ? null : dao.tryGetBigDecimalValue(row, cellIndex);
+    }
+
     private int getCellIndex(TableHeaderColumn column) {
+        int cellIndex = findCellIndex(column);
+        if (cellIndex == -1) {
+            throw new NullPointerException("Cell is not found");
+        }
+        return cellIndex;
+    }
+
+    /**
+     * @return cell index or -1 if column is not found
+     */
+    private int findCellIndex(TableHeaderColumn column) {
+        lastAccessedColumn = column;
+        if (table instanceof AbstractTable) {
+            return ((AbstractTable<?, ?>) table).getCellIndex(column);
+        }
         @Nullable Integer cellIndex = table.getHeaderDescription()
                 .get(column.getColumn());
-        @SuppressWarnings("nullness")
-        int cell = requireNonNull(cellIndex, "Cell is not found");
-        return cell;
+        return (cellIndex == null) ? -1 : cellIndex;
     }
 
     /**
@@ -169,6 +253,66 @@ class MutableTableRow<C, R extends ReportPageRow> implements TableRow {
     @SneakyThrows
     @SuppressWarnings("unchecked")
     public MutableTableRow<C, R> clone() {
-        return (MutableTableRow<C, R>) super.clone();
+        MutableTableRow<C, R> clone = (MutableTableRow<C, R>) super.clone();
+        clone.cellDaoMemo = null;
+        return clone;
+    }
+
+    /**
+     * Avoids comparing {@link CellDataAccessObject}s by equals() for each cell,
+     * report page rows usually return cells with the same DAO object.
+     * Cells with other DAO are rewrapped once per column of current row.
+     */
+    private static final class CellDaoMemo<C, R extends ReportPageRow> {
+        private static final @Nullable TableCell[] NO_CELLS = {};
+
+        private final CellDataAccessObject<C, R> dao;
+        private @Nullable Object lastCellDao;
+        private boolean isLastCellDaoEqual;
+        /**
+         * Current row cells rewrapped with {@link #dao}, indexed by column index
+         */
+        private @Nullable TableCell[] rewrappedCells = NO_CELLS;
+        private boolean hasRewrappedCells;
+
+        CellDaoMemo(CellDataAccessObject<C, R> dao) {
+            this.dao = dao;
+        }
+
+        TableCell getCell(AbstractTableCell<C, CellDataAccessObject<C, R>> cell, int columnIndex) {
+            CellDataAccessObject<C, R> cellDao = cell.getCellDataAccessObject();
+            if (cellDao != lastCellDao) {
+                lastCellDao = cellDao;
+                isLastCellDaoEqual = Objects.equals(cellDao, dao);
+            }
+            if (isLastCellDaoEqual) {
+                return cell;
+            }
+            @Nullable TableCell rewrappedCell = getRewrappedCell(columnIndex);
+            if (rewrappedCell == null) {
+                rewrappedCell = cell.withCellDataAccessObject(dao);
+                if (columnIndex >= 0) {
+                    if (columnIndex >= rewrappedCells.length) {
+                        int capacity = Math.max(columnIndex + 1, rewrappedCells.length << 1);
+                        rewrappedCells = Arrays.copyOf(rewrappedCells, capacity);
+                    }
+                    rewrappedCells[columnIndex] = rewrappedCell;
+                    hasRewrappedCells = true;
+                }
+            }
+            return rewrappedCell;
+        }
+
+        @Nullable
+        TableCell getRewrappedCell(int columnIndex) {
+            return (columnIndex >= 0 && columnIndex < rewrappedCells.length) ? rewrappedCells[columnIndex] : null;
+        }
+
+        void clearRewrappedCells() {
+            if (hasRewrappedCells) {
+                Arrays.fill(rewrappedCells, null);
+                hasRewrappedCells = false;
+            }
+        }
     }
 }
@@ -0,0 +1,337 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.NoArgsConstructor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Parses numbers from cell text without regex, intermediate strings or exception driven control flow.
+ * <p>
+ * Whitespaces, no-break spaces and apostrophes are treated as thousands separators and skipped at any position.
+ * Both '.' and ',' are accepted as decimal separator. Rare number formats (exponent for long values,
+ * "NaN", "Infinity", hex floats and so on) are delegated to JDK parsers.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class NumberCellParser {
+
+    private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final int MAX_EXPONENT = 10_000;
+
+    /**
+     * @throws NumberFormatException if text is not an integer number or long overflow
+     */
+    public static long parseLong(CharSequence cs) {
+        int length = cs.length();
+        int i = skipIgnorable(cs, 0);
+        boolean negative = false;
+        if (i < length && isSign(cs.charAt(i))) {
+            negative = (cs.charAt(i) == '-');
+            i++;
+        }
+        // accumulating negatively as Long.parseLong() does to handle Long.MIN_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        boolean hasDigits = false;
+        for (; i < length; i++) {
+            char c = cs.charAt(i);
+            if (isIgnorable(c)) {
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw numberFormatException(cs);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(cs);
+            }
+            result -= digit;
+            hasDigits = true;
+        }
+        if (!hasDigits) {
+            throw numberFormatException(cs);
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses decimal number. Numbers with significand (all digits without decimal separator) not greater than 2^53
+     * and decimal exponent up to 22 are computed exactly by double arithmetic,
+     * other values are delegated to {@link Double#parseDouble(String)}.
+     *
+     * @throws NumberFormatException if text is not a number
+     */
+    public static double parseDouble(CharSequence cs) {
+        int length = cs.length();
+        int i = skipIgnorable(cs, 0);
+        boolean negative = false;
+        if (i < length && isSign(cs.charAt(i))) {
+            negative = (cs.charAt(i) == '-');
+            i++;
+        }
+        long significand = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean hasSeparator = false;
+        boolean isExact = true;
+        for (; i < length; i++) {
+            char c = cs.charAt(i);
+            if (isIgnorable(c)) {
+                continue;
+            }
+            int digit = c - '0';
+            if (digit >= 0 && digit <= 9) {
+                hasDigits = true;
+                if (significand < MAX_EXACT_DOUBLE_SIGNIFICAND) {
+                    significand = significand * 10 + digit;
+                    if (hasSeparator) {
+                        exponent--;
+                    }
+                } else {
+                    isExact = false;
+                    break;
+                }
+            } else if (isDecimalSeparator(c) && !hasSeparator) {
+                hasSeparator = true;
+            } else if ((c == 'e' || c == 'E') && hasDigits) {
+                int exponentEnd = parseExponent(cs, i + 1);
+                if (exponentEnd == -1) {
+                    isExact = false;
+                    break;
+                }
+                exponent += getExponent(cs, i + 1);
+                i = exponentEnd;
+            } else {
+                isExact = false;
+                break;
+            }
+        }
+        if (isExact && hasDigits && significand <= MAX_EXACT_DOUBLE_SIGNIFICAND && Math.abs(exponent) < POWERS_OF_TEN.length) {
+            double value = (exponent < 0) ?
+                    significand / POWERS_OF_TEN[-exponent] :
+                    significand * POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(normalize(cs));
+    }
+
+    /**
+     * Parses decimal number. Zero with up to 2 decimal places is returned as {@link BigDecimal#ZERO}.
+     *
+     * @throws NumberFormatException if text is not a number
+     */
+    public static BigDecimal parseBigDecimal(CharSequence cs) {
+        int length = cs.length();
+        int i = skipIgnorable(cs, 0);
+        boolean negative = false;
+        if (i < length && isSign(cs.charAt(i))) {
+            negative = (cs.charAt(i) == '-');
+            i++;
+        }
+        long unscaled = 0;
+        int scale = 0;
+        boolean hasDigits = false;
+        boolean hasSeparator = false;
+        for (; i < length; i++) {
+            char c = cs.charAt(i);
+            if (isIgnorable(c)) {
+                continue;
+            }
+            int digit = c - '0';
+            if (digit >= 0 && digit <= 9 && unscaled < Long.MAX_VALUE / 10) {
+                hasDigits = true;
+                unscaled = unscaled * 10 + digit;
+                if (hasSeparator) {
+                    scale++;
+                }
+            } else if (isDecimalSeparator(c) && !hasSeparator) {
+                hasSeparator = true;
+            } else {
+                return new BigDecimal(normalize(cs));
+            }
+        }
+        if (!hasDigits) {
+            return new BigDecimal(normalize(cs));
+        } else if (unscaled == 0 && scale <= 2) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    /**
+     * Parses integer number without throwing exception for not a number text.
+     *
+     * @return empty if text is not an integer number or long overflow
+     */
+    public static OptionalLong tryParseLong(CharSequence cs) {
+        if (!isDecimalNumber(cs, false)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(parseLong(cs));
+        } catch (NumberFormatException e) {  // long overflow
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Parses decimal number without throwing exception for not a number text.
+     * Unlike {@link #parseDouble(CharSequence)} rare formats ("NaN", "Infinity", hex floats) are not parsed.
+     *
+     * @return empty if text is not a decimal number
+     */
+    public static OptionalDouble tryParseDouble(CharSequence cs) {
+        return isDecimalNumber(cs, true) ?
+                OptionalDouble.of(parseDouble(cs)) :
+                OptionalDouble.empty();
+    }
+
+    /**
+     * Parses decimal number without throwing exception for not a number text.
+     *
+     * @return null if text is not a decimal number
+     */
+    public static @Nullable BigDecimal tryParseBigDecimal(CharSequence cs) {
+        if (!isDecimalNumber(cs, true)) {
+            return null;
+        }
+        try {
+            return parseBigDecimal(cs);
+        } catch (NumberFormatException e) {  // exponent overflow
+            return null;
+        }
+    }
+
+    /**
+     * Checks number syntax: optional sign, digits, decimal separator and exponent.
+     * Ignorable chars are accepted at any position.
+     *
+     * @param isDecimal if false, decimal separator and exponent are not accepted
+     */
+    private static boolean isDecimalNumber(CharSequence cs, boolean isDecimal) {
+        int length = cs.length();
+        int i = skipIgnorable(cs, 0);
+        if (i < length && isSign(cs.charAt(i))) {
+            i++;
+        }
+        boolean hasDigits = false;
+        boolean hasSeparator = false;
+        for (; i < length; i++) {
+            char c = cs.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigits = true;
+            } else if (isDecimal && isDecimalSeparator(c) && !hasSeparator) {
+                hasSeparator = true;
+            } else if (isDecimal && (c == 'e' || c == 'E') && hasDigits) {
+                return parseExponent(cs, i + 1) != -1;
+            } else if (!isIgnorable(c)) {
+                return false;
+            }
+        }
+        return hasDigits;
+    }
+
+    /**
+     * @return index of the char following exponent or -1 if exponent is not found or ends not at the end of text
+     */
+    private static int parseExponent(CharSequence cs, int start) {
+        int length = cs.length();
+        int i = skipIgnorable(cs, start);
+        if (i < length && isSign(cs.charAt(i))) {
+            i++;
+        }
+        boolean hasDigits = false;
+        for (; i < length; i++) {
+            char c = cs.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigits = true;
+            } else if (!isIgnorable(c)) {
+                return -1;
+            }
+        }
+        return hasDigits ? i : -1;
+    }
+
+    /**
+     * @return exponent value, capped to avoid overflow, of validated by {@link #parseExponent(CharSequence, int)} text
+     */
+    private static int getExponent(CharSequence cs, int start) {
+        int i = skipIgnorable(cs, start);
+        boolean negative = (cs.charAt(i) == '-');
+        int exponent = 0;
+        for (int length = cs.length(); i < length; i++) {
+            char c = cs.charAt(i);
+            if (c >= '0' && c <= '9' && exponent < MAX_EXPONENT) {
+                exponent = exponent * 10 + (c - '0');
+            }
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * @return text without ignorable chars and with '.' decimal separator
+     */
+    private static String normalize(CharSequence cs) {
+        int length = cs.length();
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char c = cs.charAt(i);
+            if (!isIgnorable(c)) {
+                sb.append((c == ',') ? '.' : c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int skipIgnorable(CharSequence cs, int start) {
+        int i = start;
+        int length = cs.length();
+        while (i < length && isIgnorable(cs.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isIgnorable(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\'';
+    }
+
+    private static boolean isSign(char c) {
+        return c == '-' || c == '+';
+    }
+
+    private static boolean isDecimalSeparator(char c) {
+        return c == '.' || c == ',';
+    }
+
+    private static NumberFormatException numberFormatException(CharSequence cs) {
+        return new NumberFormatException("For input string: \"" + cs + "\"");
+    }
+}
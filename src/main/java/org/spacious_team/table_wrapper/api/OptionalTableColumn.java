@@ -19,15 +19,18 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
 
 @ToString(of = "column")
 @EqualsAndHashCode(of = "column")
 @RequiredArgsConstructor(access = PRIVATE)
 public class OptionalTableColumn implements TableColumn {
+    @Getter(PACKAGE)
     private final TableColumn column;
     private final AnyOfTableColumn anyOfTableColumn;
 
@@ -19,6 +19,7 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -30,17 +31,25 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static java.util.regex.Pattern.*;
+import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
  * Finds cell column index by case-insensitive checks by all the predefined regexp patterns.
+ * Words without regexp metacharacters are searched as plain substrings without regexp engine.
  */
 @ToString(of = "words")
 @EqualsAndHashCode(of = "words")
 @RequiredArgsConstructor(access = PRIVATE)
 public class PatternTableColumn implements TableColumn {
+    @Getter(PACKAGE)
     private final Pattern[] patterns;
     private final Set<String> words;
+    private final LiteralWordMatcher[] literalWords;
+    /**
+     * Patterns of non-literal words
+     */
+    private final Pattern[] regexPatterns;
 
     /**
      * Cell text should match to all regexp patterns.
@@ -61,7 +70,14 @@ public class PatternTableColumn implements TableColumn {
         if (patterns.length == 0) {
             return LEFTMOST_COLUMN;
         }
-        return new PatternTableColumn(patterns, nonNullWords);
+        LiteralWordMatcher[] literalWords = nonNullWords.stream()
+                .filter(LiteralWordMatcher::isLiteral)
+                .map(LiteralWordMatcher::of)
+                .toArray(LiteralWordMatcher[]::new);
+        Pattern[] regexPatterns = Arrays.stream(patterns)
+                .filter(pattern -> !LiteralWordMatcher.isLiteral(pattern.pattern()))
+                .toArray(Pattern[]::new);
+        return new PatternTableColumn(patterns, nonNullWords, literalWords, regexPatterns);
     }
 
     public int getColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
@@ -81,7 +97,12 @@ public class PatternTableColumn implements TableColumn {
     }
 
     private boolean matches(CharSequence cellText) {
-        for (Pattern pattern : patterns) {
+        for (LiteralWordMatcher literalWord : literalWords) {
+            if (!literalWord.find(cellText)) {
+                return false;
+            }
+        }
+        for (Pattern pattern : regexPatterns) {
             if (!pattern.matcher(cellText).find()) {
                 return false;
             }
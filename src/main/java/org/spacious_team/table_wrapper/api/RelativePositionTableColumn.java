@@ -20,14 +20,19 @@ package org.spacious_team.table_wrapper.api;
 
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import static lombok.AccessLevel.PACKAGE;
+
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(staticName = "of")
 public class RelativePositionTableColumn implements TableColumn {
+    @Getter(PACKAGE)
     private final TableColumn column;
+    @Getter(PACKAGE)
     private final int positionOffset;
 
     @Override
@@ -20,10 +20,15 @@ package org.spacious_team.table_wrapper.api;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.getIndexOfNonWhitespace;
 import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.ignoreCaseStringPrefixPredicateOnObject;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
@@ -161,6 +166,16 @@ public interface ReportPage {
                 find(startRow, endRow, startColumn, endColumn, ignoreCaseStringPrefixPredicateOnObject(prefix));
     }
 
+    /**
+     * Finds cell addresses staring with values (ignore case, trims leading spaces) by one pass over report page.
+     * Result for each prefix is the same as of {@link #findByPrefix(String)}.
+     *
+     * @return prefix to cell address or {@link TableCellAddress#NOT_FOUND} map, in order of prefixes collection
+     */
+    default Map<String, TableCellAddress> findAllByPrefix(Collection<String> prefixes) {
+        return MultiPrefixMatcher.of(prefixes).findAll(this);
+    }
+
     /**
      * Returns the zero-based index of the first row that matches the predicate.
      *
@@ -207,7 +222,33 @@ public interface ReportPage {
      * @param searchColumnMaxOffset positive or negative max column offset
      */
     default @Nullable Object getNextColumnValue(String keyPrefix, int searchColumnMinOffset, int searchColumnMaxOffset) {
-        TableCellAddress address = findByPrefix(keyPrefix);
+        return getNextColumnValue(findByPrefix(keyPrefix), searchColumnMinOffset, searchColumnMaxOffset);
+    }
+
+    /**
+     * Bulk version of {@link #getNextColumnValue(String)}, keys are searched by one pass over report page.
+     *
+     * @return key prefix to value map, in order of key prefixes collection
+     */
+    default Map<String, @Nullable Object> getNextColumnValues(Collection<String> keyPrefixes) {
+        return getNextColumnValues(keyPrefixes, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Bulk version of {@link #getNextColumnValue(String, int, int)}, keys are searched by one pass over report page.
+     *
+     * @return key prefix to value map, in order of key prefixes collection
+     */
+    default Map<String, @Nullable Object> getNextColumnValues(Collection<String> keyPrefixes,
+                                                              int searchColumnMinOffset,
+                                                              int searchColumnMaxOffset) {
+        Map<String, @Nullable Object> values = new LinkedHashMap<>();
+        findAllByPrefix(keyPrefixes).forEach((keyPrefix, address) ->
+                values.put(keyPrefix, getNextColumnValue(address, searchColumnMinOffset, searchColumnMaxOffset)));
+        return values;
+    }
+
+    private @Nullable Object getNextColumnValue(TableCellAddress address, int searchColumnMinOffset, int searchColumnMaxOffset) {
         @Nullable ReportPageRow row = getRow(address.getRow());
         if (row != null) {
             int keyColumnIndex = address.getColumn();
@@ -219,7 +260,7 @@ public interface ReportPage {
                 @Nullable TableCell cell = row.getCell(i);
                 if (cell != null) {
                     @Nullable Object value = cell.getValue();
-                    if (value != null && (!(value instanceof String) || !((String) value).isBlank())) {
+                    if (value != null && (!(value instanceof CharSequence) || getIndexOfNonWhitespace((CharSequence) value) != -1)) {
                         return value;
                     }
                 }
@@ -271,7 +312,7 @@ public interface ReportPage {
                 @Nullable TableCell cell = row.getCell(keyColIndex);
                 if (cell != null) {
                     @Nullable Object value = cell.getValue();
-                    if (value != null && (!(value instanceof String) || !((String) value).isBlank())) {
+                    if (value != null && (!(value instanceof CharSequence) || getIndexOfNonWhitespace((CharSequence) value) != -1)) {
                         return value;
                     }
                 }
@@ -466,4 +507,15 @@ public interface ReportPage {
         return TableFactoryRegistry.get(this)
                 .createNameless(this, providedTableName, headerRowFinder, lastRowFinder, headerDescription, headerRowsCount);
     }
+
+    /**
+     * Creates tables by single report page pass.
+     *
+     * @return tables in the {@code tableSpecs} order
+     * @see TableFactory#createAll(ReportPage, List)
+     */
+    default List<Table> createTables(List<? extends TableSpec<?>> tableSpecs) {
+        return TableFactoryRegistry.get(this)
+                .createAll(this, tableSpecs);
+    }
 }
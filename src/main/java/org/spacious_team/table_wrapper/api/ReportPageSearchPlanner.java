@@ -0,0 +1,130 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Plans {@link ReportPage} cell searches by row extents. Extents of all rows are recorded by one pass
+ * over report page rows (cells are not read), subsequent searches skip rows without cells and scan only
+ * columns between {@link ReportPageRow#getFirstCellNum()} and {@link ReportPageRow#getLastCellNum()}
+ * bounded by search range. Useful for {@link ReportPage#find(Object, int, int, int, int)} and
+ * {@link ReportPage#find(int, int, int, int, Predicate)} implementations of sparse report pages.
+ *
+ * @apiNote The report page should not be modified after the planner is built.
+ */
+@ToString(of = "reportPage")
+public final class ReportPageSearchPlanner {
+
+    private final ReportPage reportPage;
+    private final BitSet populatedRows;
+    private final int[] firstCellNums;
+    private final int[] lastCellNums;
+
+    private ReportPageSearchPlanner(ReportPage reportPage) {
+        int rowCount = Math.max(0, reportPage.getLastRowNum() + 1);
+        this.reportPage = reportPage;
+        this.populatedRows = new BitSet(rowCount);
+        this.firstCellNums = new int[rowCount];
+        this.lastCellNums = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            @Nullable ReportPageRow row = reportPage.getRow(i);
+            if (row != null) {
+                int firstCellNum = Math.max(0, row.getFirstCellNum());
+                int lastCellNum = row.getLastCellNum();
+                if (lastCellNum >= firstCellNum) {
+                    populatedRows.set(i);
+                    firstCellNums[i] = firstCellNum;
+                    lastCellNums[i] = lastCellNum;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records row extents of report page. Reads all report page rows, but not cells.
+     */
+    public static ReportPageSearchPlanner of(ReportPage reportPage) {
+        return new ReportPageSearchPlanner(reportPage);
+    }
+
+    /**
+     * @return zero-based number of the first row containing cells starting from {@code fromRow},
+     * or -1 if no such row exists
+     */
+    public int nextPopulatedRow(int fromRow) {
+        return populatedRows.nextSetBit(Math.max(0, fromRow));
+    }
+
+    /**
+     * @return first cell number of populated row, or -1 if row doesn't contain cells
+     */
+    public int getFirstCellNum(int row) {
+        return isPopulated(row) ? firstCellNums[row] : -1;
+    }
+
+    /**
+     * @return last cell number of populated row, or -1 if row doesn't contain cells
+     */
+    public int getLastCellNum(int row) {
+        return isPopulated(row) ? lastCellNums[row] : -1;
+    }
+
+    private boolean isPopulated(int row) {
+        return row >= 0 && populatedRows.get(row);
+    }
+
+    /**
+     * Finds cell address containing exact value, see {@link ReportPage#find(Object, int, int, int, int)}.
+     */
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return find(startRow, endRow, startColumn, endColumn, value::equals);
+    }
+
+    /**
+     * Finds cell by predicate, see {@link ReportPage#find(int, int, int, int, Predicate)}.
+     * Rows are scanned in ascending order, cells of row are scanned in ascending column order.
+     */
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<@Nullable Object> cellValuePredicate) {
+        for (int i = nextPopulatedRow(startRow); i != -1 && i < endRow; i = populatedRows.nextSetBit(i + 1)) {
+            int firstColumn = Math.max(startColumn, firstCellNums[i]);
+            // long for overflow protection
+            int lastColumn = (int) Math.min(((long) endColumn) - 1, lastCellNums[i]);
+            if (firstColumn > lastColumn) {
+                continue;
+            }
+            @Nullable ReportPageRow row = reportPage.getRow(i);
+            if (row == null) {
+                continue;
+            }
+            for (int j = firstColumn; j <= lastColumn; j++) {
+                @Nullable TableCell cell = row.getCell(j);
+                if (cell != null && cellValuePredicate.test(cell.getValue())) {
+                    return TableCellAddress.of(i, j);
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Forward-only report page. Rows are read one by one and are not kept by the page,
+ * so the whole report page is never held in memory.
+ *
+ * @see StreamingTable
+ */
+public interface StreamingReportPage<R extends ReportPageRow> {
+
+    /**
+     * Returns the next row. Rows are returned in ascending {@link ReportPageRow#getRowNum()} order.
+     * Absent rows may be skipped, they are treated as empty rows.
+     *
+     * @return next row or null if there are no more rows
+     */
+    @Nullable
+    R nextRow();
+}
@@ -0,0 +1,495 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+import static org.spacious_team.table_wrapper.api.TableFactoryHelper.TABLE_NAME_NOT_FOUND;
+
+/**
+ * Forward-only table of {@link StreamingReportPage}. The table is found by {@link TableSpec}
+ * with the same semantics as {@link TableFactory} create methods. Table header is parsed on table creation,
+ * data rows are read from report page while table is iterated. Table can be iterated only once.
+ * <p>
+ * Only table name and header rows and one data row are held in memory.
+ * If the table first data row is searched by predicate, all rows from table name to first data row are held.
+ * <p>
+ * Differences from {@link AbstractTable}:
+ * <ul>
+ *     <li>random access methods and {@link #getColumnReaders(Class, int)} throw {@link UnsupportedOperationException};</li>
+ *     <li>{@link #subTable(int, int)} can't include rows above table data rows, because they are already released;</li>
+ *     <li>if last row predicate is not found, table ends with the last report page row
+ *     (report page tables are empty in this case).</li>
+ * </ul>
+ */
+@ToString(of = {"tableName"})
+public class StreamingTable<R extends ReportPageRow, C> implements Table {
+
+    @Getter
+    private final String tableName;
+    @Getter
+    private final Map<TableColumn, Integer> headerDescription;
+    @Getter
+    private final boolean empty;
+    private final CellDataAccessObject<C, R> dao;
+    private final TableRowReader<R> reader;
+    /**
+     * Zero or negative value, number of data rows added to table top
+     */
+    private final int dataRowsToTop;
+    /**
+     * Number of data rows added to table bottom
+     */
+    private final int dataRowsToBottom;
+    private boolean iterated = false;
+
+    private <T extends Enum<T> & TableHeaderColumn>
+    StreamingTable(StreamingReportPage<R> reportPage, TableSpec<T> tableSpec, CellDataAccessObject<C, R> dao) {
+        this.dao = dao;
+        this.reader = new TableRowReader<>(reportPage, tableSpec.getLastRowFinder());
+        @Nullable Predicate<@Nullable Object> tableNameFinder = tableSpec.getTableNameFinder();
+        @Nullable R tableNameRow = (tableNameFinder == null) ? null : reader.findTableNameRow(tableNameFinder);
+        @Nullable String specTableName = tableSpec.getTableName();
+        if (specTableName != null) {
+            this.tableName = specTableName;
+        } else if (tableNameRow != null && tableNameFinder != null) {
+            this.tableName = TableFactoryHelper.getTableName(tableNameRow, tableNameFinder);
+        } else {
+            this.tableName = TABLE_NAME_NOT_FOUND;
+        }
+        this.empty = (tableNameRow == null) || !reader.locateTable(tableNameRow, tableSpec);
+        this.headerDescription = empty ?
+                Collections.emptyMap() :
+                AbstractTable.getHeaderDescription(reader.getHeaderRows(tableSpec), tableSpec.getHeaderDescription());
+        reader.releaseHeaderRows(empty);
+        this.dataRowsToTop = 0;
+        this.dataRowsToBottom = 0;
+    }
+
+    /**
+     * Creates table using rows reader of {@code table}, so {@code table} can't be iterated after that.
+     *
+     * @param appendDataRowsToTop    zero or negative value
+     * @param appendDataRowsToBottom positive or negative value
+     */
+    private StreamingTable(StreamingTable<R, C> table, int appendDataRowsToTop, int appendDataRowsToBottom) {
+        table.markIterated();
+        this.tableName = table.tableName;
+        this.headerDescription = table.headerDescription;
+        this.dao = table.dao;
+        this.reader = table.reader;
+        this.dataRowsToTop = table.dataRowsToTop + appendDataRowsToTop;
+        this.dataRowsToBottom = table.dataRowsToBottom + appendDataRowsToBottom;
+        this.empty = table.empty || !reader.isTableRow(reader.dataRowNum - dataRowsToTop, dataRowsToBottom);
+    }
+
+    /**
+     * Finds table in the report page. Table header rows are parsed on table creation,
+     * data rows are read from report page on table iteration.
+     *
+     * @param dao cell data access object used by table rows
+     */
+    public static <R extends ReportPageRow, C, T extends Enum<T> & TableHeaderColumn>
+    StreamingTable<R, C> of(StreamingReportPage<R> reportPage, TableSpec<T> tableSpec, CellDataAccessObject<C, R> dao) {
+        return new StreamingTable<>(reportPage, tableSpec, dao);
+    }
+
+    /**
+     * @throws UnsupportedOperationException streaming table has no random access report page
+     */
+    @Override
+    public ReportPage getReportPage() {
+        throw new UnsupportedOperationException("Streaming table has no random access report page");
+    }
+
+    @Override
+    public <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor) {
+        return AbstractTable.collectData(this, tableName, report, (TableRow row, Collection<T> data) -> {
+            @Nullable T result = rowExtractor.apply(row);
+            if (result != null) {
+                data.add(result);
+            }
+        });
+    }
+
+    @Override
+    public <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor, ErrorSink errorSink) {
+        return AbstractTable.collectData(this, tableName, report, (TableRow row, Collection<T> data) ->
+                AbstractTable.addRowData(row, rowExtractor, errorSink, data));
+    }
+
+    @Override
+    public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor) {
+        return AbstractTable.collectData(this, tableName, report, (TableRow row, Collection<T> data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                data.addAll(result);
+            }
+        });
+    }
+
+    @Override
+    public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                         BiPredicate<T, T> equalityChecker,
+                                         BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates) {
+        return AbstractTable.collectData(this, tableName, report, (TableRow row, Collection<T> data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                for (T r : result) {
+                    AbstractTable.addWithEqualityChecker(r, data, equalityChecker, mergeDuplicates);
+                }
+            }
+        });
+    }
+
+    /**
+     * {@link TableRow} impl is mutable.
+     * For performance issue same object with changed state is provided in each loop cycle.
+     * Call {@link TableRow#clone()} if you want to use row object outside stream() block.
+     *
+     * @throws IllegalStateException if table is already iterated
+     */
+    @Override
+    public Stream<@Nullable TableRow> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Iterator which returns {@link MutableTableRow} or {@link EmptyTableRow}.
+     *
+     * @throws IllegalStateException if table is already iterated
+     * @implNote For performance issue same object with changed state is provided in each loop cycle.
+     * Call {@link TableRow#clone()} if you want to use row object outside iterator() block.
+     */
+    @Override
+    public Iterator<TableRow> iterator() {
+        markIterated();
+        return new StreamingTableIterator();
+    }
+
+    private void markIterated() {
+        if (iterated) {
+            throw new IllegalStateException("Streaming table can be iterated only once");
+        }
+        iterated = true;
+    }
+
+    private class StreamingTableIterator implements Iterator<TableRow> {
+        private final MutableTableRow<C, R> tableRow = new MutableTableRow<>(StreamingTable.this, dao);
+        private int i = reader.dataRowNum - dataRowsToTop;
+
+        @Override
+        public boolean hasNext() {
+            return !empty && reader.isTableRow(i, dataRowsToBottom);
+        }
+
+        /**
+         * Returns mutable {@link TableRow} impl. Never returns null value.
+         */
+        @Override
+        public TableRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int rowNum = i++;
+            @Nullable R row = reader.getPageRow(rowNum);
+            reader.releaseRowsBefore(i - Math.max(0, dataRowsToBottom));  // hold rows not checked by last row finder yet
+            if (row == null) {
+                return new EmptyTableRow(StreamingTable.this, rowNum);
+            }
+            tableRow.setRow(row);
+            return tableRow;
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException streaming table has no random access
+     */
+    @Override
+    public @Nullable ReportPageRow getRow(int i) {
+        throw new UnsupportedOperationException("Streaming table has no random access");
+    }
+
+    /**
+     * @throws UnsupportedOperationException streaming table has no random access
+     */
+    @Override
+    public @Nullable TableRow findRow(Object value) {
+        throw new UnsupportedOperationException("Streaming table has no random access");
+    }
+
+    /**
+     * @throws UnsupportedOperationException streaming table has no random access
+     */
+    @Override
+    public @Nullable TableRow findRowByPrefix(String prefix) {
+        throw new UnsupportedOperationException("Streaming table has no random access");
+    }
+
+    /**
+     * Returns forward-only table, which skips excluded top rows and holds back excluded bottom rows
+     * while iterated. This table can't be iterated after that.
+     *
+     * @param topRows    zero or negative value for exclusion
+     * @param bottomRows positive value for inclusion, negative for exclusion
+     * @throws UnsupportedOperationException if {@code topRows} is positive, rows above table data rows are released
+     * @throws IllegalStateException         if table is already iterated
+     */
+    @Override
+    public Table subTable(int topRows, int bottomRows) {
+        if (topRows > 0) {
+            throw new UnsupportedOperationException("Streaming table can't include rows above table data rows");
+        }
+        return new StreamingTable<>(this, topRows, bottomRows);
+    }
+
+    /**
+     * @throws UnsupportedOperationException streaming table can't be sampled, because sampling iterates the table
+     */
+    @Override
+    public <T extends Enum<T> & TableHeaderColumn>
+    Map<T, ColumnReader> getColumnReaders(Class<T> headerDescription, int sampleSize) {
+        throw new UnsupportedOperationException("Streaming table can't be sampled, sampling iterates the table");
+    }
+
+    /**
+     * Reads table rows from report page. Holds rows read from report page but not consumed by table yet.
+     */
+    private static final class TableRowReader<R extends ReportPageRow> {
+        private static final int NOT_FOUND = -1;
+        private static final int UNKNOWN = Integer.MAX_VALUE;
+
+        private final RowCursor<R> cursor;
+        private final @Nullable Predicate<@Nullable Object> lastRowFinder;
+        private final List<@Nullable R> window = new ArrayList<>();
+        private int windowFirstRowNum = 0;
+        private int tableNameRowNum = NOT_FOUND;
+        private int dataRowNum = NOT_FOUND;
+        private int lastRowSearchStart = NOT_FOUND;
+        /**
+         * Table last row (inclusive) or {@link #UNKNOWN} if not found yet
+         */
+        private int lastRowNum = NOT_FOUND;
+
+        TableRowReader(StreamingReportPage<R> reportPage, @Nullable Predicate<@Nullable Object> lastRowFinder) {
+            this.cursor = new RowCursor<>(reportPage);
+            this.lastRowFinder = lastRowFinder;
+        }
+
+        @Nullable
+        R findTableNameRow(Predicate<@Nullable Object> tableNameFinder) {
+            while (cursor.hasNext()) {
+                cursor.skipAbsentRows();
+                @Nullable R row = cursor.next();
+                if (TableSpecResolver.contains(row, tableNameFinder)) {
+                    return row;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Repeats {@link TableFactory} create methods range search steps.
+         *
+         * @return true if table has data rows
+         */
+        boolean locateTable(R tableNameRow, TableSpec<?> tableSpec) {
+            tableNameRowNum = tableNameRow.getRowNum();
+            windowFirstRowNum = tableNameRowNum;
+            window.add(tableNameRow);
+            int tableNameRowCount = tableSpec.getTableNameRowCount();
+            int headerRowsCount;
+            if (tableSpec.isFirstDataRowSearch()) {
+                int firstDataRowNum = findRangeEnd(tableSpec.getFirstDataRowFinder(),
+                        tableNameRowNum + tableNameRowCount + 1, UNKNOWN);
+                if (firstDataRowNum == NOT_FOUND) {
+                    return false;
+                }
+                headerRowsCount = firstDataRowNum - tableNameRowNum - tableNameRowCount;
+                lastRowSearchStart = tableNameRowNum + headerRowsCount + 1;
+            } else {
+                headerRowsCount = tableSpec.getHeaderRowsCount();
+                lastRowSearchStart = tableNameRowNum + tableNameRowCount + headerRowsCount;
+            }
+            dataRowNum = tableNameRowNum + tableNameRowCount + headerRowsCount;
+            lastRowNum = findRangeEnd(lastRowFinder, lastRowSearchStart, dataRowNum + 1);
+            return lastRowNum != NOT_FOUND && lastRowNum >= dataRowNum;
+        }
+
+        ReportPageRow[] getHeaderRows(TableSpec<?> tableSpec) {
+            int firstHeaderRowNum = tableNameRowNum + tableSpec.getTableNameRowCount();
+            ReportPageRow[] headerRows = new ReportPageRow[Math.max(0, dataRowNum - firstHeaderRowNum)];
+            for (int i = 0; i < headerRows.length; i++) {
+                @Nullable R row = getPageRow(firstHeaderRowNum + i);
+                @SuppressWarnings("nullness")
+                ReportPageRow notNullRow = requireNonNull(row, "Header row is absent");
+                headerRows[i] = notNullRow;
+            }
+            return headerRows;
+        }
+
+        void releaseHeaderRows(boolean isTableEmpty) {
+            releaseRowsBefore(isTableEmpty ? Integer.MAX_VALUE : dataRowNum);
+        }
+
+        /**
+         * @return true if row belongs to table, reads rows from report page if table end is not found yet
+         */
+        boolean isTableRow(int rowNum) {
+            if (rowNum > lastRowNum) {
+                return false;
+            } else if (lastRowNum == UNKNOWN) {
+                int rangeEnd = findRangeEnd(lastRowFinder, lastRowSearchStart, rowNum + 1);
+                if (rangeEnd == UNKNOWN) {
+                    lastRowSearchStart = Math.max(lastRowSearchStart, rowNum + 1);
+                }
+                // NOT_FOUND: report page is ended, table ends with the last report page row
+                lastRowNum = (rangeEnd == NOT_FOUND) ? (windowFirstRowNum + window.size() - 1) : rangeEnd;
+            }
+            return rowNum <= lastRowNum;
+        }
+
+        /**
+         * Reads {@code -rowsToBottom} rows ahead to check that row is not excluded from table bottom
+         *
+         * @param rowsToBottom positive value for inclusion, negative for exclusion of table bottom rows
+         */
+        boolean isTableRow(int rowNum, int rowsToBottom) {
+            return isTableRow(rowNum - rowsToBottom) && (rowsToBottom <= 0 || hasPageRow(rowNum));
+        }
+
+        /**
+         * Searches range last row in rows from {@code startRowNum} (inclusive) to {@code endRowNum} (exclusive).
+         *
+         * @param finder range last row finder, if null range ends with empty row or last row of report page
+         * @return range last row, {@link #NOT_FOUND} if finder is not null and report page is ended,
+         * {@link #UNKNOWN} if range doesn't end before {@code endRowNum}
+         */
+        private int findRangeEnd(@Nullable Predicate<@Nullable Object> finder, int startRowNum, int endRowNum) {
+            for (int i = Math.max(startRowNum, windowFirstRowNum); i < endRowNum; i++) {
+                if (!hasPageRow(i)) {  // report page is ended
+                    return (finder == null) ? Math.max(i - 1, tableNameRowNum) : NOT_FOUND;
+                }
+                @Nullable R row = getPageRow(i);
+                if (finder == null) {
+                    if (EmptyRowPredicate.INSTANCE.test(row)) {
+                        return Math.max(i - 1, tableNameRowNum);  // exclude empty row
+                    }
+                } else if (TableSpecResolver.contains(row, finder)) {
+                    return i;
+                }
+            }
+            return UNKNOWN;
+        }
+
+        /**
+         * Reads rows from report page up to {@code rowNum} (inclusive) if they are not read yet
+         *
+         * @return true if report page has row (maybe absent) with {@code rowNum}
+         */
+        private boolean hasPageRow(int rowNum) {
+            while (windowFirstRowNum + window.size() <= rowNum && cursor.hasNext()) {
+                window.add(cursor.next());
+            }
+            return rowNum < windowFirstRowNum + window.size();
+        }
+
+        @Nullable
+        R getPageRow(int rowNum) {
+            int i = rowNum - windowFirstRowNum;
+            return (hasPageRow(rowNum) && i >= 0) ? window.get(i) : null;
+        }
+
+        void releaseRowsBefore(int rowNum) {
+            int count = Math.min(window.size(), rowNum - windowFirstRowNum);
+            if (count > 0) {
+                window.subList(0, count).clear();
+                windowFirstRowNum += count;
+            }
+        }
+    }
+
+    /**
+     * Iterates over all row numbers of report page, absent rows are returned as null
+     */
+    @RequiredArgsConstructor
+    private static final class RowCursor<R extends ReportPageRow> {
+        private final StreamingReportPage<R> reportPage;
+        private @Nullable R nextRow;
+        private boolean ended = false;
+        private int nextRowNum = 0;
+
+        boolean hasNext() {
+            readNextRow();
+            return nextRow != null;
+        }
+
+        /**
+         * @return row or null if row is absent
+         * @throws NoSuchElementException if report page is ended
+         */
+        @Nullable
+        R next() {
+            readNextRow();
+            @Nullable R row = nextRow;
+            if (row == null) {
+                throw new NoSuchElementException();
+            } else if (row.getRowNum() > nextRowNum) {
+                nextRowNum++;
+                return null;
+            }
+            nextRow = null;
+            nextRowNum = row.getRowNum() + 1;
+            return row;
+        }
+
+        void skipAbsentRows() {
+            readNextRow();
+            @Nullable R row = nextRow;
+            if (row != null) {
+                nextRowNum = Math.max(nextRowNum, row.getRowNum());
+            }
+        }
+
+        private void readNextRow() {
+            if (nextRow == null && !ended) {
+                nextRow = reportPage.nextRow();
+                ended = (nextRow == null);
+            }
+        }
+    }
+}
@@ -41,6 +41,39 @@ public final class StringPrefixPredicate {
         return new IgnoreCaseStringPrefixPredicate<>(prefix);
     }
 
+    /**
+     * @return stripped prefix of predicate created by this class factory methods or null for other predicates
+     */
+    static @Nullable String getIgnoreCasePrefix(Predicate<?> predicate) {
+        if (predicate instanceof PredicateOnObjectWrapper) {
+            predicate = ((PredicateOnObjectWrapper) predicate).predicate;
+        }
+        return (predicate instanceof IgnoreCaseStringPrefixPredicate) ?
+                ((IgnoreCaseStringPrefixPredicate<?>) predicate).prefix :
+                null;
+    }
+
+    /**
+     * Folds char case. Folded chars are equal if and only if they are equal
+     * for {@link String#regionMatches(boolean, int, String, int, int)} ignoring case.
+     */
+    static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * @return index of the first non-whitespace char or -1 if not found
+     */
+    static int getIndexOfNonWhitespace(CharSequence cs) {
+        for (int i = 0, n = cs.length(); i < n; i++) {
+            char c = cs.charAt(i);
+            if (!isWhitespace(c)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
 
     @ToString
     @EqualsAndHashCode
@@ -73,15 +106,5 @@ public final class StringPrefixPredicate {
             String string = cs.toString();
             return string.regionMatches(true, nonWhitespaceIndex, prefix, 0, prefix.length());
         }
-
-        private static int getIndexOfNonWhitespace(CharSequence cs) {
-            for (int i = 0, n = cs.length(); i < n; i++) {
-                char c = cs.charAt(i);
-                if (!isWhitespace(c)) {
-                    return i;
-                }
-            }
-            return -1;
-        }
     }
 }
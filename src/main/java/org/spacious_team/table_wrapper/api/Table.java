@@ -20,12 +20,23 @@ package org.spacious_team.table_wrapper.api;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
@@ -45,6 +56,23 @@ public interface Table extends Iterable<@Nullable TableRow> {
 
     <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor);
 
+    /**
+     * Extracts exactly one object from excel row. Row extractor can report invalid cells found by {@code tryGet*}
+     * methods to error sink without throwing exceptions. Exceptions thrown by row extractor are reported to error sink
+     * instead of logging, with column of the last cell accessed by row extractor if known.
+     *
+     * @param errorSink receives row extractor exceptions and errors reported by row extractor
+     */
+    default <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor, ErrorSink errorSink) {
+        List<T> data = new ArrayList<>();
+        for (@Nullable TableRow row : this) {
+            if (row != null) {
+                AbstractTable.addRowData(row, rowExtractor, errorSink, data);
+            }
+        }
+        return data;
+    }
+
     /**
      * Extracts objects from table without duplicate objects handling (duplicated row are both will be returned)
      */
@@ -61,6 +89,149 @@ public interface Table extends Iterable<@Nullable TableRow> {
                                   BiPredicate<T, T> equalityChecker,
                                   BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates);
 
+    /**
+     * Extracts objects from table with duplicate objects handling logic. Objects are duplicates
+     * if they have equal keys. Duplicates are found by hash lookup, so extraction takes linear time.
+     * Merged objects are moved to the end of the result as by
+     * {@link #getDataCollection(Object, Function, BiPredicate, BiFunction)}.
+     */
+    default <T, K> List<T> getDataCollectionByKey(Object report,
+                                                  Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                                  Function<T, K> keyExtractor,
+                                                  BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates) {
+        Map<K, T> data = new LinkedHashMap<>();
+        for (T element : getDataCollection(report, rowExtractor)) {
+            AbstractTable.addWithKeyExtractor(element, data, keyExtractor, mergeDuplicates);
+        }
+        return new ArrayList<>(data.values());
+    }
+
+    /**
+     * Extracts exactly one object from each row using {@code executor} for parallel extraction.
+     * Objects are returned in table row order. Report page should be thread-safe.
+     *
+     * @implSpec The default implementation extracts objects sequentially
+     */
+    default <T> List<T> getDataParallel(Object report, Function<TableRow, @Nullable T> rowExtractor, Executor executor) {
+        return getData(report, rowExtractor);
+    }
+
+    /**
+     * Extracts objects from table without duplicate objects handling using {@code executor} for parallel extraction.
+     * Objects are returned in table row order. Report page should be thread-safe.
+     *
+     * @implSpec The default implementation extracts objects sequentially
+     */
+    default <T> List<T> getDataCollectionParallel(Object report,
+                                                  Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                                  Executor executor) {
+        return getDataCollection(report, rowExtractor);
+    }
+
+    /**
+     * Extracts objects from table with duplicate objects handling logic using {@code executor}
+     * for parallel extraction. Duplicates are merged sequentially in table row order.
+     * Report page should be thread-safe.
+     *
+     * @implSpec The default implementation extracts objects sequentially
+     */
+    default <T> List<T> getDataCollectionParallel(Object report,
+                                                  Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                                  BiPredicate<T, T> equalityChecker,
+                                                  BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates,
+                                                  Executor executor) {
+        return getDataCollection(report, rowExtractor, equalityChecker, mergeDuplicates);
+    }
+
+    /**
+     * Extracts column values of all table rows.
+     *
+     * @param invalidRows cleared and filled by indices of rows with absent or not a number values,
+     *                    result array contains zero values at these indices
+     * @return column values in table row order
+     */
+    default int[] getIntColumn(TableHeaderColumn column, BitSet invalidRows) {
+        IntStream.Builder values = IntStream.builder();
+        forEachRow(invalidRows, row -> {
+            OptionalInt value = (row == null) ? OptionalInt.empty() : row.tryGetIntCellValue(column);
+            values.add(value.orElse(0));
+            return value.isPresent();
+        });
+        return values.build().toArray();
+    }
+
+    /**
+     * Extracts column values of all table rows.
+     *
+     * @param invalidRows cleared and filled by indices of rows with absent or not a number values,
+     *                    result array contains zero values at these indices
+     * @return column values in table row order
+     */
+    default long[] getLongColumn(TableHeaderColumn column, BitSet invalidRows) {
+        LongStream.Builder values = LongStream.builder();
+        forEachRow(invalidRows, row -> {
+            OptionalLong value = (row == null) ? OptionalLong.empty() : row.tryGetLongCellValue(column);
+            values.add(value.orElse(0));
+            return value.isPresent();
+        });
+        return values.build().toArray();
+    }
+
+    /**
+     * Extracts column values of all table rows.
+     *
+     * @param invalidRows cleared and filled by indices of rows with absent or not a number values,
+     *                    result array contains zero values at these indices
+     * @return column values in table row order
+     */
+    default double[] getDoubleColumn(TableHeaderColumn column, BitSet invalidRows) {
+        DoubleStream.Builder values = DoubleStream.builder();
+        forEachRow(invalidRows, row -> {
+            OptionalDouble value = (row == null) ? OptionalDouble.empty() : row.tryGetDoubleCellValue(column);
+            values.add(value.orElse(0));
+            return value.isPresent();
+        });
+        return values.build().toArray();
+    }
+
+    /**
+     * Calls {@code rowValueReader} for each table row in row order.
+     * Marks row as invalid if reader returns false.
+     */
+    private void forEachRow(BitSet invalidRows, Predicate<@Nullable TableRow> rowValueReader) {
+        invalidRows.clear();
+        int i = 0;
+        for (@Nullable TableRow row : this) {
+            if (!rowValueReader.test(row)) {
+                invalidRows.set(i);
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Infers physical type of each header description column by sampling first table rows and returns
+     * readers of inferred types, so caller can choose value getter once per column instead of checking each value.
+     * <p>
+     * Values are converted by table {@link CellDataAccessObject}. Sampling iterates the table,
+     * so forward-only tables may throw {@link UnsupportedOperationException}.
+     *
+     * @param sampleSize number of first table rows to sample
+     * @see StreamingTable#getColumnReaders(Class, int)
+     */
+    default <T extends Enum<T> & TableHeaderColumn>
+    Map<T, ColumnReader> getColumnReaders(Class<T> headerDescription, int sampleSize) {
+        return ColumnReaders.getColumnReaders(this, headerDescription, sampleSize);
+    }
+
+    /**
+     * Returns in-memory snapshot of this table header description columns. Snapshot holds no references
+     * to report page objects and can be iterated many times.
+     */
+    default ColumnarTable toColumnar() {
+        return ColumnarTable.of(this);
+    }
+
     boolean isEmpty();
 
     Stream<@Nullable TableRow> stream();
@@ -25,6 +25,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public interface TableCell {
@@ -80,6 +83,81 @@ public interface TableCell {
      */
     LocalDateTime getLocalDateTimeValue(ZoneId zoneId);
 
+    /**
+     * Returns value without throwing exception for not a number values.
+     * Number and string values are converted as {@link CellDataAccessObject} default methods do,
+     * {@link AbstractTableCell} uses its {@link CellDataAccessObject}.
+     *
+     * @return int value or empty if value is absent or not a number
+     */
+    default OptionalInt tryGetIntValue() {
+        OptionalLong value = tryGetLongValue();
+        return value.isPresent() ? OptionalInt.of((int) value.getAsLong()) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns value without throwing exception for not a number values.
+     * Number and string values are converted as {@link CellDataAccessObject} default methods do,
+     * {@link AbstractTableCell} uses its {@link CellDataAccessObject}.
+     *
+     * @return long value or empty if value is absent or not a number
+     */
+    default OptionalLong tryGetLongValue() {
+        @Nullable Object value = getValueOrDefault(null);
+        if (value instanceof Number) {
+            return OptionalLong.of(((Number) value).longValue());
+        } else if (value instanceof CharSequence) {
+            return NumberCellParser.tryParseLong((CharSequence) value);
+        } else if (value == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(getLongValue());
+        } catch (Exception e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Returns value without throwing exception for not a number values.
+     * Number and string values are converted as {@link CellDataAccessObject} default methods do,
+     * {@link AbstractTableCell} uses its {@link CellDataAccessObject}.
+     *
+     * @return double value or empty if value is absent or not a number
+     */
+    default OptionalDouble tryGetDoubleValue() {
+        @Nullable Object value = getValueOrDefault(null);
+        if (value instanceof Number) {
+            return OptionalDouble.of(((Number) value).doubleValue());
+        } else if (value instanceof CharSequence) {
+            return NumberCellParser.tryParseDouble((CharSequence) value);
+        } else if (value == null) {
+            return OptionalDouble.empty();
+        }
+        try {
+            return OptionalDouble.of(getDoubleValue());
+        } catch (Exception e) {
+            return OptionalDouble.empty();
+        }
+    }
+
+    /**
+     * Returns value without throwing exception for not a number values.
+     * Number and string values are converted as {@link CellDataAccessObject} default methods do,
+     * {@link AbstractTableCell} uses its {@link CellDataAccessObject}.
+     *
+     * @return BigDecimal value or null if value is absent or not a number
+     */
+    default @Nullable BigDecimal tryGetBigDecimalValue() {
+        @Nullable Object value = getValueOrDefault(null);
+        if (value instanceof CharSequence || value instanceof Number) {
+            return NumberCellParser.tryParseBigDecimal(value.toString());
+        } else if (value == null) {
+            return null;
+        }
+        return getBigDecimalValueOrDefault(null);
+    }
+
     /**
      * @return return cell value or defaultValue if the cell is missing or the type does not match the expected
      */
@@ -20,6 +20,8 @@ package org.spacious_team.table_wrapper.api;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -266,6 +268,27 @@ public interface TableFactory {
                 headerRowsCount);
     }
 
+    /**
+     * Creates table by reusable spec. Table range is the same as range found by the corresponding create method.
+     *
+     * @return table or table with empty range if table is not found
+     * @see #createAll(ReportPage, List)
+     */
+    default <T extends Enum<T> & TableHeaderColumn>
+    Table create(ReportPage reportPage, TableSpec<T> tableSpec) {
+        return createAll(reportPage, Collections.singletonList(tableSpec)).get(0);
+    }
+
+    /**
+     * Creates tables by single report page pass. Each table range is the same
+     * as range found by the corresponding create method.
+     *
+     * @return tables in the {@code tableSpecs} order, not found tables have empty range
+     */
+    default List<Table> createAll(ReportPage reportPage, List<? extends TableSpec<?>> tableSpecs) {
+        return TableSpecResolver.createAll(this, reportPage, tableSpecs);
+    }
+
     /**
      * Creates a table using the cell range from {@code tableRange}.
      * The first table row is the first header row.
@@ -30,7 +30,7 @@ import static lombok.AccessLevel.PRIVATE;
 @RequiredArgsConstructor(access = PRIVATE)
 final class TableFactoryHelper {
 
-    private static final String TABLE_NAME_NOT_FOUND = "<not found>";
+    static final String TABLE_NAME_NOT_FOUND = "<not found>";
 
     static String getTableName(ReportPage reportPage, Predicate<@Nullable Object> tableNameFinder, TableCellRange range) {
         try {
@@ -47,4 +47,16 @@ final class TableFactoryHelper {
         }
         return TABLE_NAME_NOT_FOUND;
     }
+
+    static String getTableName(ReportPageRow tableNameRow, Predicate<@Nullable Object> tableNameFinder) {
+        try {
+            for (@Nullable TableCell cell : tableNameRow) {
+                if (cell != null && tableNameFinder.test(cell.getValue())) {
+                    return cell.getStringValue();
+                }
+            }
+        } catch (Exception ignore) {
+        }
+        return TABLE_NAME_NOT_FOUND;
+    }
 }
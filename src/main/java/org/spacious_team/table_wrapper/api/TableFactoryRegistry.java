@@ -19,29 +19,55 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import static java.util.Collections.unmodifiableSet;
 import static lombok.AccessLevel.PRIVATE;
 
+/**
+ * Registry of {@link TableFactory}s. Factories declared as {@link ServiceLoader} providers
+ * of {@link TableFactory} are registered on class initialization.
+ */
+@Slf4j
 @RequiredArgsConstructor(access = PRIVATE)
 public final class TableFactoryRegistry {
 
     private static final Set<TableFactory> factories = new CopyOnWriteArraySet<>();
+    private static volatile FactoryCache cache = new FactoryCache(List.of());
+
+    static {
+        addServiceFactories();
+    }
 
     public static void add(TableFactory tableFactory) {
-        factories.add(tableFactory);
+        synchronized (factories) {
+            if (factories.add(tableFactory)) {
+                invalidateCache();
+            }
+        }
     }
 
     /**
      * @return {@code true} if factory was removed as a result of this call
      */
     public static boolean remove(TableFactory tableFactory) {
-        return factories.remove(tableFactory);
+        synchronized (factories) {
+            boolean isRemoved = factories.remove(tableFactory);
+            if (isRemoved) {
+                invalidateCache();
+            }
+            return isRemoved;
+        }
     }
 
     @SuppressWarnings("unused")
@@ -50,18 +76,85 @@ public final class TableFactoryRegistry {
     }
 
     public static void clear() {
-        factories.clear();
+        synchronized (factories) {
+            factories.clear();
+            invalidateCache();
+        }
     }
 
 
     public static TableFactory get(ReportPage reportPage) {
         Objects.requireNonNull(reportPage, "Report page is null");
-        for (TableFactory factory : factories) {
-            if (factory.canHandle(reportPage)) {
+        for (TableFactory factory : cache.get(reportPage.getClass())) {
+            if (isClassBased(factory) || factory.canHandle(reportPage)) {
                 return factory;
             }
         }
         throw new IllegalArgumentException(
                 "No factory registered for report page of type " + reportPage.getClass().getSimpleName());
     }
+
+    private static void addServiceFactories() {
+        Iterator<TableFactory> it = ServiceLoader.load(TableFactory.class, TableFactoryRegistry.class.getClassLoader())
+                .iterator();
+        while (true) {
+            try {
+                if (!it.hasNext()) {
+                    return;
+                }
+                add(it.next());
+            } catch (ServiceConfigurationError e) {
+                log.warn("Can't load table factory", e);
+            }
+        }
+    }
+
+    private static void invalidateCache() {
+        cache = new FactoryCache(List.copyOf(factories));
+    }
+
+    /**
+     * @return {@code true} if factory result depends on report page class only
+     */
+    private static boolean isClassBased(TableFactory factory) {
+        return FactoryCache.IS_CLASS_BASED.get(factory.getClass());
+    }
+
+    /**
+     * Per report page class candidate factories in registration order. Candidates list ends with
+     * the first {@link AbstractTableFactory} accepting report page class, other factories
+     * decide by report page object and are kept for {@link TableFactory#canHandle(ReportPage)} call.
+     */
+    @RequiredArgsConstructor
+    private static final class FactoryCache extends ClassValue<TableFactory[]> {
+
+        private static final ClassValue<Boolean> IS_CLASS_BASED = new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                try {
+                    return type.getMethod("canHandle", ReportPage.class).getDeclaringClass() == AbstractTableFactory.class;
+                } catch (NoSuchMethodException e) {
+                    return false;
+                }
+            }
+        };
+
+        private final List<TableFactory> factories;
+
+        @Override
+        protected TableFactory[] computeValue(Class<?> reportPageType) {
+            List<TableFactory> candidates = new ArrayList<>();
+            for (TableFactory factory : factories) {
+                if (factory instanceof AbstractTableFactory && isClassBased(factory)) {
+                    if (((AbstractTableFactory<?>) factory).getReportPageType().isAssignableFrom(reportPageType)) {
+                        candidates.add(factory);
+                        break;
+                    }
+                } else {
+                    candidates.add(factory);
+                }
+            }
+            return candidates.toArray(new TableFactory[0]);
+        }
+    }
 }
@@ -25,6 +25,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * {@link TableRow} subclass can be mutable. Use {@link #clone()} to make copy.
@@ -83,6 +86,50 @@ public interface TableRow extends ReportPageRow, Cloneable {
      */
     LocalDateTime getLocalDateTimeCellValue(TableHeaderColumn column, ZoneId zoneId);
 
+    /**
+     * @return cell or null if column or cell is missing
+     */
+    default @Nullable TableCell getCellOrNull(TableHeaderColumn column) {
+        @Nullable Integer cellIndex = getTable().getHeaderDescription().get(column.getColumn());
+        return (cellIndex == null) ? null : getCell(cellIndex);
+    }
+
+    /**
+     * @return cell value or empty if the cell is missing or the value is not a number
+     * @see TableCell#tryGetIntValue()
+     */
+    default OptionalInt tryGetIntCellValue(TableHeaderColumn column) {
+        @Nullable TableCell cell = getCellOrNull(column);
+        return (cell == null) ? OptionalInt.empty() : cell.tryGetIntValue();
+    }
+
+    /**
+     * @return cell value or empty if the cell is missing or the value is not a number
+     * @see TableCell#tryGetLongValue()
+     */
+    default OptionalLong tryGetLongCellValue(TableHeaderColumn column) {
+        @Nullable TableCell cell = getCellOrNull(column);
+        return (cell == null) ? OptionalLong.empty() : cell.tryGetLongValue();
+    }
+
+    /**
+     * @return cell value or empty if the cell is missing or the value is not a number
+     * @see TableCell#tryGetDoubleValue()
+     */
+    default OptionalDouble tryGetDoubleCellValue(TableHeaderColumn column) {
+        @Nullable TableCell cell = getCellOrNull(column);
+        return (cell == null) ? OptionalDouble.empty() : cell.tryGetDoubleValue();
+    }
+
+    /**
+     * @return cell value or null if the cell is missing or the value is not a number
+     * @see TableCell#tryGetBigDecimalValue()
+     */
+    default @Nullable BigDecimal tryGetBigDecimalCellValue(TableHeaderColumn column) {
+        @Nullable TableCell cell = getCellOrNull(column);
+        return (cell == null) ? null : cell.tryGetBigDecimalValue();
+    }
+
     /**
      * @return return cell value or defaultValue if the cell is missing or the type does not match the expected
      */
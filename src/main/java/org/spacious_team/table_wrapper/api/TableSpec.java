@@ -0,0 +1,179 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.Predicate;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.ignoreCaseStringPrefixPredicateOnObject;
+
+/**
+ * Table search description for table creation by {@link TableFactory#create(ReportPage, TableSpec)}
+ * or batch table creation by {@link TableFactory#createAll(ReportPage, java.util.List)}.
+ * Factory methods mirror {@link ReportPage} {@code createTable()} and {@code createNamelessTable()} methods
+ * and produce the same table ranges.
+ * <p>
+ * Spec is immutable and thread-safe. Table finders are created on spec creation, so specs can be built once,
+ * for example, as static constants per report type, and reused for many report pages.
+ * Header description enum columns are compiled once per enum class and cached.
+ */
+@ToString
+@EqualsAndHashCode
+@Getter(AccessLevel.PACKAGE)
+@RequiredArgsConstructor(access = PRIVATE)
+public final class TableSpec<T extends Enum<T> & TableHeaderColumn> {
+    /**
+     * Table name, null if table name should be read from the cell found by {@link #tableNameFinder}
+     */
+    private final @Nullable String tableName;
+    /**
+     * Table name or header row finder, null if table can not be found
+     */
+    private final @Nullable Predicate<@Nullable Object> tableNameFinder;
+    private final int tableNameRowCount;
+    /**
+     * If true, header rows count is determined by {@link #firstDataRowFinder}
+     */
+    private final boolean firstDataRowSearch;
+    /**
+     * First data row finder, null if header ends with empty row
+     */
+    private final @Nullable Predicate<@Nullable Object> firstDataRowFinder;
+    private final int headerRowsCount;
+    /**
+     * Last row finder, null if table ends with empty row
+     */
+    private final @Nullable Predicate<@Nullable Object> lastRowFinder;
+    private final Class<T> headerDescription;
+
+    /**
+     * @see ReportPage#createTable(String, int, String, String, Class)
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> of(String tableName,
+                    int tableNameRowCount,
+                    String firstDataRowPrefix,
+                    @Nullable String lastRowPrefix,
+                    Class<T> headerDescription) {
+        return new TableSpec<>(tableName, toPredicate(tableName), tableNameRowCount,
+                true, toPredicate(firstDataRowPrefix), 0, toPredicate(lastRowPrefix), headerDescription);
+    }
+
+    /**
+     * @see ReportPage#createTable(String, int, String, Class, int)
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> of(String tableName,
+                    int tableNameRowCount,
+                    @Nullable String lastRowPrefix,
+                    Class<T> headerDescription,
+                    int headerRowsCount) {
+        return new TableSpec<>(tableName, toPredicate(tableName), tableNameRowCount,
+                false, null, headerRowsCount, toPredicate(lastRowPrefix), headerDescription);
+    }
+
+    /**
+     * @see ReportPage#createTable(Predicate, int, Predicate, Predicate, Class)
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> of(Predicate<@Nullable Object> tableNameFinder,
+                    int tableNameRowCount,
+                    Predicate<@Nullable Object> firstDataRowFinder,
+                    @Nullable Predicate<@Nullable Object> lastRowFinder,
+                    Class<T> headerDescription) {
+        return new TableSpec<>(null, tableNameFinder, tableNameRowCount,
+                true, firstDataRowFinder, 0, lastRowFinder, headerDescription);
+    }
+
+    /**
+     * @see ReportPage#createTable(Predicate, int, Predicate, Class, int)
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> of(Predicate<@Nullable Object> tableNameFinder,
+                    int tableNameRowCount,
+                    @Nullable Predicate<@Nullable Object> lastRowFinder,
+                    Class<T> headerDescription,
+                    int headerRowsCount) {
+        return new TableSpec<>(null, tableNameFinder, tableNameRowCount,
+                false, null, headerRowsCount, lastRowFinder, headerDescription);
+    }
+
+    /**
+     * @see ReportPage#createNamelessTable(String, String, String, String, Class)
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> ofNameless(String providedTableName,
+                            String headerRowPrefix,
+                            String firstDataRowPrefix,
+                            @Nullable String lastRowPrefix,
+                            Class<T> headerDescription) {
+        return new TableSpec<>(providedTableName, toPredicate(headerRowPrefix), 0,
+                true, toPredicate(firstDataRowPrefix), 0, toPredicate(lastRowPrefix), headerDescription);
+    }
+
+    /**
+     * @see ReportPage#createNamelessTable(String, String, String, Class, int)
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> ofNameless(String providedTableName,
+                            String headerRowPrefix,
+                            @Nullable String lastRowPrefix,
+                            Class<T> headerDescription,
+                            int headerRowsCount) {
+        return new TableSpec<>(providedTableName, toPredicate(headerRowPrefix), 0,
+                false, null, headerRowsCount, toPredicate(lastRowPrefix), headerDescription);
+    }
+
+    /**
+     * @see ReportPage#createNamelessTable(String, Predicate, Predicate, Predicate, Class)
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> ofNameless(String providedTableName,
+                            Predicate<@Nullable Object> headerRowFinder,
+                            Predicate<@Nullable Object> firstDataRowFinder,
+                            @Nullable Predicate<@Nullable Object> lastRowFinder,
+                            Class<T> headerDescription) {
+        return new TableSpec<>(providedTableName, headerRowFinder, 0,
+                true, firstDataRowFinder, 0, lastRowFinder, headerDescription);
+    }
+
+    /**
+     * @see ReportPage#createNamelessTable(String, Predicate, Predicate, Class, int)
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> ofNameless(String providedTableName,
+                            Predicate<@Nullable Object> headerRowFinder,
+                            @Nullable Predicate<@Nullable Object> lastRowFinder,
+                            Class<T> headerDescription,
+                            int headerRowsCount) {
+        return new TableSpec<>(providedTableName, headerRowFinder, 0,
+                false, null, headerRowsCount, lastRowFinder, headerDescription);
+    }
+
+    private static @Nullable Predicate<@Nullable Object> toPredicate(@Nullable String prefix) {
+        return (prefix == null || prefix.isEmpty()) ? null : ignoreCaseStringPrefixPredicateOnObject(prefix);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Resolves ranges of many tables by single row-major report page sweep. Each report page row is read once
+ * and tested by all pending table searches. Ranges are equal to ranges found by {@link TableFactory} create methods.
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+final class TableSpecResolver {
+
+    static List<Table> createAll(TableFactory tableFactory, ReportPage reportPage, List<? extends TableSpec<?>> tableSpecs) {
+        List<TableSearch> searches = resolve(reportPage, tableSpecs);
+        List<Table> tables = new ArrayList<>(searches.size());
+        for (TableSearch search : searches) {
+            tables.add(create(tableFactory, reportPage, search.spec, search.range, search.headerRowsCount));
+        }
+        return tables;
+    }
+
+    private static <T extends Enum<T> & TableHeaderColumn>
+    Table create(TableFactory tableFactory,
+                 ReportPage reportPage,
+                 TableSpec<T> spec,
+                 TableCellRange range,
+                 int headerRowsCount) {
+        @Nullable String tableName = spec.getTableName();
+        @Nullable Predicate<@Nullable Object> tableNameFinder = spec.getTableNameFinder();
+        if (tableName == null) {
+            @SuppressWarnings({"nullness", "ConstantConditions"})
+            Predicate<@Nullable Object> finder = requireNonNull(tableNameFinder);  // not null for predicate specs
+            tableName = TableFactoryHelper.getTableName(reportPage, finder, range);
+        }
+        return tableFactory.create(reportPage, tableName, range, spec.getHeaderDescription(), headerRowsCount);
+    }
+
+    static List<TableSearch> resolve(ReportPage reportPage, List<? extends TableSpec<?>> tableSpecs) {
+        List<TableSearch> searches = new ArrayList<>(tableSpecs.size());
+        List<TableSearch> pendingSearches = new ArrayList<>(tableSpecs.size());
+        for (TableSpec<?> spec : tableSpecs) {
+            TableSearch search = new TableSearch(reportPage, spec);
+            searches.add(search);
+            if (!search.isDone()) {
+                pendingSearches.add(search);
+            }
+        }
+        int lastRowNum = reportPage.getLastRowNum();
+        for (int i = 0; i <= lastRowNum && !pendingSearches.isEmpty(); i++) {
+            SweepRow row = new SweepRow(i, reportPage.getRow(i));
+            for (Iterator<TableSearch> it = pendingSearches.iterator(); it.hasNext(); ) {
+                TableSearch search = it.next();
+                search.process(row);
+                if (search.isDone()) {
+                    it.remove();
+                }
+            }
+        }
+        for (TableSearch search : pendingSearches) {
+            search.finish(lastRowNum);
+        }
+        return searches;
+    }
+
+    /**
+     * @return true if row contains cell with value satisfying predicate
+     */
+    static boolean contains(@Nullable ReportPageRow row, Predicate<@Nullable Object> cellValuePredicate) {
+        if (row == null) {
+            return false;
+        }
+        for (@Nullable TableCell cell : row) {
+            if (cell != null && cellValuePredicate.test(cell.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Report page row with lazily evaluated emptiness
+     */
+    @RequiredArgsConstructor
+    private static final class SweepRow {
+        private final int rowNum;
+        private final @Nullable ReportPageRow row;
+        private @Nullable Boolean empty;
+
+        boolean isEmpty() {
+            @Nullable Boolean isEmpty = empty;
+            if (isEmpty == null) {
+                empty = isEmpty = EmptyRowPredicate.INSTANCE.test(row);
+            }
+            return isEmpty;
+        }
+
+        boolean contains(Predicate<@Nullable Object> cellValuePredicate) {
+            return TableSpecResolver.contains(row, cellValuePredicate);
+        }
+    }
+
+    private enum Stage {FIRST_ROW, FIRST_DATA_ROW, LAST_ROW, DONE}
+
+    /**
+     * Table range search state machine, repeats {@link TableFactory} create methods range search steps
+     */
+    static final class TableSearch {
+        private final ReportPage reportPage;
+        private final TableSpec<?> spec;
+        private Stage stage = Stage.FIRST_ROW;
+        /**
+         * Current step finder, null if current step searches empty row
+         */
+        private @Nullable Predicate<@Nullable Object> finder;
+        private int nextRowNum = 0;
+        private int firstRowNum = -1;
+        private @Nullable ReportPageRow firstRow;
+        private int headerRowsCount;
+        private @Nullable SweepRow previousRow;
+        private TableCellRange range = TableCellRange.EMPTY_RANGE;
+
+        TableSearch(ReportPage reportPage, TableSpec<?> spec) {
+            this.reportPage = reportPage;
+            this.spec = spec;
+            this.finder = spec.getTableNameFinder();
+            this.headerRowsCount = spec.isFirstDataRowSearch() ? 0 : spec.getHeaderRowsCount();
+            if (finder == null) {
+                stage = Stage.DONE;
+            }
+        }
+
+        boolean isDone() {
+            return stage == Stage.DONE;
+        }
+
+        TableCellRange getRange() {
+            return range;
+        }
+
+        int getHeaderRowsCount() {
+            return headerRowsCount;
+        }
+
+        /**
+         * Tests rows from next search row up to sweep row. Previous rows are re-read
+         * if a search step starts before the sweep row.
+         */
+        void process(SweepRow sweepRow) {
+            while (!isDone() && nextRowNum <= sweepRow.rowNum) {
+                int rowNum = nextRowNum++;
+                SweepRow row = (rowNum == sweepRow.rowNum) ? sweepRow : new SweepRow(rowNum, reportPage.getRow(rowNum));
+                @Nullable Predicate<@Nullable Object> cellValuePredicate = finder;
+                boolean found = (cellValuePredicate == null) ? row.isEmpty() : row.contains(cellValuePredicate);
+                if (found) {
+                    onFound(row);
+                }
+                previousRow = row;
+            }
+        }
+
+        private void onFound(SweepRow row) {
+            switch (stage) {
+                case FIRST_ROW:
+                    firstRowNum = row.rowNum;
+                    firstRow = row.row;
+                    int tableNameRowCount = spec.getTableNameRowCount();
+                    if (spec.isFirstDataRowSearch()) {
+                        stage = Stage.FIRST_DATA_ROW;
+                        finder = spec.getFirstDataRowFinder();
+                        setNextRowNum(firstRowNum + tableNameRowCount + 1);
+                    } else {
+                        stage = Stage.LAST_ROW;
+                        finder = spec.getLastRowFinder();
+                        setNextRowNum(firstRowNum + tableNameRowCount + headerRowsCount);
+                    }
+                    break;
+                case FIRST_DATA_ROW:
+                    onFirstDataRowFound(getLastRowNum(row));
+                    break;
+                case LAST_ROW:
+                    onLastRowFound(getLastRowNum(row), (finder == null) ? null : row.row);
+                    break;
+                default:
+                    throw new IllegalStateException("Table search is done");
+            }
+        }
+
+        /**
+         * Completes search after the last report page row is processed
+         */
+        void finish(int lastRowNum) {
+            while (!isDone()) {
+                if (nextRowNum <= lastRowNum) {  // search step started after the sweep passed its start row
+                    @Nullable SweepRow previous = previousRow;
+                    process((previous != null && previous.rowNum == lastRowNum) ?
+                            previous :
+                            new SweepRow(lastRowNum, reportPage.getRow(lastRowNum)));
+                } else if (finder == null && stage != Stage.FIRST_ROW) {
+                    // empty row is not found, use last row
+                    int rangeLastRowNum = Math.max(lastRowNum, firstRowNum);
+                    if (stage == Stage.FIRST_DATA_ROW) {
+                        onFirstDataRowFound(rangeLastRowNum);
+                    } else {
+                        onLastRowFound(rangeLastRowNum, null);
+                    }
+                } else {
+                    stage = Stage.DONE;
+                }
+            }
+        }
+
+        private void onFirstDataRowFound(int dataRowNum) {
+            headerRowsCount = dataRowNum - firstRowNum - spec.getTableNameRowCount();
+            stage = Stage.LAST_ROW;
+            finder = spec.getLastRowFinder();
+            setNextRowNum(firstRowNum + headerRowsCount + 1);
+        }
+
+        private void onLastRowFound(int lastRowNum, @Nullable ReportPageRow lastRow) {
+            @SuppressWarnings({"nullness", "ConstantConditions"})
+            ReportPageRow first = requireNonNull(firstRow, "Row is not found");
+            if (lastRow == null) {
+                @Nullable SweepRow previous = previousRow;
+                if (lastRowNum == firstRowNum) {
+                    lastRow = first;
+                } else if (previous != null && previous.rowNum == lastRowNum) {
+                    lastRow = previous.row;
+                } else {
+                    lastRow = reportPage.getRow(lastRowNum);
+                }
+            }
+            @SuppressWarnings({"nullness", "ConstantConditions"})
+            ReportPageRow last = requireNonNull(lastRow, "Row is not found");  // NPE logically impossible
+            range = TableCellRange.of(
+                            firstRowNum,
+                            lastRowNum,
+                            first.getFirstCellNum(),
+                            last.getLastCellNum())
+                    .addRowsToTop(-spec.getTableNameRowCount());
+            stage = Stage.DONE;
+        }
+
+        /**
+         * @return range last row, if range ends with empty row then the row before found empty row
+         */
+        private int getLastRowNum(SweepRow row) {
+            if (finder != null) {
+                return row.rowNum;
+            }
+            // exclude empty row
+            return Math.max(row.rowNum - 1, firstRowNum);
+        }
+
+        private void setNextRowNum(int rowNum) {
+            nextRowNum = Math.max(0, rowNum);
+        }
+    }
+}
@@ -24,6 +24,12 @@ import org.junit.jupiter.api.Test;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
 
 class AbstractReportPageTest {
 
@@ -32,6 +38,78 @@ class AbstractReportPageTest {
         assertDoesNotThrow(ReportPageTestImpl::new);
     }
 
+    @Test
+    void findEmptyRow() {
+        ReportPageRow[] rows = {
+                getRow(0, cell("a", 0)),
+                getRow(1),
+                null,
+                getRow(3, cell("b", 0)),
+                getRow(4)};
+        ReportPageRowsTestImpl reportPage = spy(new ReportPageRowsTestImpl(rows));
+
+        assertEquals(1, reportPage.findRow(0, Integer.MAX_VALUE, EmptyRowPredicate.INSTANCE));
+        assertEquals(2, reportPage.findRow(2, Integer.MAX_VALUE, EmptyRowPredicate.INSTANCE));
+        assertEquals(4, reportPage.findRow(3, Integer.MAX_VALUE, EmptyRowPredicate.INSTANCE));
+        assertEquals(-1, reportPage.findRow(3, 4, EmptyRowPredicate.INSTANCE));
+        assertEquals(-1, reportPage.findRow(5, Integer.MAX_VALUE, EmptyRowPredicate.INSTANCE));
+        assertEquals(1, reportPage.findRow(0, Integer.MAX_VALUE, EmptyRowPredicate.INSTANCE));
+        assertEquals(4, reportPage.findRow(3, Integer.MAX_VALUE, EmptyRowPredicate.INSTANCE));
+        for (int i = 0; i < rows.length; i++) {
+            verify(reportPage).getRow(i);
+        }
+
+        reportPage.clearSearchCache();
+        assertEquals(1, reportPage.findRow(0, Integer.MAX_VALUE, EmptyRowPredicate.INSTANCE));
+        verify(reportPage, times(2)).getRow(1);
+    }
+
+    @Test
+    void findRowByOtherPredicate() {
+        ReportPageRow[] rows = {getRow(0), getRow(1)};
+        ReportPageRowsTestImpl reportPage = spy(new ReportPageRowsTestImpl(rows));
+
+        assertEquals(1, reportPage.findRow(0, Integer.MAX_VALUE, row -> row == rows[1]));
+        assertEquals(1, reportPage.findRow(0, Integer.MAX_VALUE, row -> row == rows[1]));
+        verify(reportPage, times(2)).getRow(1);
+    }
+
+    @Test
+    void findBySearchPlanner() {
+        ReportPageRow[] rows = {
+                getRow(0, cell("a", 0)),
+                null,
+                getRow(2, cell("b", 1), cell("c", 2))};
+        ReportPageRowsTestImpl reportPage = spy(new ReportPageRowsTestImpl(rows));
+
+        assertEquals(TableCellAddress.of(2, 1), reportPage.find("b"));
+        assertEquals(TableCellAddress.of(2, 2), reportPage.find(0, 3, 2, 3, "c"::equals));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("c", 0, 3, 0, 2));
+        verify(reportPage).getLastRowNum();
+
+        reportPage.clearSearchCache();
+        assertEquals(TableCellAddress.of(0, 0), reportPage.find("a"));
+        verify(reportPage, times(2)).getLastRowNum();
+    }
+
+    static class ReportPageRowsTestImpl extends AbstractReportPage<ReportPageRow> {
+        private final @Nullable ReportPageRow[] rows;
+
+        ReportPageRowsTestImpl(@Nullable ReportPageRow[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public @Nullable ReportPageRow getRow(int i) {
+            return rows[i];
+        }
+
+        @Override
+        public int getLastRowNum() {
+            return rows.length - 1;
+        }
+    }
+
     static class ReportPageTestImpl extends AbstractReportPage<ReportPageRow> {
 
         @Override
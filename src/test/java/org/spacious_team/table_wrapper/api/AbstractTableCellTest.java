@@ -100,6 +100,20 @@ class AbstractTableCellTest {
         Mockito.verify(dao).getLocalDateTimeValue(cellValue, ZoneOffset.UTC);
     }
 
+    @Test
+    void tryGetValue() {
+        cell.tryGetIntValue();
+        cell.tryGetLongValue();
+        cell.tryGetDoubleValue();
+        cell.tryGetBigDecimalValue();
+
+        Mockito.verify(dao).tryGetIntValue(cellValue);
+        Mockito.verify(dao).tryGetLongValue(cellValue);
+        Mockito.verify(dao).tryGetDoubleValue(cellValue);
+        Mockito.verify(dao).tryGetBigDecimalValue(cellValue);
+        Mockito.verify(dao, Mockito.never()).getValue(cellValue);
+    }
+
     @Test
     void getCell() {
         assertEquals(cellValue, cell.getCell());
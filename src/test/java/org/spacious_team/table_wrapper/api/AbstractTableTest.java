@@ -27,23 +27,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
+import static java.util.Objects.requireNonNull;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
 import static org.spacious_team.table_wrapper.api.TableColumn.LEFTMOST_COLUMN;
 import static org.spacious_team.table_wrapper.api.TableColumn.NOCOLUMN;
 
@@ -137,6 +149,52 @@ class AbstractTableTest {
         assertFalse(table.isEmpty());
     }
 
+    @Test
+    void setHeaderDescriptionCache() {
+        HeaderDescriptionCache defaultCache = AbstractTable.getHeaderDescriptionCache();
+        LruHeaderDescriptionCache cache = LruHeaderDescriptionCache.of(10);
+        try {
+            AbstractTable.setHeaderDescriptionCache(cache);
+            table = getNotEmptyTable();
+            AbstractTable<EmptyTableRow, ?> otherTable = getNotEmptyTable();
+
+            assertEquals(Map.of(Columns.FIRST.getColumn(), 0, Columns.SECOND.getColumn(), 1),
+                    table.getHeaderDescription());
+            assertSame(table.getHeaderDescription(), otherTable.getHeaderDescription());
+            assertEquals(1, cache.size());
+        } finally {
+            AbstractTable.setHeaderDescriptionCache(defaultCache);
+        }
+        assertEquals(LruHeaderDescriptionCache.class, defaultCache.getClass());
+    }
+
+    @Test
+    void getCellIndex() {
+        table = getNotEmptyTable();
+        TableHeaderColumn notEnumColumn = () -> ConstantPositionTableColumn.of(1);
+
+        assertEquals(0, table.getCellIndex(Columns.FIRST));
+        assertEquals(1, table.getCellIndex(Columns.SECOND));
+        assertEquals(-1, table.getCellIndex(Columns.NOT_FOUND));
+        assertEquals(1, table.getCellIndex(notEnumColumn));
+        assertEquals(-1, table.getCellIndex(() -> ConstantPositionTableColumn.of(2)));
+        assertEquals(-1, getEmptyTable().getCellIndex(Columns.FIRST));
+    }
+
+    @Test
+    void getCellIndexOfMatchedHeader() {
+        doReturn(ReportPageRowHelper.getRow(3, cell("Quantity", 0), cell("Trade price", 2), cell("Comment", 3)))
+                .when(report).getRow(3);
+        AbstractTable<EmptyTableRow, Object> table =
+                new TableTestImpl(report, "table name", TableCellRange.of(3, 5, 0, 100), HeaderColumns.class, 1);
+
+        assertEquals(Map.of(HeaderColumns.PRICE.getColumn(), 2, HeaderColumns.QUANTITY.getColumn(), 0),
+                table.getHeaderDescription());
+        assertEquals(2, table.getCellIndex(HeaderColumns.PRICE));
+        assertEquals(0, table.getCellIndex(HeaderColumns.QUANTITY));
+        assertEquals(-1, table.getCellIndex(HeaderColumns.DATE));
+    }
+
     @Test
     void getData() {
         TableRow sourceRow = mock(TableRow.class);
@@ -167,6 +225,30 @@ class AbstractTableTest {
         assertEquals(emptyList(), result);
     }
 
+    @Test
+    void getDataWithErrorSink() {
+        EmptyTableRow row1 = mock(EmptyTableRow.class);
+        EmptyTableRow row2 = mock(EmptyTableRow.class);
+        when(row2.getRowNum()).thenReturn(5);
+        MutableTableRow<Object, EmptyTableRow> sourceRow1 = new MutableTableRow<>(table, dao);
+        MutableTableRow<Object, EmptyTableRow> sourceRow2 = new MutableTableRow<>(table, dao);
+        sourceRow1.setRow(row1);
+        sourceRow2.setRow(row2);
+        Iterator<TableRow> iterator = Arrays.<TableRow>asList(sourceRow1, null, sourceRow2).iterator();
+        when(table.iterator()).thenReturn(iterator);
+        List<String> errors = new ArrayList<>();
+
+        List<TableRow> result = table.getData(report, row -> {
+            if (row == sourceRow2) {
+                row.getIntCellValue(Columns.FIRST);
+            }
+            return row;
+        }, (rowNum, column, reason) -> errors.add(rowNum + " " + column + " " + reason));
+
+        assertEquals(List.of(sourceRow1), result);
+        assertEquals(List.of("5 FIRST java.lang.NullPointerException: Cell is not found"), errors);
+    }
+
     @Test
     void getDataCollection() {
         TableRow sourceRow = mock(TableRow.class);
@@ -209,15 +291,269 @@ class AbstractTableTest {
         verify(mergeDuplicates).apply(internalRow1, internalRow1);
     }
 
+    @Test
+    void getDataParallel() {
+        table = getLargeTable();
+
+        List<Integer> result = table.getDataParallel(report, TableRow::getRowNum, ForkJoinPool.commonPool());
+
+        assertEquals(IntStream.rangeClosed(4, 1002).boxed().collect(Collectors.toList()), result);
+    }
+
+    @Test
+    void getDataParallelWithException() {
+        table = getLargeTable();
+        Function<TableRow, Integer> extractor = row -> {
+            if (row.getRowNum() % 2 == 0) {
+                throw new RuntimeException();
+            }
+            return row.getRowNum();
+        };
+
+        List<Integer> result = table.getDataParallel(report, extractor, ForkJoinPool.commonPool());
+
+        assertEquals(IntStream.rangeClosed(4, 1002)
+                .filter(i -> i % 2 != 0)
+                .boxed()
+                .collect(Collectors.toList()), result);
+    }
+
+    @Test
+    void getDataParallelOfEmptyTable() {
+        table = getEmptyTable();
+        Executor executor = mock(Executor.class);
+
+        List<Integer> result = table.getDataParallel(report, TableRow::getRowNum, executor);
+
+        assertEquals(emptyList(), result);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void getDataCollectionParallel() {
+        table = getLargeTable();
+
+        List<Integer> result = table.getDataCollectionParallel(report,
+                row -> List.of(row.getRowNum(), -row.getRowNum()), ForkJoinPool.commonPool());
+
+        assertEquals(IntStream.rangeClosed(4, 1002)
+                .flatMap(i -> IntStream.of(i, -i))
+                .boxed()
+                .collect(Collectors.toList()), result);
+    }
+
+    @Test
+    void getDataCollectionParallelWithEqualityChecker() {
+        table = getLargeTable();
+        Function<TableRow, Collection<Integer>> extractor = row -> List.of(row.getRowNum() % 10);
+        BiPredicate<Integer, Integer> equalityChecker = Integer::equals;
+        BiFunction<Integer, Integer, Collection<Integer>> merger = (a, b) -> List.of(a);
+
+        List<Integer> sequentialResult = table.getDataCollection(report, extractor, equalityChecker, merger);
+        List<Integer> result = table.getDataCollectionParallel(report, extractor, equalityChecker, merger,
+                ForkJoinPool.commonPool());
+
+        assertEquals(10, result.size());
+        assertEquals(sequentialResult, result);
+    }
+
+    @Test
+    void getDataCollectionByKey() {
+        table = getLargeTable();
+        Function<TableRow, Collection<Integer>> extractor = row -> List.of(row.getRowNum() % 10, 100 + row.getRowNum());
+        BiFunction<Integer, Integer, Collection<Integer>> merger = (a, b) -> List.of(a);
+
+        List<Integer> expected = table.getDataCollection(report, extractor, Integer::equals, merger);
+        List<Integer> result = table.getDataCollectionByKey(report, extractor, Function.identity(), merger);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void getDataCollectionByKeyWithException() {
+        table = getLargeTable();
+        Function<TableRow, Collection<Integer>> extractor = row -> List.of(row.getRowNum() % 2);
+        BiFunction<Integer, Integer, Collection<Integer>> merger = (a, b) -> {
+            throw new RuntimeException();
+        };
+
+        List<Integer> result = table.getDataCollectionByKey(report, extractor, Function.identity(), merger);
+
+        assertEquals(List.of(1), result);
+    }
+
+    @Test
+    void addWithKeyExtractor() {
+        Map<Character, String> map = new LinkedHashMap<>();
+        Function<String, Character> keyExtractor = e -> e.charAt(0);
+        BiFunction<String, String, Collection<String>> merger = (a, b) -> List.of(a + b);
+
+        AbstractTable.addWithKeyExtractor("a1", map, keyExtractor, merger);
+        AbstractTable.addWithKeyExtractor("b1", map, keyExtractor, merger);
+        AbstractTable.addWithKeyExtractor("a2", map, keyExtractor, merger);
+        AbstractTable.addWithKeyExtractor("b2", map, keyExtractor, (a, b) -> null);
+
+        assertEquals(List.of("a1a2"), List.copyOf(map.values()));
+    }
+
+    @Test
+    void getIntColumn() {
+        table = getNotEmptyTable();
+        mockDataRow5Cell("10");
+        when(dao.tryGetIntValue("10")).thenReturn(OptionalInt.of(10));
+        BitSet invalidRows = new BitSet();
+
+        int[] result = table.getIntColumn(Columns.SECOND, invalidRows);
+
+        assertArrayEquals(new int[]{10, 0}, result);
+        assertEquals(BitSet.valueOf(new long[]{0b10}), invalidRows); // row #6 is null
+    }
+
+    @Test
+    void getLongColumn() {
+        table = getNotEmptyTable();
+        mockDataRow5Cell("abc");
+        when(dao.tryGetLongValue("abc")).thenReturn(OptionalLong.empty());
+        BitSet invalidRows = new BitSet();
+
+        long[] result = table.getLongColumn(Columns.SECOND, invalidRows);
+
+        assertArrayEquals(new long[]{0, 0}, result);
+        assertEquals(BitSet.valueOf(new long[]{0b11}), invalidRows);
+    }
+
+    @Test
+    void getDoubleColumn() {
+        table = getNotEmptyTable();
+        mockDataRow5Cell("10.5");
+        when(dao.tryGetDoubleValue("10.5")).thenReturn(OptionalDouble.of(10.5));
+        BitSet invalidRows = new BitSet();
+
+        double[] result = table.getDoubleColumn(Columns.SECOND, invalidRows);
+
+        assertArrayEquals(new double[]{10.5, 0}, result);
+        assertEquals(BitSet.valueOf(new long[]{0b10}), invalidRows);
+        verify(dao, never()).getCell(any(), eq(0)); // column FIRST is not read
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "ConstantConditions"})
+    void getColumnOfInvalidValues_sameAsTableDefault() {
+        dao = mock(CellDataAccessObject.class, CALLS_REAL_METHODS);
+        table = getNotEmptyTable();
+        EmptyTableRow row5 = new EmptyTableRow(table, 5);
+        EmptyTableRow row6 = new EmptyTableRow(table, 6);
+        when(report.getRow(5)).thenReturn(row5);
+        when(report.getRow(6)).thenReturn(row6);
+        doReturn("abc").when(dao).getCell(row5, 1);
+        doReturn("2,5").when(dao).getCell(row6, 1);
+        doAnswer(i -> i.getArgument(0)).when(dao).getValue(any());
+        Table defaultTable = mock(Table.class, CALLS_REAL_METHODS);
+        doAnswer(i -> table.iterator()).when(defaultTable).iterator();
+        BitSet invalidRows = new BitSet();
+        BitSet defaultInvalidRows = new BitSet();
+
+        assertArrayEquals(defaultTable.getIntColumn(Columns.SECOND, defaultInvalidRows),
+                table.getIntColumn(Columns.SECOND, invalidRows));
+        assertEquals(defaultInvalidRows, invalidRows);
+        assertEquals(BitSet.valueOf(new long[]{0b11}), invalidRows);
+
+        assertArrayEquals(defaultTable.getLongColumn(Columns.SECOND, defaultInvalidRows),
+                table.getLongColumn(Columns.SECOND, invalidRows));
+        assertEquals(defaultInvalidRows, invalidRows);
+
+        assertArrayEquals(new double[]{0, 2.5}, table.getDoubleColumn(Columns.SECOND, invalidRows));
+        assertArrayEquals(defaultTable.getDoubleColumn(Columns.SECOND, defaultInvalidRows),
+                table.getDoubleColumn(Columns.SECOND, invalidRows));
+        assertEquals(defaultInvalidRows, invalidRows);
+        assertEquals(BitSet.valueOf(new long[]{0b01}), invalidRows);
+    }
+
+    @Test
+    void getDoubleColumnOfNotFoundColumn() {
+        table = getNotEmptyTable();
+        BitSet invalidRows = new BitSet();
+
+        double[] result = table.getDoubleColumn(Columns.NOT_FOUND, invalidRows);
+
+        assertArrayEquals(new double[]{0, 0}, result);
+        assertEquals(BitSet.valueOf(new long[]{0b11}), invalidRows);
+        verifyNoInteractions(dao);
+    }
+
+    @Test
+    void getDoubleColumnOfEmptyTable() {
+        table = getEmptyTable();
+        BitSet invalidRows = new BitSet();
+        invalidRows.set(0);
+
+        assertEquals(0, table.getDoubleColumn(Columns.FIRST, invalidRows).length);
+        assertTrue(invalidRows.isEmpty());
+    }
+
+    /**
+     * Mocks cell of column {@link Columns#SECOND} of data row #5
+     */
+    private void mockDataRow5Cell(Object cell) {
+        EmptyTableRow row = new EmptyTableRow(table, 5);
+        //noinspection ConstantConditions
+        when(report.getRow(5)).thenReturn(row);
+        when(dao.getCell(row, 1)).thenReturn(cell);
+    }
+
+    /**
+     * Builds table of 999 data rows (#4 - #1002), row #3 - header
+     */
+    private AbstractTable<EmptyTableRow, Object> getLargeTable() {
+        TableCellRange tableRange = TableCellRange.of(3, 1002, 0, 100);
+        //noinspection ConstantConditions
+        when(report.getRow(3)).thenReturn(new EmptyTableRow(table, 3)); // not empty header required
+        return new TableTestImpl(report, "table name", tableRange, headerDescription, 1);
+    }
+
     @Test
     void stream() {
-        TableRow row = mock(TableRow.class);
-        Iterator<TableRow> iterator = Arrays.asList(row, null).iterator();
-        when(table.iterator()).thenReturn(iterator);
+        table = getNotEmptyTable();
+        //noinspection ConstantConditions
+        when(report.getRow(5)).thenReturn(new EmptyTableRow(table, 5));
+        // report.getRow(6) == null
 
         Stream<TableRow> stream = table.stream();
 
-        assertEquals(Arrays.asList(row, null), stream.collect(Collectors.toList()));
+        //noinspection ConstantConditions
+        List<Class<?>> rowClasses = stream.map(Object::getClass).collect(Collectors.toList());
+        assertEquals(List.of(MutableTableRow.class, EmptyTableRow.class), rowClasses);
+    }
+
+    @Test
+    void spliterator() {
+        table = getNotEmptyTable();
+        Spliterator<TableRow> spliterator = table.spliterator();
+
+        assertEquals(AbstractTable.TableSpliterator.class, spliterator.getClass());
+        assertEquals(2, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    void parallelStream() {
+        TableCellRange tableRange = TableCellRange.of(3, 1002, 0, 100);
+        //noinspection ConstantConditions
+        when(report.getRow(3)).thenReturn(new EmptyTableRow(table, 3)); // not empty header required
+        table = new TableTestImpl(report, "table name", tableRange, headerDescription, 1);
+
+        Spliterator<TableRow> spliterator = table.spliterator();
+        Spliterator<TableRow> prefix = spliterator.trySplit();
+        List<Integer> rowNums = table.stream()
+                .parallel()
+                .map(row -> requireNonNull(row).getRowNum())
+                .collect(Collectors.toList());
+
+        assertNotNull(prefix);
+        assertEquals(499, prefix.getExactSizeIfKnown());
+        assertEquals(500, spliterator.getExactSizeIfKnown());
+        assertEquals(IntStream.rangeClosed(4, 1002).boxed().collect(Collectors.toList()), rowNums);
     }
 
     @Test
@@ -359,6 +695,15 @@ class AbstractTableTest {
         }
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    enum HeaderColumns implements TableHeaderColumn {
+        PRICE(PatternTableColumn.of("price")),
+        QUANTITY(PatternTableColumn.of("quantity")),
+        DATE(OptionalTableColumn.of(PatternTableColumn.of("date")));
+        private final TableColumn column;
+    }
+
     @Getter
     @RequiredArgsConstructor
     enum Columns implements TableHeaderColumn {
@@ -32,6 +32,9 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -214,6 +217,40 @@ class CellDataAccessObjectTest {
         verify(dao).getValue(cell);
     }
 
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void tryGetValue() {
+        assertEquals(OptionalInt.of(10), dao.tryGetIntValue("10"));
+        assertEquals(OptionalLong.of(2), dao.tryGetLongValue(2.5));
+        assertEquals(OptionalLong.of(2000), dao.tryGetLongValue(new StringBuilder("2 000")));
+        assertEquals(OptionalLong.empty(), dao.tryGetLongValue("2.5"));
+        assertEquals(OptionalLong.empty(), dao.tryGetLongValue(null));
+        assertEquals(OptionalDouble.of(2.5), dao.tryGetDoubleValue("2,5"));
+        assertEquals(OptionalDouble.of(1), dao.tryGetDoubleValue(BigInteger.ONE));
+        assertEquals(OptionalDouble.empty(), dao.tryGetDoubleValue("abc"));
+        assertEquals(OptionalDouble.empty(), dao.tryGetDoubleValue(null));
+        assertEquals(new BigDecimal("2.5"), dao.tryGetBigDecimalValue("2,5"));
+        assertEquals(BigDecimal.ONE, dao.tryGetBigDecimalValue(1));
+        assertNull(dao.tryGetBigDecimalValue("abc"));
+        assertNull(dao.tryGetBigDecimalValue(null));
+    }
+
+    @Test
+    void tryGetValueOfRow() {
+        doReturn(OptionalLong.of(10)).when(dao).tryGetLongValue(cell);
+        doReturn(OptionalDouble.of(10)).when(dao).tryGetDoubleValue(cell);
+        doReturn(BigDecimal.TEN).when(dao).tryGetBigDecimalValue(cell);
+
+        assertEquals(OptionalInt.of(10), dao.tryGetIntValue(row, EXISTS_CELL_INDEX));
+        assertEquals(OptionalLong.of(10), dao.tryGetLongValue(row, EXISTS_CELL_INDEX));
+        assertEquals(OptionalDouble.of(10), dao.tryGetDoubleValue(row, EXISTS_CELL_INDEX));
+        assertEquals(BigDecimal.TEN, dao.tryGetBigDecimalValue(row, EXISTS_CELL_INDEX));
+        assertEquals(OptionalInt.empty(), dao.tryGetIntValue(row, NOT_EXISTS_CELL_INDEX));
+        assertEquals(OptionalLong.empty(), dao.tryGetLongValue(row, NOT_EXISTS_CELL_INDEX));
+        assertEquals(OptionalDouble.empty(), dao.tryGetDoubleValue(row, NOT_EXISTS_CELL_INDEX));
+        assertNull(dao.tryGetBigDecimalValue(row, NOT_EXISTS_CELL_INDEX));
+    }
+
     @Test
     void testGetIntValue() {
         doReturn(10).when(dao).getIntValue(cell);
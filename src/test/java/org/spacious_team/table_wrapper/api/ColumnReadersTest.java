@@ -0,0 +1,171 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.api.ColumnType.*;
+
+class ColumnReadersTest {
+
+    @Test
+    void getColumnReaders() {
+        Table table = getTable(
+                row(1, "1,5", "01.02.2000", "a", 1, "1"),
+                row(2L, "-2 000,25", "02.02.2000", "b", "b", "02.02.2000"),
+                row(null, " ", null, "1,5", 3, "c"));
+
+        Map<Column, ColumnReader> readers = ColumnReaders.getColumnReaders(table, Column.class, 10);
+
+        assertEquals(NUMBER, readers.get(Column.NUMBER).getType());
+        assertEquals(NUMERIC_STRING, readers.get(Column.NUMERIC_STRING).getType());
+        assertEquals(DATE_TIME_STRING, readers.get(Column.DATE_TIME_STRING).getType());
+        assertEquals(STRING, readers.get(Column.STRING).getType());
+        assertEquals(OTHER, readers.get(Column.MIXED).getType());
+        assertEquals(STRING, readers.get(Column.MIXED_STRING).getType());
+        assertEquals(EMPTY, readers.get(Column.EMPTY).getType());
+    }
+
+    @Test
+    void getColumnReadersBySample() {
+        Table table = getTable(
+                row(1, "1", "01.02.2000", "a", 1, "1"),
+                row("2", "a", "b", "b", "b", "b"));
+
+        Map<Column, ColumnReader> readers = ColumnReaders.getColumnReaders(table, Column.class, 1);
+
+        assertEquals(NUMBER, readers.get(Column.NUMBER).getType());
+        assertEquals(NUMERIC_STRING, readers.get(Column.NUMERIC_STRING).getType());
+        assertEquals(DATE_TIME_STRING, readers.get(Column.DATE_TIME_STRING).getType());
+        assertEquals(EMPTY, ColumnReaders.getColumnReaders(table, Column.class, 0).get(Column.NUMBER).getType());
+        assertThrows(IllegalArgumentException.class, () -> ColumnReaders.getColumnReaders(table, Column.class, -1));
+    }
+
+    @Test
+    void getColumnReadersOfCharSequences() {
+        Table table = getTable(
+                row(1, new StringBuilder("1,5"), new StringBuilder("01.02.2000"), new StringBuilder("a"), 1, "1"));
+
+        Map<Column, ColumnReader> readers = ColumnReaders.getColumnReaders(table, Column.class, 1);
+
+        assertEquals(NUMERIC_STRING, readers.get(Column.NUMERIC_STRING).getType());
+        assertEquals(DATE_TIME_STRING, readers.get(Column.DATE_TIME_STRING).getType());
+        assertEquals(STRING, readers.get(Column.STRING).getType());
+    }
+
+    @Test
+    void readValuesOfInferredType() {
+        TableRow row1 = row(1, "1,5", "01.02.2000", "a", 1, "1");
+        TableRow row2 = row(2.5, new StringBuilder("-2 000,25"), "02.02.2000", "b", "b", "b");
+        Table table = getTable(row1, row2);
+        Map<Column, ColumnReader> readers = ColumnReaders.getColumnReaders(table, Column.class, 2);
+        Instant instant = LocalDate.of(2000, 2, 2).atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+        assertEquals(1, readers.get(Column.NUMBER).getLongValue(row1));
+        assertEquals(2.5, readers.get(Column.NUMBER).getDoubleValue(row2));
+        assertEquals(-2000.25, readers.get(Column.NUMERIC_STRING).getDoubleValue(row2));
+        assertEquals(0, new BigDecimal("1.5").compareTo(readers.get(Column.NUMERIC_STRING).getBigDecimalValue(row1)));
+        assertEquals(instant, readers.get(Column.DATE_TIME_STRING).getInstantValue(row2));
+        verify(row1, never()).getLongCellValue(any());
+        verify(row2, never()).getDoubleCellValue(any());
+        verify(row2, never()).getInstantCellValue(any());
+    }
+
+    @Test
+    void readDateTimeAtDaoZone() {
+        @SuppressWarnings("unchecked")
+        CellDataAccessObject<Object, ReportPageRow> dao = mock(CellDataAccessObject.class);
+        when(dao.getDefaultZoneId()).thenReturn(ZoneOffset.UTC);
+        @SuppressWarnings("unchecked")
+        MutableTableRow<Object, ReportPageRow> row = mock(MutableTableRow.class);
+        when(row.getDao()).thenReturn(dao);
+        stubCellValue(row, Column.DATE_TIME_STRING, "02.02.2000 10:00:00");
+        Table table = getTable(row);
+
+        Map<Column, ColumnReader> readers = ColumnReaders.getColumnReaders(table, Column.class, 1);
+
+        assertEquals(Instant.parse("2000-02-02T10:00:00Z"), readers.get(Column.DATE_TIME_STRING).getInstantValue(row));
+    }
+
+    @Test
+    void readValuesOfOtherType() {
+        TableRow row1 = row(1, "1,5", "01.02.2000", "a", 1, "1");
+        TableRow row2 = row("2", 3, Instant.EPOCH, "b", "b", "b");
+        Table table = getTable(row1);
+        Map<Column, ColumnReader> readers = ColumnReaders.getColumnReaders(table, Column.class, 1);
+        when(row2.getLongCellValue(Column.NUMBER)).thenReturn(2L);
+        when(row2.getDoubleCellValue(Column.NUMERIC_STRING)).thenReturn(3.0);
+
+        assertEquals(2, readers.get(Column.NUMBER).getLongValue(row2));
+        assertEquals(3.0, readers.get(Column.NUMERIC_STRING).getDoubleValue(row2));
+        readers.get(Column.DATE_TIME_STRING).getInstantValue(row2);
+        readers.get(Column.STRING).getLongValue(row2);
+        verify(row2).getInstantCellValue(Column.DATE_TIME_STRING);
+        verify(row2).getLongCellValue(Column.STRING);
+    }
+
+    private static Table getTable(TableRow... rows) {
+        Table table = mock(Table.class);
+        List<TableRow> rowList = new ArrayList<>(Arrays.asList(rows));
+        rowList.add(null);
+        when(table.iterator()).then($ -> rowList.iterator());
+        return table;
+    }
+
+    private static TableRow row(Object number, Object numericString, Object dateTimeString,
+                                Object string, Object mixed, Object mixedString) {
+        TableRow row = mock(TableRow.class);
+        stubCellValue(row, Column.NUMBER, number);
+        stubCellValue(row, Column.NUMERIC_STRING, numericString);
+        stubCellValue(row, Column.DATE_TIME_STRING, dateTimeString);
+        stubCellValue(row, Column.STRING, string);
+        stubCellValue(row, Column.MIXED, mixed);
+        stubCellValue(row, Column.MIXED_STRING, mixedString);
+        lenient().when(row.getCellValue(Column.EMPTY)).thenThrow(new TableColumnNotFound("not found"));
+        return row;
+    }
+
+    private static void stubCellValue(TableRow row, Column column, Object value) {
+        TableCell cell = mock(TableCell.class);
+        lenient().when(cell.getValue()).thenReturn(value);
+        lenient().when(row.getCellOrNull(column)).thenReturn(cell);
+        lenient().when(row.getCellValue(column)).thenReturn(value);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private enum Column implements TableHeaderColumn {
+        NUMBER, NUMERIC_STRING, DATE_TIME_STRING, STRING, MIXED, MIXED_STRING, EMPTY;
+
+        private final TableColumn column = TableColumn.NOCOLUMN;
+    }
+}
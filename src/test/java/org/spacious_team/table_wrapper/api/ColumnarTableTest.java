@@ -0,0 +1,269 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarTableTest {
+
+    static final Instant INSTANT = Instant.ofEpochMilli(1_000);
+
+    @Spy
+    Table source;
+    ColumnarTable table;
+
+    /**
+     * Snapshot of 4 rows: #10, #11, #12 (absent) and #13
+     */
+    @BeforeEach
+    void beforeEach() {
+        Map<TableColumn, Integer> headerDescription = Map.of(
+                Columns.NUMBER.getColumn(), 0,
+                Columns.AMOUNT.getColumn(), 1,
+                Columns.NAME.getColumn(), 2,
+                Columns.DATE.getColumn(), 3,
+                Columns.OTHER.getColumn(), 4);
+        List<TableRow> rows = new ArrayList<>();
+        rows.add(row(10, 1L, 1.5, "a", INSTANT, BigDecimal.ONE));
+        rows.add(row(11, 2, null, "b", null, null));
+        rows.add(new EmptyTableRow(source, 12));
+        rows.add(row(13, null, 2.5f, "a", INSTANT, "x"));
+        when(source.getHeaderDescription()).thenReturn(headerDescription);
+        when(source.iterator()).thenReturn(rows.iterator());
+        table = source.toColumnar();
+    }
+
+    private static TableRow row(int rowNum, Object... values) {
+        TableRow row = mock(TableRow.class);
+        lenient().when(row.getRowNum()).thenReturn(rowNum);
+        lenient().when(row.getCell(anyInt())).then(invocation -> {
+            int i = invocation.getArgument(0);
+            Object value = (i < values.length) ? values[i] : null;
+            return (value == null) ? null : ColumnarTable.ColumnarTableCell.of(value, i);
+        });
+        return row;
+    }
+
+    @Test
+    void toColumnar() {
+        assertSame(table, table.toColumnar());
+        assertEquals(source.getHeaderDescription(), table.getHeaderDescription());
+        assertFalse(table.isEmpty());
+        verify(source).iterator();
+    }
+
+    @Test
+    void iterator() {
+        List<Object> values = new ArrayList<>();
+        List<Integer> rowNums = new ArrayList<>();
+        for (TableRow row : table) {
+            rowNums.add(row.getRowNum());
+            for (Columns column : List.of(Columns.NUMBER, Columns.AMOUNT, Columns.NAME, Columns.DATE, Columns.OTHER)) {
+                values.add(String.valueOf(row.getCellValue(column)));
+            }
+        }
+
+        assertEquals(List.of(10, 11, 12, 13), rowNums);
+        assertEquals(List.of(
+                        "1", "1.5", "a", INSTANT.toString(), "1",
+                        "2", "null", "b", "null", "null",
+                        "null", "null", "null", "null", "null",
+                        "null", "2.5", "a", INSTANT.toString(), "x"),
+                values);
+    }
+
+    @Test
+    void iterator_reusesRowAndClonesIt() throws CloneNotSupportedException {
+        Iterator<TableRow> iterator = table.iterator();
+        TableRow row10 = iterator.next();
+        TableRow clone = row10.clone();
+        TableRow row11 = iterator.next();
+
+        assertSame(row10, row11);
+        assertEquals(11, row11.getRowNum());
+        assertEquals(10, clone.getRowNum());
+        assertEquals(1L, clone.getCellValue(Columns.NUMBER));
+    }
+
+    @Test
+    void typedGetters() {
+        TableRow row = table.getRow(10);
+
+        assertNotNull(row);
+        assertEquals(1, row.getIntCellValue(Columns.NUMBER));
+        assertEquals(1.5, row.getDoubleCellValue(Columns.AMOUNT));
+        assertEquals("a", row.getStringCellValue(Columns.NAME));
+        assertEquals(INSTANT, row.getInstantCellValue(Columns.DATE));
+        assertEquals(BigDecimal.ONE, row.getBigDecimalCellValue(Columns.OTHER));
+        assertEquals(Long.class, row.getCellValue(Columns.NUMBER).getClass());
+        TableCell cell = row.getCell(Columns.NAME);
+        assertNotNull(cell);
+        assertEquals(2, cell.getColumnIndex());
+        assertEquals(0, row.getFirstCellNum());
+        assertEquals(4, row.getLastCellNum());
+    }
+
+    @Test
+    void getColumn() {
+        BitSet invalidRows = new BitSet();
+
+        assertArrayEquals(new long[]{1, 2, 0, 0}, table.getLongColumn(Columns.NUMBER, invalidRows));
+        assertEquals(BitSet.valueOf(new long[]{0b1100}), invalidRows);
+
+        assertArrayEquals(new double[]{1.5, 0, 0, 2.5}, table.getDoubleColumn(Columns.AMOUNT, invalidRows));
+        assertEquals(BitSet.valueOf(new long[]{0b0110}), invalidRows);
+
+        assertArrayEquals(new int[]{0, 0, 0, 0}, table.getIntColumn(Columns.NAME, invalidRows));
+        assertEquals(BitSet.valueOf(new long[]{0b1111}), invalidRows);
+
+        assertArrayEquals(new int[]{1, 0, 0, 0}, table.getIntColumn(Columns.OTHER, invalidRows));
+        assertEquals(BitSet.valueOf(new long[]{0b1110}), invalidRows);
+
+        assertArrayEquals(new double[]{0, 0, 0, 0}, table.getDoubleColumn(Columns.MISSING, invalidRows));
+        assertEquals(BitSet.valueOf(new long[]{0b1111}), invalidRows);
+    }
+
+    @Test
+    void getColumn_sameAsTableDefault() {
+        Table defaultTable = mock(Table.class, CALLS_REAL_METHODS);
+        doAnswer(i -> table.iterator()).when(defaultTable).iterator();
+        BitSet invalidRows = new BitSet();
+        BitSet defaultInvalidRows = new BitSet();
+
+        for (Columns column : Columns.values()) {
+            assertArrayEquals(defaultTable.getIntColumn(column, defaultInvalidRows),
+                    table.getIntColumn(column, invalidRows), column.name());
+            assertEquals(defaultInvalidRows, invalidRows, column.name());
+            assertArrayEquals(defaultTable.getDoubleColumn(column, defaultInvalidRows),
+                    table.getDoubleColumn(column, invalidRows), column.name());
+            assertEquals(defaultInvalidRows, invalidRows, column.name());
+        }
+    }
+
+    @Test
+    void findRow() {
+        assertNull(table.getRow(12));
+        assertNull(table.getRow(99));
+        assertEquals(11, requireRowNum(table.getRow(11)));
+        assertEquals(11, requireRowNum(table.findRow("b")));
+        assertEquals(11, requireRowNum(table.findRow(2L)));
+        assertEquals(11, requireRowNum(table.findRow(2)));
+        assertEquals(13, requireRowNum(table.findRow(2.5f)));
+        assertNull(table.findRow(2.0));
+        assertEquals(13, requireRowNum(table.findRowByPrefix(" X")));
+        assertNull(table.findRow("c"));
+    }
+
+    private static int requireRowNum(TableRow row) {
+        assertNotNull(row);
+        return row.getRowNum();
+    }
+
+    @Test
+    void subTable() {
+        ColumnarTable subTable = table.subTable(-1, -1);
+        BitSet invalidRows = new BitSet();
+
+        assertArrayEquals(new long[]{2, 0}, subTable.getLongColumn(Columns.NUMBER, invalidRows));
+        assertEquals(BitSet.valueOf(new long[]{0b10}), invalidRows);
+        assertNull(subTable.getRow(10));
+        assertEquals(4, subTable.subTable(5, 5).stream().count());
+        assertTrue(table.subTable(-2, -2).isEmpty());
+    }
+
+    @Test
+    void getData() {
+        List<String> data = table.getData("report", row -> row.getStringCellValue(Columns.NAME));
+        assertEquals(List.of("a", "b", "a"), data);
+    }
+
+    @Test
+    void getReportPage() {
+        ReportPage reportPage = table.subTable(-1, 0).getReportPage();
+
+        assertEquals(13, reportPage.getLastRowNum());
+        assertNull(reportPage.getRow(12));
+        assertNull(reportPage.getRow(14));
+        assertEquals(10, requireNonNull(reportPage.getRow(10)).getRowNum());
+        assertEquals(TableCellAddress.of(11, 2), reportPage.find("b"));
+        assertEquals(TableCellAddress.of(13, 1), reportPage.find(2.5));
+        assertEquals(TableCellAddress.of(13, 1), reportPage.find(2.5f));
+        assertEquals(TableCellAddress.of(11, 0), reportPage.find(2));
+        assertEquals(TableCellAddress.of(11, 0), reportPage.find((short) 2));
+        assertTrue(requireNonNull(reportPage.getRow(10)).rowContains(1));
+        assertFalse(requireNonNull(reportPage.getRow(10)).rowContains(1.0));
+        assertEquals(TableCellAddress.of(13, 2), reportPage.find("a", 11));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("a", 0, 20, 3, 5));
+    }
+
+    @Test
+    void copyDateTimesAndCharSequences() {
+        StringBuilder name = new StringBuilder("c");
+        List<TableRow> rows = List.of(
+                row(20, 3, 1.5, name, Date.from(INSTANT), 1L),
+                row(21, 4, 2.5, "d", Date.from(INSTANT), "y"));
+        when(source.iterator()).thenReturn(rows.iterator());
+
+        ColumnarTable snapshot = ColumnarTable.of(source);
+        name.append("x");
+        TableRow row = requireNonNull(snapshot.getRow(20));
+
+        assertEquals("c", row.getCellValue(Columns.NAME));
+        assertEquals(INSTANT, row.getCellValue(Columns.DATE));
+        assertEquals(1L, row.getCellValue(Columns.OTHER));
+        assertEquals("y", requireNonNull(snapshot.getRow(21)).getCellValue(Columns.OTHER));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("ColumnarTable(tableName=<not found>)", table.toString());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum Columns implements TableHeaderColumn {
+        NUMBER(ConstantPositionTableColumn.of(0)),
+        AMOUNT(ConstantPositionTableColumn.of(1)),
+        NAME(ConstantPositionTableColumn.of(2)),
+        DATE(ConstantPositionTableColumn.of(3)),
+        OTHER(ConstantPositionTableColumn.of(4)),
+        MISSING(ConstantPositionTableColumn.of(5));
+        private final TableColumn column;
+    }
+}
@@ -43,6 +43,17 @@ class DateTimeFormatParserTest {
                 () -> DateTimeFormatParser.getDateTimeFormatter("illegal"));
     }
 
+    @Test
+    void findDateTimeFormatter() {
+        assertSame(DateTimeFormatParser.getDateTimeFormatter("01.02.2020"),
+                DateTimeFormatParser.findDateTimeFormatter("01.02.2020"));
+        assertNotNull(DateTimeFormatParser.findDateTimeFormatter("2000-02-01T20:10:02+03:00"));
+        assertNull(DateTimeFormatParser.findDateTimeFormatter("illegal"));
+        assertNull(DateTimeFormatParser.findDateTimeFormatter("1,5"));
+        assertNull(DateTimeFormatParser.findDateTimeFormatter("01.02.20xx"));
+        assertNull(DateTimeFormatParser.findDateTimeFormatter("Total rows"));
+    }
+
     @Test
     void cache() {
         DateTimeFormatter expected = DateTimeFormatParser.getDateTimeFormatter("01.02.2020");
@@ -50,6 +61,25 @@ class DateTimeFormatParserTest {
         assertSame(expected, actual);
     }
 
+    @Test
+    void cacheOfDateTimeWithZone() {
+        DateTimeFormatter expected = DateTimeFormatParser.getDateTimeFormatter("01.02.2000 20:10:02+03:00");
+        DateTimeFormatter actual = DateTimeFormatParser.getDateTimeFormatter("31.12.2020 23:59:59-01:00");
+        assertSame(expected, actual);
+        assertNotSame(expected, DateTimeFormatParser.getDateTimeFormatter("01.02.2000 20:10:02+0300"));
+        assertNotSame(expected, DateTimeFormatParser.getDateTimeFormatter("01-02-2000 20:10:02+03:00"));
+    }
+
+    @Test
+    void getDateTimeFormatterWithRareSeparators() {
+        DateTimeFormatter dtf = DateTimeFormatParser.getDateTimeFormatter("01;02;2000");
+        assertEquals(LocalDate.of(2000, 2, 1), LocalDate.parse("01;02;2000", dtf));
+        assertSame(dtf, DateTimeFormatParser.getDateTimeFormatter("31;12;2020"));
+
+        dtf = DateTimeFormatParser.getDateTimeFormatter("2000-02-01|20:10:02");
+        assertEquals(LocalDateTime.of(2000, 2, 1, 20, 10, 2), LocalDateTime.parse("2000-02-01|20:10:02", dtf));
+    }
+
     @ParameterizedTest
     @MethodSource("getInstantExamples")
     void getDateTimeFormatter(String actual, Temporal expected) {
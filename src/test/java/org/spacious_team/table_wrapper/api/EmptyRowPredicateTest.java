@@ -44,6 +44,8 @@ class EmptyRowPredicateTest {
                 {true, getRow(0, null, null)},
                 {true, getRow(0, cell(null, 3), cell("", 4))},
                 {false, getRow(0, cell(null, 3), cell(" ", 4))},
+                {true, getRow(0, cell(new StringBuilder(), 3))},
+                {false, getRow(0, cell(new StringBuilder(" "), 3))},
                 {false, getRow(0, cell("value", 3))},
                 {false, getRow(0, cell(123, 3))}};
     }
@@ -0,0 +1,81 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.Temporal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedLayoutDateTimeParserTest {
+
+    @ParameterizedTest
+    @MethodSource("getInstantExamples")
+    void parse(String value, Temporal expected) {
+        if (expected instanceof LocalTime) {
+            assertEquals(expected, FixedLayoutDateTimeParser.parseLocalTime(value));
+        } else if (expected instanceof LocalDate) {
+            assertEquals(expected, FixedLayoutDateTimeParser.parseLocalDate(value));
+        } else if (expected instanceof LocalDateTime) {
+            assertEquals(expected, FixedLayoutDateTimeParser.parseLocalDateTime(value));
+        } else {
+            assertNull(FixedLayoutDateTimeParser.parseLocalDateTime(value));
+        }
+    }
+
+    @Test
+    void parseWithMillis() {
+        assertEquals(LocalTime.of(20, 10, 2, 123_000_000), FixedLayoutDateTimeParser.parseLocalTime("20:10:02.123"));
+        assertEquals(LocalDateTime.of(2000, 2, 1, 20, 10, 2, 5_000_000),
+                FixedLayoutDateTimeParser.parseLocalDateTime("20:10:02.005 2000/02/01"));
+        assertEquals(LocalDate.of(2000, 2, 29), FixedLayoutDateTimeParser.parseLocalDate("29.02.2000"));
+        assertEquals(LocalDate.of(2000, 12, 31), FixedLayoutDateTimeParser.parseLocalDate("2000 12 31"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "2020.02-01", "01.02-2020", "01.13.2020", "00.01.2020", "31.04.2020",
+            "29.02.2001", "01.01.0000", "0a.01.2020", "2020-1-01", "2020/01/32"})
+    void parseInvalidDate(String value) {
+        assertNull(FixedLayoutDateTimeParser.parseLocalDate(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "24:00:00", "20:60:00", "20:10:60", "20-10-02", "20:10:02,123", "20:10:0a",
+            "20:10:02.1a3", "20:10:02.1"})
+    void parseInvalidTime(String value) {
+        assertNull(FixedLayoutDateTimeParser.parseLocalTime(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "01.02.2000", "01.02.2000 24:10:02", "31.02.2000 20:10:02",
+            "20:10:02 2000/02/1a", "01.02.2000 20:10:02+03", "20:10:02.000 2000.02/01"})
+    void parseInvalidDateTime(String value) {
+        assertNull(FixedLayoutDateTimeParser.parseLocalDateTime(value));
+    }
+
+    static Object[][] getInstantExamples() {
+        return DateTimeFormatParserTest.getInstantExamples();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.api.HeaderMatcher.NOT_FOUND;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
+
+class HeaderMatcherTest {
+
+    @Test
+    void getColumnIndices() {
+        ReportPageRow[] rows = new ReportPageRow[]{getRow(0,
+                cell("Date", 0),
+                cell("Trade price, RUB", 1),
+                cell("Quantity", 2),
+                cell("Commission", 4),
+                cell(123, 5),
+                cell("Comment", 6))};
+        HeaderMatcher matcher = HeaderMatcher.of(SingleRowHeader.class);
+
+        int[] indices = matcher.getColumnIndices(rows);
+
+        assertArrayEquals(new int[]{0, 1, 2, 4, 5, NOT_FOUND, 6, NOT_FOUND, 6, 1}, indices);
+        assertIndicesMatchColumns(matcher, indices, rows);
+    }
+
+    @Test
+    void getColumnIndicesOfMultiLineHeader() {
+        ReportPageRow[] rows = ReportPageRowHelper.getThreeRowsHeader();
+        HeaderMatcher matcher = HeaderMatcher.of(ThreeRowsHeader.class);
+
+        int[] indices = matcher.getColumnIndices(rows);
+
+        assertArrayEquals(new int[]{2, 5, 26, NOT_FOUND, NOT_FOUND, 1}, indices);
+        assertIndicesMatchColumns(matcher, indices, rows);
+    }
+
+    @Test
+    void getColumns() {
+        HeaderMatcher matcher = HeaderMatcher.of(ThreeRowsHeader.class);
+        TableColumn[] columns = matcher.getColumns();
+
+        assertEquals(ThreeRowsHeader.values().length, columns.length);
+        assertSame(ThreeRowsHeader.ONE_A2_B1.getColumn(), columns[ThreeRowsHeader.ONE_A2_B1.ordinal()]);
+        columns[0] = TableColumn.NOCOLUMN;
+        assertNotSame(columns[0], matcher.getColumns()[0]);
+        assertSame(matcher, HeaderMatcher.of(ThreeRowsHeader.class));
+    }
+
+    private static void assertIndicesMatchColumns(HeaderMatcher matcher, int[] indices, ReportPageRow[] rows) {
+        TableColumn[] columns = matcher.getColumns();
+        for (int i = 0; i < columns.length; i++) {
+            TableColumn column = columns[i];
+            if (indices[i] == NOT_FOUND) {
+                assertThrows(RuntimeException.class, () -> column.getColumnIndex(rows));
+            } else {
+                assertEquals(column.getColumnIndex(rows), indices[i]);
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private enum SingleRowHeader implements TableHeaderColumn {
+        DATE("date"),
+        PRICE("price", "rub"),
+        QUANTITY(AnyOfTableColumn.of(PatternTableColumn.of("count"), PatternTableColumn.of("quantity"))),
+        COMMISSION(PatternTableColumn.of("^commission$")),
+        AFTER_COMMISSION(RelativePositionTableColumn.of(PatternTableColumn.of("commission"), 1)),
+        MISSING("missing"),
+        OPTIONAL_COMMENT(OptionalTableColumn.of(PatternTableColumn.of("comment"))),
+        OPTIONAL_MISSING(OptionalTableColumn.of(PatternTableColumn.of("missing"))),
+        CONSTANT(ConstantPositionTableColumn.of(6)),
+        REGEX(PatternTableColumn.of("tr.de\\s+pr"));
+
+        private final TableColumn column;
+
+        SingleRowHeader(String... words) {
+            this(PatternTableColumn.of(words));
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private enum ThreeRowsHeader implements TableHeaderColumn {
+        ONE_A1_B2(MultiLineTableColumn.of("one", "a1", "b2")),
+        ONE_A2_B1(MultiLineTableColumn.of("one", "a2", "b1")),
+        TWO_A2_B2(MultiLineTableColumn.of("TWO", "A2", "b2")),
+        NOT_FOUND_COLUMN(MultiLineTableColumn.of("not", "fo", "und")),
+        SHORT_COLUMN(MultiLineTableColumn.of("one")),
+        ONE(PatternTableColumn.of("one"));
+
+        private final TableColumn column;
+    }
+}
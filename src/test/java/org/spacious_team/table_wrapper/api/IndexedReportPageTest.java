@@ -0,0 +1,174 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.ignoreCaseStringPrefixPredicateOnObject;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedReportPageTest {
+
+    static final String LONG_PREFIX = "Очень длинное название таблицы, длиннее индексируемого префикса";
+
+    @Mock
+    ReportPage reportPage;
+    IndexedReportPage indexedReportPage;
+
+    @BeforeEach
+    void beforeEach() {
+        ReportPageRow[] rows = {
+                getRow(0, cell("Table", 0), cell(1, 1)),
+                null,
+                getRow(2, cell("  table name", 2), cell(1, 3), cell(null, 4)),
+                getRow(3, cell(LONG_PREFIX + " 1", 0), cell("ТАБЛИЦА", 1)),
+                getRow(4, cell(LONG_PREFIX.toUpperCase() + " 2", 1), cell(1, 0))};
+        lenient().when(reportPage.getLastRowNum()).thenReturn(rows.length - 1);
+        lenient().when(reportPage.getRow(anyInt())).then(i -> rows[i.<Integer>getArgument(0)]);
+        lenient().when(reportPage.getCell(any())).then(i -> {
+            TableCellAddress address = i.getArgument(0);
+            ReportPageRow row = rows[address.getRow()];
+            return (row == null) ? null : row.getCell(address.getColumn());
+        });
+        indexedReportPage = IndexedReportPage.of(reportPage);
+    }
+
+    @Test
+    void of() {
+        assertSame(indexedReportPage, IndexedReportPage.of(indexedReportPage));
+        assertSame(reportPage, indexedReportPage.getReportPage());
+    }
+
+    @Test
+    void find() {
+        assertEquals(TableCellAddress.of(0, 1), indexedReportPage.find(1));
+        assertEquals(TableCellAddress.of(2, 3), indexedReportPage.find(1, 1));
+        assertEquals(TableCellAddress.of(4, 0), indexedReportPage.find(1, 3));
+        assertEquals(TableCellAddress.of(4, 0), indexedReportPage.find(1, 1, 5, 0, 1));
+        assertEquals(NOT_FOUND, indexedReportPage.find(1, 1, 4, 0, 1));
+        assertEquals(NOT_FOUND, indexedReportPage.find(1, 0, 5, 4, 10));
+        assertEquals(NOT_FOUND, indexedReportPage.find(2));
+        assertEquals(NOT_FOUND, indexedReportPage.find("table"));
+        assertEquals(TableCellAddress.of(0, 0), indexedReportPage.find("Table"));
+    }
+
+    @Test
+    void findByPrefix() {
+        assertEquals(TableCellAddress.of(0, 0), indexedReportPage.findByPrefix("tab"));
+        assertEquals(TableCellAddress.of(2, 2), indexedReportPage.findByPrefix(" TABLE N "));
+        assertEquals(TableCellAddress.of(2, 2), indexedReportPage.findByPrefix("tab", 1));
+        assertEquals(TableCellAddress.of(3, 1), indexedReportPage.findByPrefix("табл"));
+        assertEquals(NOT_FOUND, indexedReportPage.findByPrefix("table names"));
+        assertEquals(NOT_FOUND, indexedReportPage.findByPrefix("tab", 0, 2, 1, 2));
+        assertEquals(NOT_FOUND, indexedReportPage.findByPrefix(null));
+        assertEquals(NOT_FOUND, indexedReportPage.findByPrefix(""));
+    }
+
+    @Test
+    void findAllByPrefix() {
+        Map<String, TableCellAddress> expected = new LinkedHashMap<>();
+        expected.put(" TABLE N ", TableCellAddress.of(2, 2));
+        expected.put("tab", TableCellAddress.of(0, 0));
+        expected.put("табл", TableCellAddress.of(3, 1));
+        expected.put("", NOT_FOUND);
+        expected.put(LONG_PREFIX + " 2", TableCellAddress.of(4, 1));
+
+        Map<String, TableCellAddress> actual = indexedReportPage.findAllByPrefix(expected.keySet());
+
+        assertEquals(List.copyOf(expected.entrySet()), List.copyOf(actual.entrySet()));
+    }
+
+    @Test
+    void findByLongPrefix() {
+        assertEquals(TableCellAddress.of(3, 0), indexedReportPage.findByPrefix(LONG_PREFIX));
+        assertEquals(TableCellAddress.of(4, 1), indexedReportPage.findByPrefix(LONG_PREFIX + " 2"));
+        assertEquals(NOT_FOUND, indexedReportPage.findByPrefix(LONG_PREFIX + " 3"));
+    }
+
+    @Test
+    void findByPrefixPredicate() {
+        Predicate<Object> predicate = ignoreCaseStringPrefixPredicateOnObject("TABLE");
+        assertEquals(TableCellAddress.of(2, 2), indexedReportPage.find(1, 5, 0, 10, predicate));
+        verify(reportPage, never()).find(anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void findByOtherPredicate() {
+        Predicate<Object> predicate = value -> Integer.valueOf(1).equals(value);
+
+        assertEquals(TableCellAddress.of(0, 1), indexedReportPage.find(predicate));
+        assertEquals(TableCellAddress.of(2, 3), indexedReportPage.find(1, Integer.MAX_VALUE, 2, Integer.MAX_VALUE, predicate));
+        assertEquals(TableCellAddress.of(4, 0), indexedReportPage.find(0, 5, 0, 1, predicate));
+        assertEquals(NOT_FOUND, indexedReportPage.find(0, 1, 2, 3, predicate));
+        verify(reportPage, never()).find(anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void delegatedMethods() {
+        Predicate<ReportPageRow> predicate = row -> true;
+        when(reportPage.findRow(0, 1, predicate)).thenReturn(1);
+        assertEquals(1, indexedReportPage.findRow(0, 1, predicate));
+        assertEquals(4, indexedReportPage.getLastRowNum());
+        assertNull(indexedReportPage.getRow(1));
+        assertEquals("Table", indexedReportPage.getCell(TableCellAddress.of(0, 0)).getValue());
+    }
+
+    @Test
+    void createTable() {
+        TableFactory tableFactory = mock(TableFactory.class);
+        Table table = mock(Table.class);
+        when(tableFactory.canHandle(reportPage)).thenReturn(true);
+        when(tableFactory.create(eq(reportPage), eq("table name"), any(), eq(TableHeader.class), eq(1)))
+                .thenReturn(table);
+        TableFactoryRegistry.add(tableFactory);
+        try {
+            assertSame(table, indexedReportPage.createTable("table name", 0, LONG_PREFIX, TableHeader.class, 1));
+            ArgumentCaptor<TableCellRange> range = ArgumentCaptor.forClass(TableCellRange.class);
+            verify(tableFactory).create(eq(reportPage), eq("table name"), range.capture(), eq(TableHeader.class), eq(1));
+            assertEquals(2, range.getValue().getFirstRow());
+            assertEquals(3, range.getValue().getLastRow());
+        } finally {
+            TableFactoryRegistry.remove(tableFactory);
+        }
+    }
+
+    enum TableHeader implements TableHeaderColumn {
+        ;
+
+        @Override
+        public TableColumn getColumn() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
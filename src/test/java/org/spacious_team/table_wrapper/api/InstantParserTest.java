@@ -103,6 +103,31 @@ class InstantParserTest {
         assertEquals(expectedInstant, parser.parseInstant(actual));
     }
 
+    @ParameterizedTest
+    @MethodSource("getInstantExamples")
+    void parseInstantWithFixedLayoutParsing(String actual, Temporal expected) {
+        InstantParser parser = InstantParser.builder()
+                .fixedLayoutParsing(true)
+                .build();
+        Instant expectedInstant = toInstant(expected, LocalDate.now(), MIDNIGHT, ZoneId.systemDefault());
+
+        assertEquals(expectedInstant, parser.parseInstant(actual));
+    }
+
+    @Test
+    void parseInstantWithFixedLayoutParsingFallback() {
+        InstantParser parser = InstantParser.builder()
+                .fixedLayoutParsing(true)
+                .defaultZoneId(UTC)
+                .build();
+        // adjusted by formatter smart resolver
+        assertEquals(LocalDate.of(2000, 2, 29).atStartOfDay().toInstant(UTC), parser.parseInstant("31.02.2000"));
+        assertThrows(DateTimeParseException.class, () -> parser.parseInstant("abc"));
+        assertThrows(DateTimeParseException.class, () -> parser.parseInstant("2020.02-01"));
+        assertThrows(DateTimeParseException.class, () -> parser.parseInstant("01.13.2020"));
+        assertThrows(DateTimeParseException.class, () -> parser.parseInstant("25:00:00"));
+    }
+
     static Object[][] getInstantExamples() {
         return DateTimeFormatParserTest.getInstantExamples();
     }
@@ -166,7 +191,8 @@ class InstantParserTest {
 
     @Test
     void testToString() {
-        assertEquals("InstantParser(dateTimeFormatter=null, defaultDate=null, defaultTime=00:00, defaultZoneId=Z)",
+        assertEquals("InstantParser(dateTimeFormatter=null, defaultDate=null, defaultTime=00:00, defaultZoneId=Z, " +
+                        "fixedLayoutParsing=false)",
                 InstantParser.builder()
                         .defaultZoneId(UTC)
                         .build()
@@ -0,0 +1,103 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.*;
+import static nl.jqno.equalsverifier.Warning.ALL_FIELDS_SHOULD_BE_USED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiteralWordMatcherTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "word, word",
+            "word, WORD",
+            "WoRd, the word",
+            "word, a word in text",
+            "ord, word",
+            "wor, word",
+            "word, swords",
+            "дата, Дата сделки",
+            "количество, КОЛИЧЕСТВО",
+            "ИСПОЛНЕНИЯ, дата исполнения",
+            "ß, STRASSE",
+            "aab, aaab",
+            "abcab, xabcabcab",
+            "is the, 'London is the capital'",
+            "word, wor",
+            "word, drow",
+            "word, wodr",
+            "aab, abab",
+            "дата, дaта"})
+    void find(String word, String text) {
+        Pattern pattern = Pattern.compile(word, CASE_INSENSITIVE | UNICODE_CASE | UNICODE_CHARACTER_CLASS);
+        assertEquals(pattern.matcher(text).find(), LiteralWordMatcher.of(word).find(text));
+    }
+
+    @Test
+    void findInNonStringText() {
+        assertTrue(LiteralWordMatcher.of("word").find(new StringBuilder("some WORD")));
+        assertFalse(LiteralWordMatcher.of("word").find(new StringBuilder("some")));
+    }
+
+    @Test
+    void findWithSharedShift() {
+        // 'a' and 'š' (U+0161) have same low byte
+        assertTrue(LiteralWordMatcher.of("ab").find("šab"));
+        assertTrue(LiteralWordMatcher.of("aš").find("xxaš"));
+        assertFalse(LiteralWordMatcher.of("aš").find("xxša"));
+    }
+
+    @Test
+    void ofEmptyWord() {
+        assertThrows(IllegalArgumentException.class, () -> LiteralWordMatcher.of(""));
+    }
+
+    @Test
+    void isLiteral() {
+        assertTrue(LiteralWordMatcher.isLiteral("word"));
+        assertTrue(LiteralWordMatcher.isLiteral("trade price, rub"));
+        assertTrue(LiteralWordMatcher.isLiteral("количество"));
+        assertFalse(LiteralWordMatcher.isLiteral("^word"));
+        assertFalse(LiteralWordMatcher.isLiteral("a.b"));
+        assertFalse(LiteralWordMatcher.isLiteral("\\bword"));
+        assertFalse(LiteralWordMatcher.isLiteral("(a|b)"));
+        assertFalse(LiteralWordMatcher.isLiteral("a{2}"));
+    }
+
+    @Test
+    void toFoldedCase() {
+        assertEquals(LiteralWordMatcher.toFoldedCase("word"), LiteralWordMatcher.toFoldedCase("WoRD"));
+        assertEquals(LiteralWordMatcher.toFoldedCase("дата"), LiteralWordMatcher.toFoldedCase("ДАТА"));
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        EqualsVerifier
+                .forClass(LiteralWordMatcher.class)
+                .suppress(ALL_FIELDS_SHOULD_BE_USED)
+                .verify();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
+
+@ExtendWith(MockitoExtension.class)
+class LruHeaderDescriptionCacheTest {
+
+    @Mock
+    Supplier<Map<TableColumn, Integer>> parser;
+    Map<TableColumn, Integer> headerDescription = Map.of(TableColumn.LEFTMOST_COLUMN, 0);
+
+    @Test
+    void getHeaderDescription() {
+        LruHeaderDescriptionCache cache = LruHeaderDescriptionCache.of(10);
+        when(parser.get()).thenReturn(headerDescription);
+
+        Map<TableColumn, Integer> result1 = cache.getHeaderDescription(HeaderA.class, header("a", "b"), parser);
+        Map<TableColumn, Integer> result2 = cache.getHeaderDescription(HeaderA.class, header("a", "b"), parser);
+
+        assertSame(headerDescription, result1);
+        assertSame(headerDescription, result2);
+        assertEquals(1, cache.size());
+        verify(parser).get();
+    }
+
+    @Test
+    void getHeaderDescriptionOfDifferentLayouts() {
+        LruHeaderDescriptionCache cache = LruHeaderDescriptionCache.of(10);
+        when(parser.get()).thenReturn(headerDescription);
+
+        cache.getHeaderDescription(HeaderA.class, header("a", "b"), parser);
+        cache.getHeaderDescription(HeaderA.class, header("a", "c"), parser);
+        cache.getHeaderDescription(HeaderB.class, header("a", "b"), parser);
+        cache.getHeaderDescription(HeaderA.class, new ReportPageRow[]{getRow(0, cell("a", 0)), getRow(1, cell("b", 1))}, parser);
+        cache.getHeaderDescription(HeaderA.class, new ReportPageRow[]{getRow(0, cell("a", 0), cell("b", 2))}, parser);
+
+        assertEquals(5, cache.size());
+        verify(parser, times(5)).get();
+    }
+
+    @Test
+    void getHeaderDescriptionOfCharSequenceValues() {
+        LruHeaderDescriptionCache cache = LruHeaderDescriptionCache.of(10);
+        when(parser.get()).thenReturn(headerDescription);
+        StringBuilder value = new StringBuilder("a");
+        ReportPageRow[] headerRows = {getRow(0, cell(value, 0))};
+
+        cache.getHeaderDescription(HeaderA.class, headerRows, parser);
+        value.append("b");
+        cache.getHeaderDescription(HeaderA.class, header("a"), parser);
+        cache.getHeaderDescription(HeaderA.class, new ReportPageRow[]{getRow(0, cell(new StringBuilder("a"), 0))}, parser);
+
+        assertEquals(1, cache.size());
+        verify(parser).get();
+    }
+
+    @Test
+    void mutableValuesAreNotCached() {
+        LruHeaderDescriptionCache cache = LruHeaderDescriptionCache.of(10);
+        when(parser.get()).thenReturn(headerDescription);
+        ReportPageRow[] headerRows = {getRow(0, cell("a", 0), cell(new Date(0), 1))};
+
+        cache.getHeaderDescription(HeaderA.class, headerRows, parser);
+        cache.getHeaderDescription(HeaderA.class, headerRows, parser);
+
+        assertEquals(0, cache.size());
+        verify(parser, times(2)).get();
+    }
+
+    @Test
+    void eviction() {
+        LruHeaderDescriptionCache cache = LruHeaderDescriptionCache.of(2);
+        when(parser.get()).thenReturn(headerDescription);
+
+        cache.getHeaderDescription(HeaderA.class, header("a"), parser);
+        cache.getHeaderDescription(HeaderA.class, header("b"), parser);
+        cache.getHeaderDescription(HeaderA.class, header("a"), parser); // "b" is the eldest
+        cache.getHeaderDescription(HeaderA.class, header("c"), parser);
+        cache.getHeaderDescription(HeaderA.class, header("a"), parser);
+        cache.getHeaderDescription(HeaderA.class, header("b"), parser);
+
+        assertEquals(2, cache.size());
+        verify(parser, times(4)).get();
+    }
+
+    @Test
+    void parserException() {
+        LruHeaderDescriptionCache cache = LruHeaderDescriptionCache.of(2);
+        when(parser.get()).thenThrow(TableColumnNotFound.class);
+
+        assertThrows(TableColumnNotFound.class, () -> cache.getHeaderDescription(HeaderA.class, header("a"), parser));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void clear() {
+        LruHeaderDescriptionCache cache = LruHeaderDescriptionCache.of(2);
+        when(parser.get()).thenReturn(headerDescription);
+        cache.getHeaderDescription(HeaderA.class, header("a"), parser);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void of() {
+        assertThrows(IllegalArgumentException.class, () -> LruHeaderDescriptionCache.of(0));
+    }
+
+    @Test
+    void disabled() {
+        when(parser.get()).thenReturn(headerDescription);
+
+        HeaderDescriptionCache.DISABLED.getHeaderDescription(HeaderA.class, header("a"), parser);
+        HeaderDescriptionCache.DISABLED.getHeaderDescription(HeaderA.class, header("a"), parser);
+
+        verify(parser, times(2)).get();
+    }
+
+    private static ReportPageRow[] header(String... values) {
+        TableCell[] cells = new TableCell[values.length];
+        for (int i = 0; i < values.length; i++) {
+            cells[i] = cell(values[i], i);
+        }
+        return new ReportPageRow[]{getRow(0, cells)};
+    }
+
+    enum HeaderA implements TableHeaderColumn {
+        COLUMN;
+
+        @Override
+        public TableColumn getColumn() {
+            return TableColumn.LEFTMOST_COLUMN;
+        }
+    }
+
+    enum HeaderB implements TableHeaderColumn {
+        COLUMN;
+
+        @Override
+        public TableColumn getColumn() {
+            return TableColumn.LEFTMOST_COLUMN;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.TableSpecResolverTest.ReportPageTestImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+class MultiPrefixMatcherTest {
+
+    final ReportPage reportPage = new ReportPageTestImpl(
+            getRow(0, cell("Account", 0), cell(1, 1)),
+            null,
+            getRow(2, cell(" ", 0), cell("  account number", 2), cell("Period", 1), cell(null, 4)),
+            getRow(3, cell("ПЕРИОД отчета", 0), cell("Client", 1)),
+            getRow(4, cell("client", 0), cell("Ǆ", 1)));
+
+    @Test
+    void findAll() {
+        List<String> prefixes = List.of("client", "account n", "period", " Период ", "acc", "missing", "", " ", "ǆ");
+        Map<String, TableCellAddress> addresses = MultiPrefixMatcher.of(prefixes).findAll(reportPage);
+
+        assertEquals(prefixes, List.copyOf(addresses.keySet()));
+        assertEquals(TableCellAddress.of(3, 1), addresses.get("client"));
+        assertEquals(TableCellAddress.of(2, 2), addresses.get("account n"));
+        assertEquals(TableCellAddress.of(2, 1), addresses.get("period"));
+        assertEquals(TableCellAddress.of(3, 0), addresses.get(" Период "));
+        assertEquals(TableCellAddress.of(0, 0), addresses.get("acc"));
+        assertEquals(NOT_FOUND, addresses.get("missing"));
+        assertEquals(NOT_FOUND, addresses.get(""));
+        assertEquals(TableCellAddress.of(0, 0), addresses.get(" "));
+        for (String prefix : prefixes) {
+            assertEquals(reportPage.findByPrefix(prefix), addresses.get(prefix), prefix);
+        }
+    }
+
+    @Test
+    void findAll_duplicatePrefixes() {
+        Map<String, TableCellAddress> addresses = MultiPrefixMatcher.of(List.of("acc", "acc")).findAll(reportPage);
+        assertEquals(Map.of("acc", TableCellAddress.of(0, 0)), addresses);
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void findAll_nullPrefix() {
+        List<String> prefixes = Arrays.asList("acc", null);
+        Map<String, TableCellAddress> addresses = MultiPrefixMatcher.of(prefixes).findAll(reportPage);
+
+        assertEquals(prefixes, new ArrayList<>(addresses.keySet()));
+        assertEquals(TableCellAddress.of(0, 0), addresses.get("acc"));
+        assertEquals(NOT_FOUND, addresses.get(null));
+        assertEquals(reportPage.findByPrefix(null), addresses.get(null));
+    }
+
+    @Test
+    void findAll_emptyPrefixes() {
+        assertEquals(Map.of(), MultiPrefixMatcher.of(List.of()).findAll(reportPage));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("MultiPrefixMatcher(requestedPrefixes=[a, b])", MultiPrefixMatcher.of(List.of("a", "b")).toString());
+    }
+}
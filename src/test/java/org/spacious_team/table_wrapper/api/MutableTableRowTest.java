@@ -30,11 +30,16 @@ import java.time.ZoneOffset;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import static nl.jqno.equalsverifier.Warning.NONFINAL_FIELDS;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,6 +72,31 @@ class MutableTableRowTest {
         verify(row).getCell(COLUMN_INDEX);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getCellByTableHeaderColumnOfAbstractTable() {
+        AbstractTable<ReportPageRow, ?> table = mock(AbstractTable.class);
+        row = spy(new MutableTableRow<>(table, dao));
+        row.setRow(wrappedRow);
+        when(table.getCellIndex(headerColumn)).thenReturn(COLUMN_INDEX, -1);
+
+        row.getCell(headerColumn);
+
+        verify(row).getCell(COLUMN_INDEX);
+        verify(table, never()).getHeaderDescription();
+        assertThrows(NullPointerException.class, () -> row.getCell(headerColumn));
+    }
+
+    @Test
+    void getCellOrNull() {
+        TableHeaderColumn absentColumn = () -> TableColumn.NOCOLUMN;
+
+        row.getCellOrNull(headerColumn);
+
+        verify(row).getCell(COLUMN_INDEX);
+        assertNull(row.getCellOrNull(absentColumn));
+    }
+
     @Test
     void getCellByIndex_sameDao() {
         row.getCell(COLUMN_INDEX);
@@ -99,6 +129,43 @@ class MutableTableRowTest {
         verify(wrappedRow).getCell(COLUMN_INDEX);
     }
 
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void getCellByIndex_differentDao_wrappedOncePerRow() {
+        CellDataAccessObject dao = mock(CellDataAccessObject.class);
+        AbstractTableCell cell = mock(AbstractTableCell.class);
+        AbstractTableCell expectedCell = mock(AbstractTableCell.class);
+        when(cell.getCellDataAccessObject()).thenReturn(dao);
+        when(cell.withCellDataAccessObject(any())).thenReturn(expectedCell);
+        //noinspection ConstantConditions
+        when(wrappedRow.getCell(COLUMN_INDEX)).thenReturn(cell);
+
+        assertSame(expectedCell, row.getCell(COLUMN_INDEX));
+        assertSame(expectedCell, row.getCell(COLUMN_INDEX));
+        verify(wrappedRow).getCell(COLUMN_INDEX);
+        verify(cell).withCellDataAccessObject(any());
+
+        assertSame(expectedCell, row.clone().getCell(COLUMN_INDEX));
+        row.setRow(wrappedRow);
+        assertSame(expectedCell, row.getCell(COLUMN_INDEX));
+        verify(cell, times(3)).withCellDataAccessObject(any());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void getCellByIndex_equalDao_notWrapped() {
+        AbstractTableCell cell = mock(AbstractTableCell.class);
+        when(cell.getCellDataAccessObject()).thenReturn(dao);
+        //noinspection ConstantConditions
+        when(wrappedRow.getCell(COLUMN_INDEX)).thenReturn(cell);
+
+        assertSame(cell, row.getCell(COLUMN_INDEX));
+        assertSame(cell, row.getCell(COLUMN_INDEX));
+
+        verify(cell, times(2)).getCellDataAccessObject();
+        verify(cell, never()).withCellDataAccessObject(any());
+    }
+
     @Test
     void getRowNum() {
         row.getRowNum();
@@ -176,6 +243,37 @@ class MutableTableRowTest {
         verify(dao).getLongValue(wrappedRow, COLUMN_INDEX);
     }
 
+    @Test
+    void tryGetCellValue() {
+        TableHeaderColumn absentColumn = () -> TableColumn.NOCOLUMN;
+
+        row.tryGetIntCellValue(headerColumn);
+        row.tryGetLongCellValue(headerColumn);
+        row.tryGetDoubleCellValue(headerColumn);
+        row.tryGetBigDecimalCellValue(headerColumn);
+
+        verify(dao).tryGetIntValue(wrappedRow, COLUMN_INDEX);
+        verify(dao).tryGetLongValue(wrappedRow, COLUMN_INDEX);
+        verify(dao).tryGetDoubleValue(wrappedRow, COLUMN_INDEX);
+        verify(dao).tryGetBigDecimalValue(wrappedRow, COLUMN_INDEX);
+        assertEquals(OptionalInt.empty(), row.tryGetIntCellValue(absentColumn));
+        assertEquals(OptionalLong.empty(), row.tryGetLongCellValue(absentColumn));
+        assertEquals(OptionalDouble.empty(), row.tryGetDoubleCellValue(absentColumn));
+        assertNull(row.tryGetBigDecimalCellValue(absentColumn));
+        verifyNoInteractions(wrappedRow);
+    }
+
+    @Test
+    void getLastAccessedColumn() {
+        assertNull(row.getLastAccessedColumn());
+
+        row.getLongCellValue(headerColumn);
+        assertSame(headerColumn, row.getLastAccessedColumn());
+
+        row.setRow(wrappedRow);
+        assertNull(row.getLastAccessedColumn());
+    }
+
     @Test
     void getDoubleCellValue() {
         row.getDoubleCellValue(headerColumn);
@@ -0,0 +1,170 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumberCellParserTest {
+
+    @ParameterizedTest
+    @MethodSource("longFactory")
+    void parseLong(long expected, String value) {
+        assertEquals(expected, NumberCellParser.parseLong(value));
+    }
+
+    static Object[][] longFactory() {
+        return new Object[][]{
+                {10L, "10"},
+                {10L, " 10 "},
+                {10L, "+10"},
+                {-10L, "-10"},
+                {-10L, "- 10"},
+                {1_000_000L, "1 000 000"},
+                {1_000_000L, "1\u00A0000\u00A0000"},
+                {1_000_000L, "1\u202F000\u202F000"},
+                {1_000_000L, "1'000'000"},
+                {Long.MAX_VALUE, String.valueOf(Long.MAX_VALUE)},
+                {Long.MIN_VALUE, String.valueOf(Long.MIN_VALUE)},
+        };
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "-", "+", "10.0", "10,0", "abc", "0xFF", "1e3", "--1",
+            "9223372036854775808", "-9223372036854775809"})
+    void parseLongException(String value) {
+        assertThrows(NumberFormatException.class, () -> NumberCellParser.parseLong(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("doubleFactory")
+    void parseDouble(double expected, String value) {
+        assertEquals(expected, NumberCellParser.parseDouble(value));
+    }
+
+    static Object[][] doubleFactory() {
+        return new Object[][]{
+                {10d, "10"},
+                {10.1d, "10.1"},
+                {10.1d, "10,1"},
+                {-10.1d, "-10,1"},
+                {0.1d, ".1"},
+                {10d, "10."},
+                {1000.1d, "1 000.1"},
+                {1000.1d, "1\u00A0000,1"},
+                {1000.1d, "1'000.1"},
+                {0.000001d, "0.000001"},
+                {1.5e10d, "1.5e10"},
+                {1.5e-10d, "1.5E-10"},
+                {1e300d, "1e300"},
+                {0.1d + 0.2d, "0.30000000000000004"},
+                {123456789012345678d, "123456789012345678"},
+                {-0d, "-0"},
+                {Double.NaN, "NaN"},
+                {Double.POSITIVE_INFINITY, "Infinity"},
+                {10d, "10d"},
+        };
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "-", ".", "abc", "a.bc", "0xFF", "1.2.3", "1,000.5", "1e", "1e+"})
+    void parseDoubleException(String value) {
+        assertThrows(NumberFormatException.class, () -> NumberCellParser.parseDouble(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("bigDecimalFactory")
+    void parseBigDecimal(BigDecimal expected, String value) {
+        assertEquals(expected, NumberCellParser.parseBigDecimal(value));
+    }
+
+    static Object[][] bigDecimalFactory() {
+        return new Object[][]{
+                {BigDecimal.valueOf(10), "10"},
+                {BigDecimal.valueOf(10.0), "10.0"},
+                {BigDecimal.valueOf(-10.1), "-10,1"},
+                {BigDecimal.valueOf(1000.1), "1\u00A0000.1"},
+                {BigDecimal.valueOf(0, 3), "0.000"},
+                {new BigDecimal("1E+3"), "1E+3"},
+                {new BigDecimal("12345678901234567890.123"), "12 345 678 901 234 567 890,123"},
+        };
+    }
+
+    @Test
+    void parseBigDecimalZero() {
+        assertSame(BigDecimal.ZERO, NumberCellParser.parseBigDecimal("0"));
+        assertSame(BigDecimal.ZERO, NumberCellParser.parseBigDecimal("0.0"));
+        assertSame(BigDecimal.ZERO, NumberCellParser.parseBigDecimal("0,00"));
+        assertNotSame(BigDecimal.ZERO, NumberCellParser.parseBigDecimal("0.000"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "-", ".", "abc", "0xFF", "1.2.3"})
+    void parseBigDecimalException(String value) {
+        assertThrows(NumberFormatException.class, () -> NumberCellParser.parseBigDecimal(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("longFactory")
+    void tryParseLong(long expected, String value) {
+        assertEquals(OptionalLong.of(expected), NumberCellParser.tryParseLong(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "-", "+", "10.0", "10,0", "abc", "0xFF", "1e3", "--1",
+            "9223372036854775808", "-9223372036854775809"})
+    void tryParseLongEmpty(String value) {
+        assertEquals(OptionalLong.empty(), NumberCellParser.tryParseLong(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("doubleFactory")
+    void tryParseDouble(double expected, String value) {
+        if (Double.isFinite(expected) && !value.endsWith("d")) {
+            assertEquals(OptionalDouble.of(expected), NumberCellParser.tryParseDouble(value));
+        } else {  // rare formats
+            assertEquals(OptionalDouble.empty(), NumberCellParser.tryParseDouble(value));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "-", ".", "abc", "a.bc", "0xFF", "1.2.3", "1,000.5", "1e", "1e+"})
+    void tryParseDoubleEmpty(String value) {
+        assertEquals(OptionalDouble.empty(), NumberCellParser.tryParseDouble(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("bigDecimalFactory")
+    void tryParseBigDecimal(BigDecimal expected, String value) {
+        assertEquals(expected, NumberCellParser.tryParseBigDecimal(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "-", ".", "abc", "0xFF", "1.2.3", "1e99999999999"})
+    void tryParseBigDecimalNull(String value) {
+        assertNull(NumberCellParser.tryParseBigDecimal(value));
+    }
+}
@@ -58,6 +58,7 @@ class PatternTableColumnTest {
         assertEquals(22, PatternTableColumn.of("windows").getColumnIndex(21, row));
         assertEquals(23, PatternTableColumn.of("\\bмягких\\b").getColumnIndex(row));
         assertEquals(23, PatternTableColumn.of("\\bбулочек\\b").getColumnIndex(row));
+        assertEquals(23, PatternTableColumn.of("МЯГКИХ", "\\bбулочек\\b").getColumnIndex(row));
 
         TableColumn column1 = PatternTableColumn.of("windows");
         assertThrows(TableColumnNotFound.class, () -> column1.getColumnIndex(23, row));
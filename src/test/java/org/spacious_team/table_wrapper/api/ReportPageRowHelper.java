@@ -20,8 +20,10 @@ package org.spacious_team.table_wrapper.api;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -118,8 +120,7 @@ final class ReportPageRowHelper {
         private final int columnIndex;
 
         TableCellTestImpl(Object value, int columnIndex) {
-            //noinspection ConstantConditions
-            super(value, null);
+            super(value, ValueDao.INSTANCE);
             this.value = value;
             this.columnIndex = columnIndex;
         }
@@ -130,4 +131,26 @@ final class ReportPageRowHelper {
             throw new UnsupportedOperationException();
         }
     }
+
+    /**
+     * Cell is a cell value
+     */
+    private static class ValueDao implements CellDataAccessObject<Object, ReportPageRow> {
+        static final ValueDao INSTANCE = new ValueDao();
+
+        @Override
+        public @Nullable Object getCell(ReportPageRow row, Integer cellIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @Nullable Object getValue(Object cell) {
+            return cell;
+        }
+
+        @Override
+        public Instant getInstantValue(Object cell) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.TableSpecResolverTest.ReportPageTestImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
+
+class ReportPageSearchPlannerTest {
+
+    ReportPageRow row0;
+    ReportPageRow row2;
+    ReportPageRow emptyRow;
+    ReportPageSearchPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        row0 = getRow(0, cell("a", 1), cell("b", 2));
+        emptyRow = getRow(3);
+        row2 = getRow(2, cell("a", 5), cell("c", 7));
+        when(row2.getFirstCellNum()).thenReturn(5);
+        planner = ReportPageSearchPlanner.of(new ReportPageTestImpl(row0, null, row2, emptyRow));
+    }
+
+    @Test
+    void nextPopulatedRow() {
+        assertEquals(0, planner.nextPopulatedRow(-1));
+        assertEquals(0, planner.nextPopulatedRow(0));
+        assertEquals(2, planner.nextPopulatedRow(1));
+        assertEquals(-1, planner.nextPopulatedRow(3));
+    }
+
+    @Test
+    void getCellNums() {
+        assertEquals(0, planner.getFirstCellNum(0));
+        assertEquals(2, planner.getLastCellNum(0));
+        assertEquals(-1, planner.getFirstCellNum(1));
+        assertEquals(5, planner.getFirstCellNum(2));
+        assertEquals(7, planner.getLastCellNum(2));
+        assertEquals(-1, planner.getLastCellNum(3));
+        assertEquals(-1, planner.getLastCellNum(-1));
+        assertEquals(-1, planner.getLastCellNum(100));
+    }
+
+    @Test
+    void find() {
+        assertEquals(TableCellAddress.of(0, 1), planner.find("a", 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE));
+        assertEquals(TableCellAddress.of(2, 5), planner.find("a", 1, Integer.MAX_VALUE, 0, Integer.MAX_VALUE));
+        assertEquals(TableCellAddress.of(2, 5), planner.find("a", 0, 3, 2, 6));
+        assertEquals(TableCellAddress.of(2, 7), planner.find("c", 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE));
+        assertEquals(TableCellAddress.NOT_FOUND, planner.find("c", 0, 2, 0, Integer.MAX_VALUE));
+        assertEquals(TableCellAddress.NOT_FOUND, planner.find("c", 0, 3, 0, 7));
+        assertEquals(TableCellAddress.NOT_FOUND, planner.find("x", 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void findScansOnlyPopulatedCells() {
+        planner.find(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, value -> false);
+
+        verify(row0, times(3)).getCell(anyInt());
+        verify(row2, never()).getCell(intThat(i -> i < 5 || i > 7));
+        verify(emptyRow, never()).getCell(anyInt());
+    }
+}
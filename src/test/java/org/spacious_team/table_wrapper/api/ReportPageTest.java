@@ -29,6 +29,9 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -169,6 +172,40 @@ class ReportPageTest {
     }
 
 
+    @Test
+    void findAllByPrefix() {
+        ReportPageRow[] rows = {getRow(0, cell("B", 1)), getRow(1, cell(" ab", 3), cell("a", 2))};
+        when(reportPage.getLastRowNum()).thenReturn(rows.length - 1);
+        when(reportPage.getRow(anyInt())).then(i -> rows[i.<Integer>getArgument(0)]);
+
+        Map<String, TableCellAddress> addresses = reportPage.findAllByPrefix(List.of(prefix1, prefix2, "C"));
+
+        assertEquals(List.of(prefix1, prefix2, "C"), List.copyOf(addresses.keySet()));
+        assertEquals(TableCellAddress.of(1, 2), addresses.get(prefix1));
+        assertEquals(TableCellAddress.of(0, 1), addresses.get(prefix2));
+        assertEquals(NOT_FOUND, addresses.get("C"));
+    }
+
+    @Test
+    void getNextColumnValues() {
+        List<String> prefixes = List.of(prefix1, prefix2);
+        Map<String, TableCellAddress> addresses = new LinkedHashMap<>();
+        addresses.put(prefix1, address1);
+        addresses.put(prefix2, NOT_FOUND);
+        doReturn(addresses).when(reportPage).findAllByPrefix(prefixes);
+        ReportPageRow row = getRow(1, cell("key", 2), cell("value", 5));
+        //noinspection ConstantConditions
+        when(reportPage.getRow(address1.getRow())).thenReturn(row);
+
+        Map<String, @Nullable Object> values = reportPage.getNextColumnValues(prefixes);
+
+        assertEquals(prefixes, List.copyOf(values.keySet()));
+        assertEquals("value", values.get(prefix1));
+        assertNull(values.get(prefix2));
+        verify(reportPage).getNextColumnValues(prefixes, 1, Integer.MAX_VALUE);
+        verify(reportPage, never()).findByPrefix(any());
+    }
+
     @ParameterizedTest
     @MethodSource("nextColumnValueRows_rangePosition")
     void getNextColumnValue_rangePosition(ReportPageRow row,
@@ -203,7 +240,11 @@ class ReportPageTest {
                         cell("", 4),
                         cell(" ", 5),
                         cell("value1", 6),
-                        cell("value2", 7)), -1, 10, "value1"}};
+                        cell("value2", 7)), -1, 10, "value1"},
+                {getRow(0,
+                        cell("key", 2),
+                        cell(new StringBuilder(" "), 3),
+                        cell("value", 4)), -1, 10, "value"}};
     }
 
     @Test
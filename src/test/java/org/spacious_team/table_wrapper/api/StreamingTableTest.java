@@ -0,0 +1,273 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.ignoreCaseStringPrefixPredicateOnObject;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingTableTest {
+
+    final ReportPageRow[] rows = {
+            getRow(0, cell("Account", 0), cell("123", 1)),
+            null,
+            getRow(2, cell("Table 1", 0)),
+            getRow(3, cell("Header A", 0), cell("Header B", 1)),
+            getRow(4, cell("sub a", 1), cell("sub b", 2)),
+            getRow(5, cell("1", 0), cell(2, 1)),
+            null,
+            getRow(7, cell("Total", 0)),
+            getRow(8, cell("", 0)),
+            getRow(9, cell("Table 2", 1)),
+            getRow(10, cell("Header A", 1), cell("Header B", 2)),
+            getRow(11, cell(1, 1), cell(2, 2)),
+            getRow(12, cell(3, 1), cell(4, 2), cell(5, 3))};
+    @Mock
+    CellDataAccessObject<Object, ReportPageRow> dao;
+
+    @Test
+    void iterateTableEndedByLastRowPrefix() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class));
+
+        assertFalse(table.isEmpty());
+        assertEquals("Table 1", table.getTableName());
+        assertEquals(Map.of(TableHeader.A.getColumn(), 0, TableHeader.B.getColumn(), 1), table.getHeaderDescription());
+        assertEquals(List.of(5, 6, 7), getRowNums(table));
+    }
+
+    @Test
+    void iterateTableEndedByEmptyRow() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of("Table 1", 1, null, TableHeader.class, 2));
+
+        assertFalse(table.isEmpty());
+        assertEquals(List.of(5), getRowNums(table));
+    }
+
+    @Test
+    void iterateTableEndedByReportPageEnd() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of(ignoreCaseStringPrefixPredicateOnObject("table 2"), 1, null, TableHeader.class, 1));
+
+        assertEquals(Map.of(TableHeader.A.getColumn(), 1, TableHeader.B.getColumn(), 2), table.getHeaderDescription());
+        assertEquals(List.of(11, 12), getRowNums(table));
+    }
+
+    @Test
+    void iterateNamelessTable() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.ofNameless("nameless", "Header", "1", null, TableHeader.class));
+
+        assertEquals("nameless", table.getTableName());
+        assertEquals(List.of(5), getRowNums(table));
+    }
+
+    @Test
+    void sameRangeAsReportPageTable() {
+        List<TableSpec<?>> specs = List.of(
+                TableSpec.of("Table 1", 1, "1", "Total", NoHeader.class),
+                TableSpec.of("Table 1", 2, "1", null, NoHeader.class),
+                TableSpec.of("Table 1", 1, "", "Total", NoHeader.class),
+                TableSpec.of("Table 2", 1, null, NoHeader.class, 1),
+                TableSpec.ofNameless("nameless", "Header", null, NoHeader.class, 2),
+                TableSpec.ofNameless("nameless", "Header A", "", null, NoHeader.class));
+        TableSpecResolverTest.ReportPageTestImpl reportPage = new TableSpecResolverTest.ReportPageTestImpl(rows);
+        List<TableSpecResolver.TableSearch> searches = TableSpecResolver.resolve(reportPage, specs);
+        for (int i = 0; i < specs.size(); i++) {
+            TableSpecResolver.TableSearch search = searches.get(i);
+            TableCellRange range = search.getRange();
+            List<Integer> expectedRowNums = (range.equals(TableCellRange.EMPTY_RANGE)) ? List.of() :
+                    IntStream.rangeClosed(range.getFirstRow() + search.getHeaderRowsCount(), range.getLastRow())
+                            .boxed()
+                            .collect(Collectors.toList());
+            StreamingTable<ReportPageRow, Object> table = createTable(specs.get(i));
+            assertEquals(expectedRowNums.isEmpty(), table.isEmpty(), specs.get(i).toString());
+            assertEquals(expectedRowNums, getRowNums(table), specs.get(i).toString());
+        }
+    }
+
+    @Test
+    void lastRowNotFound() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of("Table 2", 0, "Account", NoHeader.class, 0));
+
+        assertEquals(List.of(9, 10, 11, 12), getRowNums(table));
+    }
+
+    @Test
+    void tableNotFound() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of("Table 3", 1, null, TableHeader.class, 1));
+
+        assertTrue(table.isEmpty());
+        assertEquals("Table 3", table.getTableName());
+        assertTrue(table.getHeaderDescription().isEmpty());
+        assertFalse(table.iterator().hasNext());
+    }
+
+    @Test
+    void iterateOnce() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class));
+
+        table.iterator();
+        assertThrows(IllegalStateException.class, table::iterator);
+    }
+
+    @Test
+    void getData() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class));
+
+        List<Integer> data = table.getData("report", TableRow::getRowNum);
+
+        assertEquals(List.of(5, 6, 7), data);
+    }
+
+    @Test
+    void readsReportPageLazily() {
+        ListStreamingReportPage reportPage = new ListStreamingReportPage(rows);
+        StreamingTable<ReportPageRow, Object> table = StreamingTable.of(reportPage,
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class), dao);
+        assertEquals(5, reportPage.getReadRowsCount());
+
+        Iterator<TableRow> it = table.iterator();
+        assertEquals(5, it.next().getRowNum());
+        assertEquals(5, reportPage.getReadRowsCount());
+        assertEquals(6, it.next().getRowNum());
+        assertEquals(6, reportPage.getReadRowsCount());
+    }
+
+    @Test
+    void randomAccessIsNotSupported() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class));
+
+        assertThrows(UnsupportedOperationException.class, table::getReportPage);
+        assertThrows(UnsupportedOperationException.class, () -> table.getRow(5));
+        assertThrows(UnsupportedOperationException.class, () -> table.findRow(1));
+        assertThrows(UnsupportedOperationException.class, () -> table.findRowByPrefix("1"));
+        assertThrows(UnsupportedOperationException.class, () -> table.subTable(1, 0));
+        assertThrows(UnsupportedOperationException.class, () -> table.getColumnReaders(TableHeader.class, 1));
+    }
+
+    @Test
+    void excludeLastRow() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class));
+
+        Table subTable = table.excludeLastRow();
+
+        assertFalse(subTable.isEmpty());
+        assertEquals(List.of(5, 6), getRowNums(subTable));
+        assertThrows(IllegalStateException.class, table::iterator);
+    }
+
+    @Test
+    void excludeFirstRow() {
+        StreamingTable<ReportPageRow, Object> table = createTable(
+                TableSpec.of(ignoreCaseStringPrefixPredicateOnObject("table 2"), 1, null, TableHeader.class, 1));
+
+        assertEquals(List.of(12), getRowNums(table.excludeFirstRow()));
+    }
+
+    @Test
+    void subTable() {
+        assertEquals(List.of(6), getRowNums(createTable(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class)).subTable(-1, -1)));
+        assertEquals(List.of(5, 6, 7, 8), getRowNums(createTable(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class)).subTable(0, 1)));
+        assertEquals(List.of(11, 12), getRowNums(createTable(
+                TableSpec.of("Table 2", 1, null, TableHeader.class, 1)).subTable(0, 1)));
+        assertTrue(createTable(TableSpec.of("Table 1", 1, null, TableHeader.class, 2))
+                .excludeLastRow()
+                .isEmpty());
+    }
+
+    private StreamingTable<ReportPageRow, Object> createTable(TableSpec<?> tableSpec) {
+        return StreamingTable.of(new ListStreamingReportPage(rows), tableSpec, dao);
+    }
+
+    private static List<Integer> getRowNums(Table table) {
+        return table.stream()
+                .map(Objects::requireNonNull)
+                .map(TableRow::getRowNum)
+                .collect(Collectors.toList());
+    }
+
+    @RequiredArgsConstructor
+    static class ListStreamingReportPage implements StreamingReportPage<ReportPageRow> {
+        private final Iterator<@Nullable ReportPageRow> iterator;
+        @Getter
+        private int readRowsCount = 0;
+
+        ListStreamingReportPage(@Nullable ReportPageRow[] rows) {
+            this(Arrays.asList(rows).iterator());
+        }
+
+        @Override
+        public @Nullable ReportPageRow nextRow() {
+            while (iterator.hasNext()) {
+                @Nullable ReportPageRow row = iterator.next();
+                if (row != null) {
+                    readRowsCount++;
+                    return row;
+                }
+            }
+            return null;
+        }
+    }
+
+    enum NoHeader implements TableHeaderColumn {
+        ;
+
+        @Override
+        public TableColumn getColumn() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        A(PatternTableColumn.of("header a")),
+        B(PatternTableColumn.of("header b"));
+
+        private final TableColumn column;
+    }
+}
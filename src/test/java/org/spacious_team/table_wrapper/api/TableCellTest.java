@@ -28,9 +28,11 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -229,4 +231,65 @@ class TableCellTest {
         assertSame(expectedDefault, result);
         verify(cell).getLocalDateTimeValue(expectedZone);
     }
-}
\ No newline at end of file
+
+    @Test
+    void tryGetIntValue() {
+        doReturn(1.5, "2", "x", null).when(cell).getValue();
+
+        assertEquals(OptionalInt.of(1), cell.tryGetIntValue());
+        assertEquals(OptionalInt.of(2), cell.tryGetIntValue());
+        assertEquals(OptionalInt.empty(), cell.tryGetIntValue());
+        assertEquals(OptionalInt.empty(), cell.tryGetIntValue());
+        verify(cell, never()).getLongValue();
+    }
+
+    @Test
+    void tryGetLongValue() {
+        Object other = new Object();
+        doReturn(1.5, "2 000", "1.5", null, other, other).when(cell).getValue();
+        doReturn(3L).doThrow(RuntimeException.class).when(cell).getLongValue();
+
+        assertEquals(OptionalLong.of(1), cell.tryGetLongValue());
+        assertEquals(OptionalLong.of(2000), cell.tryGetLongValue());
+        assertEquals(OptionalLong.empty(), cell.tryGetLongValue());
+        assertEquals(OptionalLong.empty(), cell.tryGetLongValue());
+        assertEquals(OptionalLong.of(3), cell.tryGetLongValue());
+        assertEquals(OptionalLong.empty(), cell.tryGetLongValue());
+    }
+
+    @Test
+    void tryGetDoubleValue() {
+        Object other = new Object();
+        doReturn(1, "2,5", "-", null, other, other).when(cell).getValue();
+        doReturn(3.0).doThrow(RuntimeException.class).when(cell).getDoubleValue();
+
+        assertEquals(OptionalDouble.of(1), cell.tryGetDoubleValue());
+        assertEquals(OptionalDouble.of(2.5), cell.tryGetDoubleValue());
+        assertEquals(OptionalDouble.empty(), cell.tryGetDoubleValue());
+        assertEquals(OptionalDouble.empty(), cell.tryGetDoubleValue());
+        assertEquals(OptionalDouble.of(3), cell.tryGetDoubleValue());
+        assertEquals(OptionalDouble.empty(), cell.tryGetDoubleValue());
+    }
+
+    @Test
+    void tryGetBigDecimalValue() {
+        Object other = new Object();
+        doReturn(1, "2,5", "-", null, other).when(cell).getValue();
+        doReturn(BigDecimal.TEN).when(cell).getBigDecimalValue();
+
+        assertEquals(BigDecimal.ONE, cell.tryGetBigDecimalValue());
+        assertEquals(new BigDecimal("2.5"), cell.tryGetBigDecimalValue());
+        assertNull(cell.tryGetBigDecimalValue());
+        assertNull(cell.tryGetBigDecimalValue());
+        assertEquals(BigDecimal.TEN, cell.tryGetBigDecimalValue());
+    }
+
+    @Test
+    void tryGetValueExceptionally() {
+        doThrow(RuntimeException.class).when(cell).getValue();
+
+        assertEquals(OptionalLong.empty(), cell.tryGetLongValue());
+        assertEquals(OptionalDouble.empty(), cell.tryGetDoubleValue());
+        assertNull(cell.tryGetBigDecimalValue());
+    }
+}
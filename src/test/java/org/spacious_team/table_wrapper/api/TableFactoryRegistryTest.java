@@ -27,8 +27,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TableFactoryRegistryTest {
@@ -101,4 +101,46 @@ class TableFactoryRegistryTest {
         TableFactoryRegistry.clear();
         assertTrue(TableFactoryRegistry.getAll().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getClassBasedFactory() {
+        TableFactory classBasedFactory = new TestTableFactory<>(ReportPage.class);
+        TableFactory instanceBasedFactory = new TestTableFactory<>(IndexedReportPage.class) {
+            @Override
+            public boolean canHandle(ReportPage reportPage) {
+                return reportPage == reportPage2;
+            }
+        };
+        TableFactoryRegistry.add(factory1);
+        TableFactoryRegistry.add(instanceBasedFactory);
+        TableFactoryRegistry.add(classBasedFactory);
+        TableFactoryRegistry.add(factory2);
+
+        assertSame(factory1, TableFactoryRegistry.get(reportPage1));
+        assertSame(instanceBasedFactory, TableFactoryRegistry.get(reportPage2));
+        assertSame(classBasedFactory, TableFactoryRegistry.get(reportPageOfNotRegisteredFactory));
+        assertSame(classBasedFactory, TableFactoryRegistry.get(reportPageOfNotRegisteredFactory));
+        verify(factory2, never()).canHandle(any());
+
+        assertTrue(TableFactoryRegistry.remove(classBasedFactory));
+
+        assertSame(instanceBasedFactory, TableFactoryRegistry.get(reportPage2));
+        assertThrows(IllegalArgumentException.class, () -> TableFactoryRegistry.get(reportPageOfNotRegisteredFactory));
+    }
+
+    static class TestTableFactory<P extends ReportPage> extends AbstractTableFactory<P> {
+
+        TestTableFactory(Class<P> reportPageType) {
+            super(reportPageType);
+        }
+
+        @Override
+        public <T extends Enum<T> & TableHeaderColumn> Table create(ReportPage reportPage,
+                                                                    String tableName,
+                                                                    TableCellRange tableRange,
+                                                                    Class<T> headerDescription,
+                                                                    int headerRowsCount) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
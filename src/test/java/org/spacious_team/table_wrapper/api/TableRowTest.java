@@ -28,11 +28,14 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TableRowTest {
@@ -163,4 +166,47 @@ class TableRowTest {
         when(row.getLocalDateTimeCellValue(any(), any())).thenThrow(RuntimeException.class);
         assertSame(expectedLocalDateTime, row.getLocalDateTimeCellValueOrDefault(column, ZoneOffset.UTC, expectedLocalDateTime));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCellOrNull() {
+        TableCell cell = ReportPageRowHelper.cell(1, 0);
+        TableHeaderColumn absentColumn = () -> TableColumn.NOCOLUMN;
+        mockHeaderDescription();
+        when(row.getCell(2)).thenReturn(cell);
+
+        assertSame(cell, row.getCellOrNull(column));
+        assertNull(row.getCellOrNull(absentColumn));
+        verify(row, never()).getCell(any(TableHeaderColumn.class));
+    }
+
+    @Test
+    void tryGetCellValue() {
+        TableCell cell = ReportPageRowHelper.cell("2,5", 0);
+        mockHeaderDescription();
+        when(row.getCell(2)).thenReturn(cell);
+
+        assertEquals(OptionalInt.empty(), row.tryGetIntCellValue(column));
+        assertEquals(OptionalLong.empty(), row.tryGetLongCellValue(column));
+        assertEquals(OptionalDouble.of(2.5), row.tryGetDoubleCellValue(column));
+        assertEquals(new BigDecimal("2.5"), row.tryGetBigDecimalCellValue(column));
+    }
+
+    @Test
+    void tryGetCellValueOfMissingCell() {
+        mockHeaderDescription();
+        when(row.getCell(2)).thenReturn(null);
+
+        assertEquals(OptionalInt.empty(), row.tryGetIntCellValue(column));
+        assertEquals(OptionalLong.empty(), row.tryGetLongCellValue(column));
+        assertEquals(OptionalDouble.empty(), row.tryGetDoubleCellValue(column));
+        assertNull(row.tryGetBigDecimalCellValue(column));
+    }
+
+    private void mockHeaderDescription() {
+        Table table = mock(Table.class);
+        TableColumn tableColumn = mock(TableColumn.class);
+        when(column.getColumn()).thenReturn(tableColumn);
+        when(table.getHeaderDescription()).thenReturn(Map.of(tableColumn, 2));
+        when(row.getTable()).thenReturn(table);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.cell;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
+import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.ignoreCaseStringPrefixPredicateOnObject;
+
+class TableSpecResolverTest {
+
+    final ReportPage reportPage = new ReportPageTestImpl(
+            getRow(0, cell("Account", 0), cell("123", 1)),
+            null,
+            getRow(2, cell("Table 1", 0)),
+            getRow(3, cell("Header A", 0), cell("Header B", 1)),
+            getRow(4, cell("sub a", 1), cell("sub b", 2)),
+            getRow(5, cell("1", 0), cell(2, 1)),
+            getRow(6, cell("3", 0), cell(4, 1)),
+            getRow(7, cell("Total", 0)),
+            getRow(8, cell("", 0)),
+            getRow(9, cell("Table 2", 1)),
+            getRow(10, cell("h1", 1), cell("h2", 2)),
+            getRow(11, cell(1, 1), cell(2, 2)),
+            getRow(12, cell(3, 1), cell(4, 2), cell(5, 3)),
+            getRow(13, cell("Table 3", 0)),
+            getRow(14, cell("h", 0)),
+            getRow(15, cell(1, 0)));
+    final Predicate<@Nullable Object> isNumber = value -> value instanceof Number;
+    final Predicate<@Nullable Object> isNumberString = value -> value instanceof String && ((String) value).matches("\\d+");
+
+    @Test
+    void createAll() {
+        List<TableSpec<?>> specs = List.of(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class),
+                TableSpec.of("Table 1", 2, "1", null, TableHeader.class),
+                TableSpec.of("Table 1", 3, "", null, TableHeader.class),
+                TableSpec.of("Table 2", 1, "", "Table 3", TableHeader.class),
+                TableSpec.of("Table 2", 1, null, TableHeader.class, 1),
+                TableSpec.of("Table 3", 1, "Total", TableHeader.class, 1),
+                TableSpec.of("Table 3", 2, null, TableHeader.class, 0),
+                TableSpec.of("Table 4", 1, null, TableHeader.class, 1),
+                TableSpec.of("", 1, null, TableHeader.class, 1),
+                TableSpec.of(ignoreCaseStringPrefixPredicateOnObject("table"), 1, isNumberString, null, TableHeader.class),
+                TableSpec.of(ignoreCaseStringPrefixPredicateOnObject("table 2"), 1, isNumber, isNumber, TableHeader.class),
+                TableSpec.of(ignoreCaseStringPrefixPredicateOnObject("table 3"), 1, isNumber, isNumberString, TableHeader.class),
+                TableSpec.of(ignoreCaseStringPrefixPredicateOnObject("table 3"), 1, null, TableHeader.class, 1),
+                TableSpec.of(ignoreCaseStringPrefixPredicateOnObject("table 2"), 0, isNumber, TableHeader.class, 0),
+                TableSpec.ofNameless("nameless", "Header", "1", "Total", TableHeader.class),
+                TableSpec.ofNameless("nameless", "h1", "", null, TableHeader.class),
+                TableSpec.ofNameless("nameless", "Header", null, TableHeader.class, 2),
+                TableSpec.ofNameless("nameless", "h", "Account", TableHeader.class, 1),
+                TableSpec.ofNameless("nameless", isNumber, isNumber, isNumber, TableHeader.class),
+                TableSpec.ofNameless("nameless", isNumber, isNumber, null, TableHeader.class),
+                TableSpec.ofNameless("nameless", isNumber, null, TableHeader.class, 1),
+                TableSpec.ofNameless("nameless", value -> false, null, TableHeader.class, 1));
+
+        RecordingTableFactory expectedFactory = new RecordingTableFactory();
+        expectedFactory.create(reportPage, "Table 1", 1, "1", "Total", TableHeader.class);
+        expectedFactory.create(reportPage, "Table 1", 2, "1", null, TableHeader.class);
+        expectedFactory.create(reportPage, "Table 1", 3, "", null, TableHeader.class);
+        expectedFactory.create(reportPage, "Table 2", 1, "", "Table 3", TableHeader.class);
+        expectedFactory.create(reportPage, "Table 2", 1, null, TableHeader.class, 1);
+        expectedFactory.create(reportPage, "Table 3", 1, "Total", TableHeader.class, 1);
+        expectedFactory.create(reportPage, "Table 3", 2, null, TableHeader.class, 0);
+        expectedFactory.create(reportPage, "Table 4", 1, null, TableHeader.class, 1);
+        expectedFactory.create(reportPage, "", 1, null, TableHeader.class, 1);
+        expectedFactory.create(reportPage, ignoreCaseStringPrefixPredicateOnObject("table"), 1, isNumberString, null, TableHeader.class);
+        expectedFactory.create(reportPage, ignoreCaseStringPrefixPredicateOnObject("table 2"), 1, isNumber, isNumber, TableHeader.class);
+        expectedFactory.create(reportPage, ignoreCaseStringPrefixPredicateOnObject("table 3"), 1, isNumber, isNumberString, TableHeader.class);
+        expectedFactory.create(reportPage, ignoreCaseStringPrefixPredicateOnObject("table 3"), 1, null, TableHeader.class, 1);
+        expectedFactory.create(reportPage, ignoreCaseStringPrefixPredicateOnObject("table 2"), 0, isNumber, TableHeader.class, 0);
+        expectedFactory.createNameless(reportPage, "nameless", "Header", "1", "Total", TableHeader.class);
+        expectedFactory.createNameless(reportPage, "nameless", "h1", "", null, TableHeader.class);
+        expectedFactory.createNameless(reportPage, "nameless", "Header", null, TableHeader.class, 2);
+        expectedFactory.createNameless(reportPage, "nameless", "h", "Account", TableHeader.class, 1);
+        expectedFactory.createNameless(reportPage, "nameless", isNumber, isNumber, isNumber, TableHeader.class);
+        expectedFactory.createNameless(reportPage, "nameless", isNumber, isNumber, null, TableHeader.class);
+        expectedFactory.createNameless(reportPage, "nameless", isNumber, null, TableHeader.class, 1);
+        expectedFactory.createNameless(reportPage, "nameless", value -> false, null, TableHeader.class, 1);
+
+        RecordingTableFactory factory = new RecordingTableFactory();
+        List<Table> tables = factory.createAll(reportPage, specs);
+
+        assertEquals(specs.size(), tables.size());
+        assertEquals(expectedFactory.tables, factory.tables);
+    }
+
+    @Test
+    void create() {
+        RecordingTableFactory expectedFactory = new RecordingTableFactory();
+        expectedFactory.create(reportPage, "Table 2", 1, "", "Table 3", TableHeader.class);
+        expectedFactory.createNameless(reportPage, "nameless", "h", "Account", TableHeader.class, 1);
+
+        RecordingTableFactory factory = new RecordingTableFactory();
+        factory.create(reportPage, TableSpec.of("Table 2", 1, "", "Table 3", TableHeader.class));
+        factory.create(reportPage, TableSpec.ofNameless("nameless", "h", "Account", TableHeader.class, 1));
+
+        assertEquals(expectedFactory.tables, factory.tables);
+    }
+
+    @Test
+    void createAll_readsEachRowOnce() {
+        ReportPage spiedReportPage = spy(reportPage);
+        List<TableSpec<?>> specs = List.of(
+                TableSpec.of("Table 1", 1, "1", "Total", TableHeader.class),
+                TableSpec.of("Table 2", 1, "", null, TableHeader.class),
+                TableSpec.of("Table 3", 1, null, TableHeader.class, 1));
+
+        new RecordingTableFactory().createAll(spiedReportPage, specs);
+
+        for (int i = 0; i <= reportPage.getLastRowNum(); i++) {
+            verify(spiedReportPage, atMost(1)).getRow(i);
+        }
+    }
+
+    @Test
+    void createTables() {
+        TableFactory tableFactory = mock(TableFactory.class);
+        List<TableSpec<?>> specs = List.of(TableSpec.of("Table 1", 1, null, TableHeader.class, 1));
+        ReportPage spiedReportPage = spy(reportPage);
+        when(tableFactory.canHandle(spiedReportPage)).thenReturn(true);
+        TableFactoryRegistry.add(tableFactory);
+        try {
+            spiedReportPage.createTables(specs);
+            verify(tableFactory).createAll(spiedReportPage, specs);
+        } finally {
+            TableFactoryRegistry.remove(tableFactory);
+        }
+    }
+
+    static class RecordingTableFactory implements TableFactory {
+        final List<String> tables = new ArrayList<>();
+
+        @Override
+        public boolean canHandle(ReportPage reportPage) {
+            return true;
+        }
+
+        @Override
+        public <T extends Enum<T> & TableHeaderColumn> Table create(ReportPage reportPage,
+                                                                    String tableName,
+                                                                    TableCellRange tableRange,
+                                                                    Class<T> headerDescription,
+                                                                    int headerRowsCount) {
+            tables.add(tableName + ", " + tableRange + ", header rows " + headerRowsCount);
+            return mock(Table.class);
+        }
+    }
+
+    static class ReportPageTestImpl implements ReportPage {
+        private final @Nullable ReportPageRow[] rows;
+
+        ReportPageTestImpl(@Nullable ReportPageRow... rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+            return find(startRow, endRow, startColumn, endColumn, value::equals);
+        }
+
+        @Override
+        public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                     Predicate<@Nullable Object> cellValuePredicate) {
+            for (int i = Math.max(0, startRow), n = Math.min(endRow, rows.length); i < n; i++) {
+                @Nullable ReportPageRow row = rows[i];
+                if (row != null) {
+                    for (@Nullable TableCell cell : row) {
+                        if (cell != null
+                                && cell.getColumnIndex() >= startColumn
+                                && cell.getColumnIndex() < endColumn
+                                && cellValuePredicate.test(cell.getValue())) {
+                            return TableCellAddress.of(i, cell.getColumnIndex());
+                        }
+                    }
+                }
+            }
+            return TableCellAddress.NOT_FOUND;
+        }
+
+        @Override
+        public @Nullable ReportPageRow getRow(int i) {
+            return (i >= 0 && i < rows.length) ? rows[i] : null;
+        }
+
+        @Override
+        public int getLastRowNum() {
+            return rows.length - 1;
+        }
+    }
+
+    enum TableHeader implements TableHeaderColumn {
+        ;
+
+        @Override
+        public TableColumn getColumn() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
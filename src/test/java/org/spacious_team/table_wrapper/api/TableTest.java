@@ -20,20 +20,34 @@ package org.spacious_team.table_wrapper.api;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TableTest {
 
     @Spy
     Table table;
+    @Mock
+    TableRow row;
 
     @Test
     void getData() {
@@ -49,6 +63,62 @@ class TableTest {
         verify(table).getDataCollection("unknown", rowExtractor);
     }
 
+    @Test
+    void getDataCollectionByKey() {
+        Function<TableRow, Collection<Object>> rowExtractor = x -> Set.of();
+        when(table.getDataCollection("report", rowExtractor)).thenReturn(List.of("a1", "b1", "a2"));
+
+        List<Object> result = table.getDataCollectionByKey("report", rowExtractor,
+                o -> o.toString().charAt(0), (a, b) -> List.of(a.toString() + b));
+
+        assertEquals(List.of("b1", "a1a2"), result);
+    }
+
+    @Test
+    void getIntColumn() {
+        TableHeaderColumn column = () -> TableColumn.LEFTMOST_COLUMN;
+        when(row.tryGetIntCellValue(column)).thenReturn(OptionalInt.of(1)).thenReturn(OptionalInt.empty());
+        when(table.iterator()).thenReturn(Arrays.asList(row, null, row).iterator());
+        BitSet invalidRows = new BitSet();
+
+        int[] result = table.getIntColumn(column, invalidRows);
+
+        assertArrayEquals(new int[]{1, 0, 0}, result);
+        assertEquals(BitSet.valueOf(new long[]{0b110}), invalidRows);
+    }
+
+    @Test
+    void getLongColumn() {
+        TableHeaderColumn column = () -> TableColumn.LEFTMOST_COLUMN;
+        when(row.tryGetLongCellValue(column)).thenReturn(OptionalLong.of(1)).thenReturn(OptionalLong.empty());
+        when(table.iterator()).thenReturn(Arrays.asList(row, null, row).iterator());
+        BitSet invalidRows = new BitSet();
+
+        long[] result = table.getLongColumn(column, invalidRows);
+
+        assertArrayEquals(new long[]{1, 0, 0}, result);
+        assertEquals(BitSet.valueOf(new long[]{0b110}), invalidRows);
+    }
+
+    @Test
+    void getDoubleColumn() {
+        TableHeaderColumn column = () -> TableColumn.LEFTMOST_COLUMN;
+        TableRow[] rows = new TableRow[20];
+        Arrays.fill(rows, row);
+        rows[17] = null;
+        when(row.tryGetDoubleCellValue(column)).thenReturn(OptionalDouble.of(1.5));
+        when(table.iterator()).thenReturn(Arrays.asList(rows).iterator());
+        BitSet invalidRows = new BitSet();
+        invalidRows.set(0);
+
+        double[] result = table.getDoubleColumn(column, invalidRows);
+
+        assertEquals(20, result.length);
+        assertEquals(1.5, result[0]);
+        assertEquals(0, result[17]);
+        assertEquals(BitSet.valueOf(new long[]{1 << 17}), invalidRows);
+    }
+
     @Test
     void excludeFirstRow() {
         table.excludeFirstRow();
@@ -60,4 +130,23 @@ class TableTest {
         table.excludeLastRow();
         verify(table).subTable(0, -1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getDataWithErrorSink() {
+        TableRow row2 = mock(TableRow.class);
+        when(row.getRowNum()).thenReturn(1);
+        when(row2.getRowNum()).thenReturn(2);
+        when(table.iterator()).thenReturn(Arrays.asList(row, null, row2).iterator());
+        List<String> errors = new ArrayList<>();
+
+        List<Integer> result = table.getData("report", r -> {
+            if (r.getRowNum() == 2) {
+                throw new IllegalArgumentException("bad row");
+            }
+            return r.getRowNum();
+        }, (rowNum, column, reason) -> errors.add(rowNum + ": " + reason));
+
+        assertEquals(List.of(1), result);
+        assertEquals(List.of("2: java.lang.IllegalArgumentException: bad row"), errors);
+    }
+}